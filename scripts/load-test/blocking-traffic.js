@@ -0,0 +1,72 @@
+// k6 load test: blocking-heavy traffic (JDBC reads on every request, sign-ups with BCrypt and
+// the geolocation lookup) at a fixed arrival rate, so a saturated thread pool shows up as
+// dropped iterations and a higher p99 instead of a lower request rate.
+//
+// Environment:
+//   BASE_URL      application URL (default http://localhost:8080)
+//   RATE          requests started per second (default 400)
+//   DURATION      measured duration (default 2m)
+//   SIGN_UP_IP    X-Forwarded-For sent on sign-up; a public IP makes every sign-up block on the
+//                 external geolocation API (default 127.0.0.1, resolved locally)
+import http from 'k6/http';
+import { check } from 'k6';
+import exec from 'k6/execution';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const SIGN_UP_IP = __ENV.SIGN_UP_IP || '127.0.0.1';
+
+export const options = {
+    scenarios: {
+        blocking: {
+            executor: 'constant-arrival-rate',
+            rate: Number(__ENV.RATE || 400),
+            timeUnit: '1s',
+            duration: __ENV.DURATION || '2m',
+            preAllocatedVUs: 200,
+            maxVUs: 2000,
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+function signUp(suffix) {
+    const body = JSON.stringify({
+        userName: `load-${suffix}`,
+        email: `load-${suffix}@example.com`,
+        phoneNumber: '+51987654321',
+        identificator: String(10000000 + Math.floor(Math.random() * 89999999)),
+        password: 'load-test',
+    });
+    return http.post(`${BASE_URL}/api/v1/users/sign-up`, body, {
+        headers: { 'Content-Type': 'application/json', 'X-Forwarded-For': SIGN_UP_IP },
+        tags: { name: 'sign-up' },
+    });
+}
+
+export function setup() {
+    const suffix = `setup-${Date.now()}`;
+    signUp(suffix);
+    const signIn = http.post(`${BASE_URL}/api/v1/users/sign-in`,
+        JSON.stringify({ email: `load-${suffix}@example.com`, password: 'load-test' }),
+        { headers: { 'Content-Type': 'application/json' } });
+    check(signIn, { 'signed in': (r) => r.status === 200 });
+    return { userId: signIn.json('id'), token: signIn.json('token') };
+}
+
+export default function (data) {
+    const params = { headers: { Authorization: `Bearer ${data.token}` } };
+    const pick = exec.scenario.iterationInTest % 10;
+    let response;
+    if (pick === 0) {
+        response = signUp(`${Date.now()}-${exec.vu.idInTest}-${exec.vu.iterationInScenario}`);
+    } else if (pick < 4) {
+        response = http.get(`${BASE_URL}/api/v1/fields/user/${data.userId}`, { ...params, tags: { name: 'fields' } });
+    } else if (pick < 7) {
+        response = http.get(`${BASE_URL}/api/v1/tasks`, { ...params, tags: { name: 'tasks' } });
+    } else if (pick < 9) {
+        response = http.get(`${BASE_URL}/api/v1/community-recommendations`, { ...params, tags: { name: 'community' } });
+    } else {
+        response = http.get(`${BASE_URL}/api/v1/users/${data.userId}`, { ...params, tags: { name: 'user' } });
+    }
+    check(response, { 'not a server error': (r) => r.status > 0 && r.status < 500 });
+}
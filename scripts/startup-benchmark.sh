@@ -0,0 +1,90 @@
+#!/bin/sh
+# Startup benchmark: time to first HTTP response of the container image, with and without
+# the AOT cache and Spring AOT (same image, same jar; the baseline overrides the entrypoint
+# with the plain "java -jar" start).
+#
+# Usage: scripts/startup-benchmark.sh [runs]
+# Environment:
+#   IMAGE         image to build and measure (default agroapp:startup-benchmark)
+#   MYSQL_URL, MYSQLUSER, MYSQLPASSWORD
+#                 database reachable from the container; when MYSQL_URL is not set a
+#                 temporary MySQL container is started on a private network
+#   MAX_WAIT      seconds to wait for the database or the app before failing (default 120)
+set -eu
+
+RUNS=${1:-5}
+IMAGE=${IMAGE:-agroapp:startup-benchmark}
+NETWORK=agroapp-startup-benchmark
+PORT=18080
+MAX_WAIT=${MAX_WAIT:-120}
+
+cd "$(dirname "$0")/.."
+docker build -q -t "$IMAGE" . > /dev/null
+
+cleanup() {
+    docker rm -f agroapp-startup-benchmark-app > /dev/null 2>&1 || true
+    if [ -z "${MYSQL_URL_PROVIDED:-}" ]; then
+        docker rm -f agroapp-startup-benchmark-db > /dev/null 2>&1 || true
+        docker network rm "$NETWORK" > /dev/null 2>&1 || true
+    fi
+}
+trap cleanup EXIT
+
+# Fails with the logs of the given container once MAX_WAIT seconds have passed since $1
+check_deadline() {
+    if [ $(( $(date +%s) - $1 )) -ge "$MAX_WAIT" ]; then
+        echo "$2 did not start within $MAX_WAIT s:" >&2
+        docker logs "$2" >&2 || true
+        exit 1
+    fi
+}
+
+if [ -n "${MYSQL_URL:-}" ]; then
+    MYSQL_URL_PROVIDED=1
+    # Host networking ignores port mappings, so the app itself listens on $PORT
+    NETWORK=host
+    PORT_OPTIONS="-e SERVER_PORT=$PORT"
+else
+    PORT_OPTIONS="-p $PORT:8080"
+    docker network create "$NETWORK" > /dev/null
+    docker run -d --name agroapp-startup-benchmark-db --network "$NETWORK" \
+        -e MYSQL_ROOT_PASSWORD=admin -e MYSQL_DATABASE=agroapp_db mysql:8.4 > /dev/null
+    started=$(date +%s)
+    until docker exec agroapp-startup-benchmark-db mysqladmin ping -h 127.0.0.1 -padmin --silent > /dev/null 2>&1; do
+        check_deadline "$started" agroapp-startup-benchmark-db
+        sleep 1
+    done
+    MYSQL_URL="jdbc:mysql://agroapp-startup-benchmark-db:3306/agroapp_db?useSSL=false&allowPublicKeyRetrieval=true"
+    MYSQLUSER=root
+    MYSQLPASSWORD=admin
+fi
+
+# Prints the milliseconds between "docker run" and the first HTTP response (any status)
+measure() {
+    start=$(date +%s%N)
+    # shellcheck disable=SC2086 # PORT_OPTIONS is two words
+    docker run -d --name agroapp-startup-benchmark-app --network "$NETWORK" $PORT_OPTIONS \
+        -e MYSQL_URL="$MYSQL_URL" -e MYSQLUSER="${MYSQLUSER:-root}" -e MYSQLPASSWORD="${MYSQLPASSWORD:-admin}" \
+        "$@" > /dev/null
+    until [ "$(curl -s -o /dev/null -w '%{http_code}' "http://localhost:$PORT/actuator/health" || true)" != "000" ]; do
+        check_deadline $((start / 1000000000)) agroapp-startup-benchmark-app
+        sleep 0.05
+    done
+    end=$(date +%s%N)
+    docker rm -f agroapp-startup-benchmark-app > /dev/null
+    echo $(( (end - start) / 1000000 ))
+}
+
+for mode in baseline optimized; do
+    total=0
+    for run in $(seq "$RUNS"); do
+        if [ "$mode" = baseline ]; then
+            ms=$(measure --entrypoint java "$IMAGE" -jar app.jar)
+        else
+            ms=$(measure "$IMAGE")
+        fi
+        total=$((total + ms))
+        echo "$mode run $run: ${ms} ms"
+    done
+    echo "$mode average: $((total / RUNS)) ms"
+done
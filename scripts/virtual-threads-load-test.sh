@@ -0,0 +1,44 @@
+#!/bin/sh
+# Compares throughput and p99 latency of the two request execution modes (platform thread pool
+# vs virtual threads) under the blocking-heavy k6 scenario in scripts/load-test.
+# Each mode is a separate image, since Spring AOT fixes the threading mode at build time.
+#
+# Usage: scripts/virtual-threads-load-test.sh
+# Environment: RATE, DURATION, SIGN_UP_IP (see blocking-traffic.js), DB_POOL_SIZE (default 20)
+set -eu
+
+NETWORK=agroapp-load-test
+cd "$(dirname "$0")/.."
+
+cleanup() {
+    docker rm -f agroapp-load-test-app agroapp-load-test-db > /dev/null 2>&1 || true
+    docker network rm "$NETWORK" > /dev/null 2>&1 || true
+}
+trap cleanup EXIT
+
+docker network create "$NETWORK" > /dev/null
+docker run -d --name agroapp-load-test-db --network "$NETWORK" \
+    -e MYSQL_ROOT_PASSWORD=admin -e MYSQL_DATABASE=agroapp_db mysql:8.4 > /dev/null
+until docker exec agroapp-load-test-db mysqladmin ping -h 127.0.0.1 -padmin --silent > /dev/null 2>&1; do
+    sleep 1
+done
+
+for virtual in false true; do
+    image="agroapp:load-test-virtual-$virtual"
+    docker build -q --build-arg VIRTUAL_THREADS="$virtual" -t "$image" . > /dev/null
+    docker run -d --name agroapp-load-test-app --network "$NETWORK" \
+        -e MYSQL_URL="jdbc:mysql://agroapp-load-test-db:3306/agroapp_db?useSSL=false&allowPublicKeyRetrieval=true" \
+        -e MYSQLUSER=root -e MYSQLPASSWORD=admin -e DB_POOL_SIZE="${DB_POOL_SIZE:-20}" \
+        "$image" > /dev/null
+    until docker exec agroapp-load-test-app wget -q -O /dev/null http://localhost:8080/actuator/health 2> /dev/null; do
+        sleep 1
+    done
+
+    echo "=== VIRTUAL_THREADS=$virtual ==="
+    docker run --rm --network "$NETWORK" -v "$PWD/scripts/load-test:/scripts:ro" \
+        -e BASE_URL=http://agroapp-load-test-app:8080 \
+        -e RATE="${RATE:-400}" -e DURATION="${DURATION:-2m}" -e SIGN_UP_IP="${SIGN_UP_IP:-127.0.0.1}" \
+        grafana/k6 run --quiet /scripts/blocking-traffic.js \
+        | grep -E "http_reqs|http_req_duration|dropped_iterations|checks"
+    docker rm -f agroapp-load-test-app > /dev/null
+done
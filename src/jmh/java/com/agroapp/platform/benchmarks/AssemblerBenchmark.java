@@ -0,0 +1,70 @@
+package com.agroapp.platform.benchmarks;
+
+import com.agroapp.platform.iam.domain.model.aggregates.User;
+import com.agroapp.platform.iam.interfaces.rest.resources.UserResource;
+import com.agroapp.platform.iam.interfaces.rest.transform.UserResourceFromEntityAssembler;
+import com.agroapp.platform.plants.domain.model.aggregates.Field;
+import com.agroapp.platform.plants.domain.model.aggregates.Task;
+import com.agroapp.platform.plants.interfaces.rest.resources.FieldResource;
+import com.agroapp.platform.plants.interfaces.rest.resources.TaskResource;
+import com.agroapp.platform.plants.interfaces.rest.transform.FieldResourceFromEntityAssembler;
+import com.agroapp.platform.plants.interfaces.rest.transform.TaskResourceFromEntityAssembler;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to resource mappers on the read path, including the Date to LocalDateTime conversion
+ * (through the system time zone) done for the audit timestamps.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AssemblerBenchmark {
+
+    private Field field;
+    private Task task;
+    private User user;
+    private final List<Long> taskIds = List.of(1L, 2L, 3L, 4L, 5L);
+
+    @Setup
+    public void setUp() {
+        field = BenchmarkFixtures.field(1L);
+        task = auditable(new Task(1L, "Water the tomatoes", LocalDateTime.now().plusDays(2)), 10L);
+        user = auditable(new User("Maria Quispe", "maria.quispe@agroapp.com", "s3cret", "+51987654321", "12345678", "Cusco"), 7L);
+    }
+
+    @Benchmark
+    public FieldResource field() {
+        return FieldResourceFromEntityAssembler.toResourceFromEntity(field, 1L, 1L, taskIds);
+    }
+
+    @Benchmark
+    public TaskResource task() {
+        return TaskResourceFromEntityAssembler.toResourceFromEntity(task);
+    }
+
+    @Benchmark
+    public UserResource user() {
+        return UserResourceFromEntityAssembler.toResourceFromEntity(user);
+    }
+
+    @Benchmark
+    public LocalDateTime dateToLocalDateTime() {
+        return field.getCreatedAt().toInstant().atZone(java.time.ZoneId.systemDefault()).toLocalDateTime();
+    }
+
+    private static <T> T auditable(T entity, Long id) {
+        ReflectionTestUtils.setField(entity, "id", id);
+        ReflectionTestUtils.setField(entity, "createdAt", new Date());
+        ReflectionTestUtils.setField(entity, "updatedAt", new Date());
+        return entity;
+    }
+}
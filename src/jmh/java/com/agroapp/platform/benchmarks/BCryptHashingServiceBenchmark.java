@@ -0,0 +1,37 @@
+package com.agroapp.platform.benchmarks;
+
+import com.agroapp.platform.iam.infrastructure.hashing.bcrypt.BCryptHashingService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Password verification at several BCrypt cost factors (10 is the PasswordEncoder default used by sign-in).
+ * Each extra cost step doubles the work, so this shows what a cost change does to sign-in latency.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BCryptHashingServiceBenchmark {
+
+    @Param({"8", "10", "12"})
+    public int cost;
+
+    private BCryptHashingService hashingService;
+    private String encodedPassword;
+
+    @Setup
+    public void setUp() {
+        hashingService = new BCryptHashingService(new BCryptPasswordEncoder(cost));
+        encodedPassword = hashingService.encode("s3cret-password");
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return hashingService.matches("s3cret-password", encodedPassword);
+    }
+}
@@ -0,0 +1,33 @@
+package com.agroapp.platform.benchmarks;
+
+import com.agroapp.platform.plants.domain.model.aggregates.Field;
+import com.agroapp.platform.plants.interfaces.rest.resources.FieldResource;
+import com.agroapp.platform.plants.interfaces.rest.transform.FieldResourceFromEntityAssembler;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Date;
+import java.util.List;
+import java.util.stream.LongStream;
+
+/**
+ * Sample data shared by the benchmarks. Audit fields are set by reflection, as JPA auditing would.
+ */
+final class BenchmarkFixtures {
+
+    private BenchmarkFixtures() {
+    }
+
+    static Field field(Long id) {
+        Field field = new Field(1L, "/uploads/3f2b8c1e-7a4d-4e7b-9a51-0c1d2e3f4a5b.jpg", "North plot " + id, "Cusco", "2.5 ha");
+        ReflectionTestUtils.setField(field, "id", id);
+        ReflectionTestUtils.setField(field, "createdAt", new Date());
+        ReflectionTestUtils.setField(field, "updatedAt", new Date());
+        return field;
+    }
+
+    static List<FieldResource> fieldResources(int count) {
+        return LongStream.rangeClosed(1, count)
+                .mapToObj(id -> FieldResourceFromEntityAssembler.toResourceFromEntity(field(id), id, id, List.of(id * 10, id * 10 + 1)))
+                .toList();
+    }
+}
@@ -0,0 +1,62 @@
+package com.agroapp.platform.benchmarks;
+
+import com.agroapp.platform.analytics.domain.model.valueobjects.AnalyticsDimension;
+import com.agroapp.platform.analytics.domain.model.valueobjects.CropFieldStatistics;
+import com.agroapp.platform.analytics.infrastructure.cube.CropFieldCube;
+import com.agroapp.platform.plants.domain.model.valueobjects.CropFieldStatus;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.EnumSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Analytics queries over a snapshot of one million crop fields (40 crops, 25 regions, 50,000 owners).
+ * Measured for a filtered count ("tomato fields in Cusco that are Critical") and for a full
+ * group-by over every dimension.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class CropFieldCubeBenchmark {
+
+    private static final int CROP_FIELDS = 1_000_000;
+    private static final int OWNERS = 50_000;
+
+    private final CropFieldCube cube = new CropFieldCube();
+    private final LocalDate today = LocalDate.now();
+
+    @Setup
+    public void setUp() {
+        var random = new Random(42);
+        for (long owner = 0; owner < OWNERS; owner++) {
+            cube.updateOwnerRegion(owner, "Region " + random.nextInt(25));
+        }
+        CropFieldStatus[] statuses = CropFieldStatus.values();
+        LocalDateTime now = LocalDateTime.now();
+        Date changedAt = new Date();
+        for (long id = 1; id <= CROP_FIELDS; id++) {
+            String crop = id % 10 == 0 ? "Tomato" : "Crop " + random.nextInt(40);
+            cube.upsert(id, (long) random.nextInt(OWNERS), crop, statuses[random.nextInt(statuses.length)], changedAt,
+                    now.minusDays(random.nextInt(30)), now.minusDays(random.nextInt(90)), now.minusDays(random.nextInt(120)));
+        }
+        cube.markRefreshed(changedAt);
+    }
+
+    @Benchmark
+    public CropFieldStatistics filteredCount() {
+        return cube.query(Set.of(), Set.of("tomato"), Set.of("Region 7"), EnumSet.of(CropFieldStatus.Critical), null, today);
+    }
+
+    @Benchmark
+    public CropFieldStatistics groupByAllDimensions() {
+        return cube.query(EnumSet.allOf(AnalyticsDimension.class), Set.of(), Set.of(), Set.of(), null, today);
+    }
+}
@@ -0,0 +1,37 @@
+package com.agroapp.platform.benchmarks;
+
+import com.agroapp.platform.plants.interfaces.rest.resources.FieldResource;
+import org.openjdk.jmh.annotations.*;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON serialization of FieldResource lists, as returned by GET /api/v1/fields/user/{userId},
+ * with the Jackson 3 mapper Spring MVC uses.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FieldResourceSerializationBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int size;
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+    private List<FieldResource> fieldResources;
+
+    @Setup
+    public void setUp() {
+        fieldResources = BenchmarkFixtures.fieldResources(size);
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return jsonMapper.writeValueAsBytes(fieldResources);
+    }
+}
@@ -0,0 +1,46 @@
+package com.agroapp.platform.benchmarks;
+
+import com.agroapp.platform.iam.infrastructure.tokens.jwt.JwtTokenService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token generation and validation, run on every sign-in and on every authenticated request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtTokenServiceBenchmark {
+
+    private JwtTokenService tokenService;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        tokenService = new JwtTokenService();
+        ReflectionTestUtils.setField(tokenService, "secret",
+                "MyVerySecureSecretKeyForJWTTokenSigningThatMustBeAtLeast256BitsLongForHS256Algorithm2025");
+        ReflectionTestUtils.setField(tokenService, "expirationDays", 7);
+        token = tokenService.generateToken("farmer@agroapp.com");
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return tokenService.generateToken("farmer@agroapp.com");
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return tokenService.validateToken(token);
+    }
+
+    @Benchmark
+    public String getUsernameFromToken() {
+        return tokenService.getUsernameFromToken(token);
+    }
+}
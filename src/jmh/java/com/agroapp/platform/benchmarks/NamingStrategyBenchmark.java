@@ -0,0 +1,34 @@
+package com.agroapp.platform.benchmarks;
+
+import com.agroapp.platform.shared.infrastructure.persistence.jpa.configuration.strategy.SnakeCaseWithPluralizedTablePhysicalNamingStrategy;
+import org.hibernate.boot.model.naming.Identifier;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Physical naming strategy: pluralization and snake_case conversion of table and column names.
+ * Runs for every entity and attribute while the persistence unit starts.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NamingStrategyBenchmark {
+
+    private final SnakeCaseWithPluralizedTablePhysicalNamingStrategy strategy = new SnakeCaseWithPluralizedTablePhysicalNamingStrategy();
+    private final Identifier tableName = Identifier.toIdentifier("CommunityRecommendation");
+    private final Identifier columnName = Identifier.toIdentifier("progressHistoryId");
+
+    @Benchmark
+    public Identifier tableName() {
+        return strategy.toPhysicalTableName(tableName, null);
+    }
+
+    @Benchmark
+    public Identifier columnName() {
+        return strategy.toPhysicalColumnName(columnName, null);
+    }
+}
@@ -0,0 +1,45 @@
+package com.agroapp.platform.benchmarks;
+
+import com.agroapp.platform.shared.infrastructure.ratelimiting.TokenBucketRateLimiter;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rate limiter check, run before every sign-in, sign-up and upload.
+ * Measured for a client with tokens left, a client that is rejected, and many threads
+ * checking the same client at once.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RateLimiterBenchmark {
+
+    private final TokenBucketRateLimiter allowingLimiter = new TokenBucketRateLimiter(Integer.MAX_VALUE, Duration.ofNanos(1));
+    private final TokenBucketRateLimiter rejectingLimiter = new TokenBucketRateLimiter(1, Duration.ofDays(1));
+
+    @Setup
+    public void setUp() {
+        rejectingLimiter.tryAcquire("203.0.113.7");
+    }
+
+    @Benchmark
+    public long allowed() {
+        return allowingLimiter.tryAcquire("203.0.113.7");
+    }
+
+    @Benchmark
+    public long rejected() {
+        return rejectingLimiter.tryAcquire("203.0.113.7");
+    }
+
+    @Benchmark
+    @Threads(4)
+    public long allowedContended() {
+        return allowingLimiter.tryAcquire("203.0.113.7");
+    }
+}
@@ -0,0 +1,54 @@
+package com.agroapp.platform.benchmarks;
+
+import com.agroapp.platform.iam.domain.model.aggregates.User;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Validation in the User aggregate: the constructor and updateProfile check email and DNI with
+ * String.matches, which compiles the regular expression on every call.
+ * The precompiled benchmark is the baseline for the same check with a cached Pattern.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserValidationBenchmark {
+
+    private static final Pattern EMAIL = Pattern.compile("^[A-Za-z0-9+_.-]+@(.+)$");
+
+    private User user;
+
+    @Setup
+    public void setUp() {
+        user = newUser();
+    }
+
+    @Benchmark
+    public User constructor() {
+        return newUser();
+    }
+
+    @Benchmark
+    public User updateProfile() {
+        return user.updateProfile("Maria Quispe", "maria.quispe@agroapp.com", "+51987654321", true);
+    }
+
+    @Benchmark
+    public boolean emailStringMatches() {
+        return "maria.quispe@agroapp.com".matches("^[A-Za-z0-9+_.-]+@(.+)$");
+    }
+
+    @Benchmark
+    public boolean emailPrecompiledPattern() {
+        return EMAIL.matcher("maria.quispe@agroapp.com").matches();
+    }
+
+    private static User newUser() {
+        return new User("Maria Quispe", "maria.quispe@agroapp.com", "s3cret", "+51987654321", "12345678", "Cusco");
+    }
+}
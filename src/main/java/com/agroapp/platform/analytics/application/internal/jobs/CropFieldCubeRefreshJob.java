@@ -0,0 +1,115 @@
+package com.agroapp.platform.analytics.application.internal.jobs;
+
+import com.agroapp.platform.analytics.domain.model.projections.CropFieldFact;
+import com.agroapp.platform.analytics.domain.model.projections.OwnerLocation;
+import com.agroapp.platform.analytics.domain.model.projections.ProgressFact;
+import com.agroapp.platform.analytics.infrastructure.cube.CropFieldCube;
+import com.agroapp.platform.analytics.infrastructure.persistence.jpa.repositories.AnalyticsSourceRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.stream.Stream;
+
+/**
+ * Background job that keeps the analytics crop field snapshot up to date.
+ * The first run loads every crop field; later runs only apply the users, crop fields and progress
+ * histories updated, and the crop fields deleted, since the previous cursor. Like the sync cursor,
+ * the cursor trails the time of the reads by an overlap, so rows committed late (or replicated late)
+ * are not missed; rows inside the overlap are applied twice, which is harmless.
+ * The region of a crop field is the region of its owner's location, left empty when the owner keeps it private.
+ * Reads run in a read-only transaction, so they go to the replica when one is configured.
+ * The snapshot size is published as {@code analytics.crop.fields} and every refresh is timed in
+ * {@code analytics.refresh}.
+ */
+@Component
+public class CropFieldCubeRefreshJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(CropFieldCubeRefreshJob.class);
+
+    private final AnalyticsSourceRepository analyticsSourceRepository;
+    private final CropFieldCube cropFieldCube;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration cursorOverlap;
+    private final Timer refreshTimer;
+
+    private Date cursor = new Date(0);
+
+    public CropFieldCubeRefreshJob(AnalyticsSourceRepository analyticsSourceRepository,
+                                   CropFieldCube cropFieldCube,
+                                   PlatformTransactionManager transactionManager,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${analytics.refresh.cursor-overlap:PT10S}") Duration cursorOverlap) {
+        this.analyticsSourceRepository = analyticsSourceRepository;
+        this.cropFieldCube = cropFieldCube;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.cursorOverlap = cursorOverlap;
+        Gauge.builder("analytics.crop.fields", cropFieldCube, CropFieldCube::size)
+                .description("Crop fields in the analytics snapshot")
+                .register(meterRegistry);
+        this.refreshTimer = Timer.builder("analytics.refresh")
+                .description("Time to apply the changes since the previous analytics refresh")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Applies the changes since the previous run to the snapshot.
+     */
+    @Scheduled(initialDelayString = "${analytics.refresh.initial-delay:PT10S}",
+            fixedDelayString = "${analytics.refresh.delay:PT30S}")
+    public void refresh() {
+        // Taken before reading, so nothing committed after the reads can fall behind the cursor
+        Date nextCursor = new Date(System.currentTimeMillis() - cursorOverlap.toMillis());
+        Date since = cursor;
+        try {
+            refreshTimer.record(() -> transactionTemplate.executeWithoutResult(status -> applyChangesSince(since)));
+        } catch (RuntimeException ex) {
+            logger.error("Analytics refresh failed, it will be retried: {}", ex.getMessage());
+            return;
+        }
+        if (cropFieldCube.getRefreshedAt().isEmpty()) {
+            logger.info("Analytics snapshot loaded with {} crop fields", cropFieldCube.size());
+        }
+        cursor = nextCursor;
+        cropFieldCube.markRefreshed(nextCursor);
+    }
+
+    private void applyChangesSince(Date since) {
+        // Owners first, so that new crop fields find the region of their owner
+        try (Stream<OwnerLocation> owners = analyticsSourceRepository.streamOwnersUpdatedAfter(since)) {
+            owners.forEach(owner -> cropFieldCube.updateOwnerRegion(owner.getId(),
+                    Boolean.TRUE.equals(owner.getLocationPublic()) ? regionOf(owner.getLocation()) : null));
+        }
+        try (Stream<CropFieldFact> cropFields = analyticsSourceRepository.streamCropFieldsUpdatedAfter(since)) {
+            cropFields.forEach(cropField -> cropFieldCube.upsert(cropField.getId(), cropField.getUserId(),
+                    cropField.getCrop(), cropField.getStatus(), cropField.getUpdatedAt(),
+                    cropField.getWatered(), cropField.getFertilized(), cropField.getPests()));
+        }
+        try (Stream<ProgressFact> progress = analyticsSourceRepository.streamProgressUpdatedAfter(since)) {
+            progress.forEach(fact -> cropFieldCube.updateProgress(fact.getCropFieldId(),
+                    fact.getWatered(), fact.getFertilized(), fact.getPests()));
+        }
+        analyticsSourceRepository.findCropFieldIdsDeletedAfter(since).forEach(cropFieldCube::remove);
+    }
+
+    /**
+     * Locations are resolved as "Region, Country"; the region is the part before the first comma.
+     */
+    private static String regionOf(String location) {
+        if (location == null) {
+            return null;
+        }
+        int commaIndex = location.indexOf(',');
+        return commaIndex == -1 ? location : location.substring(0, commaIndex);
+    }
+}
@@ -0,0 +1,33 @@
+package com.agroapp.platform.analytics.application.internal.queryservices;
+
+import com.agroapp.platform.analytics.domain.model.queries.GetCropFieldStatisticsQuery;
+import com.agroapp.platform.analytics.domain.model.valueobjects.CropFieldStatistics;
+import com.agroapp.platform.analytics.domain.services.AnalyticsQueryService;
+import com.agroapp.platform.analytics.infrastructure.cube.CropFieldCube;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+/**
+ * Implementation of AnalyticsQueryService.
+ * Statistics are computed from the in-memory crop field snapshot and never touch the database.
+ */
+@Service
+public class AnalyticsQueryServiceImpl implements AnalyticsQueryService {
+
+    private final CropFieldCube cropFieldCube;
+
+    public AnalyticsQueryServiceImpl(CropFieldCube cropFieldCube) {
+        this.cropFieldCube = cropFieldCube;
+    }
+
+    @Override
+    public Optional<CropFieldStatistics> handle(GetCropFieldStatisticsQuery query) {
+        if (cropFieldCube.getRefreshedAt().isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(cropFieldCube.query(query.groupBy(), query.crops(), query.regions(), query.statuses(),
+                query.changedSince(), LocalDate.now()));
+    }
+}
@@ -0,0 +1,20 @@
+package com.agroapp.platform.analytics.domain.model.projections;
+
+import com.agroapp.platform.plants.domain.model.valueobjects.CropFieldStatus;
+
+import java.time.LocalDateTime;
+import java.util.Date;
+
+/**
+ * Projection of a CropField with the owner of its field and the field's maintenance history.
+ */
+public interface CropFieldFact {
+    Long getId();
+    Long getUserId();
+    String getCrop();
+    CropFieldStatus getStatus();
+    Date getUpdatedAt();
+    LocalDateTime getWatered();
+    LocalDateTime getFertilized();
+    LocalDateTime getPests();
+}
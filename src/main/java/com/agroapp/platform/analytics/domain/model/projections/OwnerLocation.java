@@ -0,0 +1,10 @@
+package com.agroapp.platform.analytics.domain.model.projections;
+
+/**
+ * Projection of a User with only its location and location privacy.
+ */
+public interface OwnerLocation {
+    Long getId();
+    String getLocation();
+    Boolean getLocationPublic();
+}
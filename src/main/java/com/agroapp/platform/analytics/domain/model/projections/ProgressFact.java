@@ -0,0 +1,13 @@
+package com.agroapp.platform.analytics.domain.model.projections;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection of a ProgressHistory keyed by the crop field of its field.
+ */
+public interface ProgressFact {
+    Long getCropFieldId();
+    LocalDateTime getWatered();
+    LocalDateTime getFertilized();
+    LocalDateTime getPests();
+}
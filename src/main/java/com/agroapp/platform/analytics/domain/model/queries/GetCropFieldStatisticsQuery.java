@@ -0,0 +1,30 @@
+package com.agroapp.platform.analytics.domain.model.queries;
+
+import com.agroapp.platform.analytics.domain.model.valueobjects.AnalyticsDimension;
+import com.agroapp.platform.plants.domain.model.valueobjects.CropFieldStatus;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+/**
+ * Counts of crop fields grouped by some dimensions, optionally filtered.
+ * An empty filter matches everything; crop and region names are matched case-insensitively.
+ *
+ * @param groupBy Dimensions to group by (empty for a single total)
+ * @param crops Crop names to keep
+ * @param regions Regions to keep
+ * @param statuses Statuses to keep
+ * @param changedSince Only crop fields changed on or after this day (nullable)
+ */
+public record GetCropFieldStatisticsQuery(Set<AnalyticsDimension> groupBy,
+                                          Set<String> crops,
+                                          Set<String> regions,
+                                          Set<CropFieldStatus> statuses,
+                                          LocalDate changedSince) {
+    public GetCropFieldStatisticsQuery {
+        groupBy = groupBy == null ? Set.of() : Set.copyOf(groupBy);
+        crops = crops == null ? Set.of() : Set.copyOf(crops);
+        regions = regions == null ? Set.of() : Set.copyOf(regions);
+        statuses = statuses == null ? Set.of() : Set.copyOf(statuses);
+    }
+}
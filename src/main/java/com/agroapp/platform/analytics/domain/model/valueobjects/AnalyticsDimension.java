@@ -0,0 +1,10 @@
+package com.agroapp.platform.analytics.domain.model.valueobjects;
+
+/**
+ * Attributes crop field statistics can be grouped by.
+ */
+public enum AnalyticsDimension {
+    CROP,
+    REGION,
+    STATUS
+}
@@ -0,0 +1,14 @@
+package com.agroapp.platform.analytics.domain.model.valueobjects;
+
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Result of a crop field statistics query.
+ *
+ * @param refreshedAt Time up to which changes are reflected
+ * @param total Number of crop fields matching the filters
+ * @param groups Statistics per group, largest first
+ */
+public record CropFieldStatistics(Date refreshedAt, long total, List<StatisticsGroup> groups) {
+}
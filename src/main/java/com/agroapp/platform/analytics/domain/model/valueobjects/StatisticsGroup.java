@@ -0,0 +1,24 @@
+package com.agroapp.platform.analytics.domain.model.valueobjects;
+
+import com.agroapp.platform.plants.domain.model.valueobjects.CropFieldStatus;
+
+/**
+ * Statistics of the crop fields sharing the same values of the grouped dimensions.
+ * A dimension that is not grouped by is null.
+ *
+ * @param crop Crop name (null when not grouped by crop or not set)
+ * @param region Region of the field owner (null when not grouped by region, unknown or private)
+ * @param status Crop field status (null when not grouped by status)
+ * @param count Number of crop fields
+ * @param avgDaysSinceWatered Average days since the last watering (null when no field has one)
+ * @param avgDaysSinceFertilized Average days since the last fertilization (null when no field has one)
+ * @param avgDaysSincePestControl Average days since the last pest control (null when no field has one)
+ */
+public record StatisticsGroup(String crop,
+                              String region,
+                              CropFieldStatus status,
+                              long count,
+                              Double avgDaysSinceWatered,
+                              Double avgDaysSinceFertilized,
+                              Double avgDaysSincePestControl) {
+}
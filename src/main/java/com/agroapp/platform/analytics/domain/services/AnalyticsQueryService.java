@@ -0,0 +1,13 @@
+package com.agroapp.platform.analytics.domain.services;
+
+import com.agroapp.platform.analytics.domain.model.queries.GetCropFieldStatisticsQuery;
+import com.agroapp.platform.analytics.domain.model.valueobjects.CropFieldStatistics;
+
+import java.util.Optional;
+
+public interface AnalyticsQueryService {
+    /**
+     * @return The statistics, or empty while the snapshot has not been loaded yet
+     */
+    Optional<CropFieldStatistics> handle(GetCropFieldStatisticsQuery query);
+}
@@ -0,0 +1,388 @@
+package com.agroapp.platform.analytics.infrastructure.cube;
+
+import com.agroapp.platform.analytics.domain.model.valueobjects.AnalyticsDimension;
+import com.agroapp.platform.analytics.domain.model.valueobjects.CropFieldStatistics;
+import com.agroapp.platform.analytics.domain.model.valueobjects.StatisticsGroup;
+import com.agroapp.platform.plants.domain.model.valueobjects.CropFieldStatus;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory columnar snapshot of the crop fields, answering group-by / filter statistics without the database.
+ * Every crop field is one row across primitive column arrays: crop names and regions are dictionary-encoded,
+ * the status is stored as its ordinal and dates as epoch days. The region belongs to the owner, so rows point
+ * to an owner slot holding the region code, and a change of location updates a single entry.
+ * Rows of deleted crop fields are marked free and reused. A query is one pass over the columns.
+ * Updates and queries are serialized by a read-write lock; queries run concurrently with each other.
+ */
+@Component
+public class CropFieldCube {
+
+    private static final int NONE = -1;
+    private static final int NO_DAY = Integer.MIN_VALUE;
+    private static final byte FREE = -1;
+    private static final int INITIAL_CAPACITY = 1024;
+
+    /**
+     * Above this number of possible groups the accumulators are kept in a map instead of an array.
+     */
+    private static final int DENSE_GROUP_LIMIT = 1 << 16;
+    private static final CropFieldStatus[] STATUSES = CropFieldStatus.values();
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Dictionary crops = new Dictionary();
+    private final Dictionary regions = new Dictionary();
+    private final Map<Long, Integer> rowsByCropFieldId = new HashMap<>();
+    private final Map<Long, Integer> ownerSlots = new HashMap<>();
+    private int[] ownerRegions = new int[INITIAL_CAPACITY];
+
+    private long[] cropFieldIds = new long[INITIAL_CAPACITY];
+    private byte[] statuses = new byte[INITIAL_CAPACITY];
+    private int[] cropCodes = new int[INITIAL_CAPACITY];
+    private int[] owners = new int[INITIAL_CAPACITY];
+    private int[] changedDays = new int[INITIAL_CAPACITY];
+    private int[] wateredDays = new int[INITIAL_CAPACITY];
+    private int[] fertilizedDays = new int[INITIAL_CAPACITY];
+    private int[] pestControlDays = new int[INITIAL_CAPACITY];
+    private int rowCount;
+    private int[] freeRows = new int[INITIAL_CAPACITY];
+    private int freeRowCount;
+
+    private volatile int liveRowCount;
+    private volatile Date refreshedAt;
+
+    /**
+     * Adds a crop field, or replaces all its columns.
+     *
+     * @param ownerId ID of the user owning the field (nullable)
+     * @param changedAt Last change of the crop field
+     */
+    public void upsert(long cropFieldId, Long ownerId, String crop, CropFieldStatus status, Date changedAt,
+                       LocalDateTime watered, LocalDateTime fertilized, LocalDateTime pestControl) {
+        lock.writeLock().lock();
+        try {
+            Integer row = rowsByCropFieldId.get(cropFieldId);
+            if (row == null) {
+                row = allocateRow();
+                cropFieldIds[row] = cropFieldId;
+                rowsByCropFieldId.put(cropFieldId, row);
+                liveRowCount++;
+            }
+            statuses[row] = (byte) (status != null ? status : CropFieldStatus.Healthy).ordinal();
+            cropCodes[row] = crops.encode(crop);
+            owners[row] = ownerId != null ? ownerSlot(ownerId) : NONE;
+            changedDays[row] = changedAt != null
+                    ? (int) changedAt.toInstant().atZone(ZoneId.systemDefault()).toLocalDate().toEpochDay()
+                    : NO_DAY;
+            setProgress(row, watered, fertilized, pestControl);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Replaces the maintenance dates of a crop field; ignored when the crop field is not in the snapshot.
+     */
+    public void updateProgress(long cropFieldId, LocalDateTime watered, LocalDateTime fertilized, LocalDateTime pestControl) {
+        lock.writeLock().lock();
+        try {
+            Integer row = rowsByCropFieldId.get(cropFieldId);
+            if (row != null) {
+                setProgress(row, watered, fertilized, pestControl);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long cropFieldId) {
+        lock.writeLock().lock();
+        try {
+            Integer row = rowsByCropFieldId.remove(cropFieldId);
+            if (row == null) {
+                return;
+            }
+            statuses[row] = FREE;
+            if (freeRowCount == freeRows.length) {
+                freeRows = Arrays.copyOf(freeRows, freeRows.length * 2);
+            }
+            freeRows[freeRowCount++] = row;
+            liveRowCount--;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Sets the region of every field of a user.
+     *
+     * @param region Region name, or null when unknown or not public
+     */
+    public void updateOwnerRegion(long ownerId, String region) {
+        lock.writeLock().lock();
+        try {
+            // The slot is taken first: it may replace ownerRegions with a larger array
+            int slot = ownerSlot(ownerId);
+            ownerRegions[slot] = regions.encode(region);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Records that every change up to the given time has been applied; queries are answered from then on.
+     */
+    public void markRefreshed(Date refreshedAt) {
+        this.refreshedAt = refreshedAt;
+    }
+
+    /**
+     * @return Time up to which changes have been applied, or empty before the first full load
+     */
+    public Optional<Date> getRefreshedAt() {
+        return Optional.ofNullable(refreshedAt);
+    }
+
+    /**
+     * @return Number of crop fields in the snapshot
+     */
+    public int size() {
+        return liveRowCount;
+    }
+
+    /**
+     * Counts the crop fields matching the filters, grouped by the given dimensions.
+     * An empty filter matches everything; names are matched case-insensitively.
+     *
+     * @param changedSince Only crop fields changed on or after this day (nullable)
+     * @param today Day the "days since" averages are computed for
+     */
+    public CropFieldStatistics query(Set<AnalyticsDimension> groupBy, Set<String> cropFilter, Set<String> regionFilter,
+                                     Set<CropFieldStatus> statusFilter, LocalDate changedSince, LocalDate today) {
+        lock.readLock().lock();
+        try {
+            boolean[] acceptedCrops = crops.accepted(cropFilter);
+            boolean[] acceptedRegions = regions.accepted(regionFilter);
+            boolean[] acceptedStatuses = null;
+            if (!statusFilter.isEmpty()) {
+                acceptedStatuses = new boolean[STATUSES.length];
+                for (CropFieldStatus status : statusFilter) {
+                    acceptedStatuses[status.ordinal()] = true;
+                }
+            }
+            int changedSinceDay = changedSince != null ? (int) changedSince.toEpochDay() : NO_DAY;
+            int todayDay = (int) today.toEpochDay();
+
+            boolean byCrop = groupBy.contains(AnalyticsDimension.CROP);
+            boolean byRegion = groupBy.contains(AnalyticsDimension.REGION);
+            boolean byStatus = groupBy.contains(AnalyticsDimension.STATUS);
+            long regionCardinality = byRegion ? regions.size() + 1 : 1;
+            long statusCardinality = byStatus ? STATUSES.length : 1;
+            long groupCardinality = (byCrop ? crops.size() + 1 : 1) * regionCardinality * statusCardinality;
+
+            Accumulator[] dense = groupCardinality <= DENSE_GROUP_LIMIT ? new Accumulator[(int) groupCardinality] : null;
+            Map<Long, Accumulator> sparse = dense == null ? new HashMap<>() : null;
+            long total = 0;
+
+            for (int row = 0; row < rowCount; row++) {
+                byte status = statuses[row];
+                if (status == FREE || (acceptedStatuses != null && !acceptedStatuses[status])) {
+                    continue;
+                }
+                int crop = cropCodes[row];
+                if (acceptedCrops != null && !acceptedCrops[crop + 1]) {
+                    continue;
+                }
+                int owner = owners[row];
+                int region = owner != NONE ? ownerRegions[owner] : NONE;
+                if (acceptedRegions != null && !acceptedRegions[region + 1]) {
+                    continue;
+                }
+                if (changedDays[row] < changedSinceDay) {
+                    continue;
+                }
+
+                long key = ((byCrop ? crop + 1 : 0) * regionCardinality + (byRegion ? region + 1 : 0)) * statusCardinality
+                        + (byStatus ? status : 0);
+                Accumulator accumulator;
+                if (dense != null) {
+                    accumulator = dense[(int) key];
+                    if (accumulator == null) {
+                        accumulator = dense[(int) key] = new Accumulator(key);
+                    }
+                } else {
+                    accumulator = sparse.computeIfAbsent(key, Accumulator::new);
+                }
+                accumulator.add(todayDay, wateredDays[row], fertilizedDays[row], pestControlDays[row]);
+                total++;
+            }
+
+            List<StatisticsGroup> groups = new ArrayList<>();
+            Iterable<Accumulator> accumulators = dense != null ? Arrays.asList(dense) : sparse.values();
+            for (Accumulator accumulator : accumulators) {
+                if (accumulator == null) {
+                    continue;
+                }
+                long key = accumulator.key;
+                int status = (int) (key % statusCardinality);
+                key /= statusCardinality;
+                int region = (int) (key % regionCardinality) - 1;
+                int crop = (int) (key / regionCardinality) - 1;
+                groups.add(new StatisticsGroup(
+                        byCrop ? crops.decode(crop) : null,
+                        byRegion ? regions.decode(region) : null,
+                        byStatus ? STATUSES[status] : null,
+                        accumulator.count,
+                        average(accumulator.wateredSum, accumulator.wateredCount),
+                        average(accumulator.fertilizedSum, accumulator.fertilizedCount),
+                        average(accumulator.pestControlSum, accumulator.pestControlCount)));
+            }
+            groups.sort(Comparator.comparingLong(StatisticsGroup::count).reversed());
+            return new CropFieldStatistics(refreshedAt, total, groups);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private int allocateRow() {
+        if (freeRowCount > 0) {
+            return freeRows[--freeRowCount];
+        }
+        if (rowCount == cropFieldIds.length) {
+            int capacity = cropFieldIds.length + (cropFieldIds.length >> 1);
+            cropFieldIds = Arrays.copyOf(cropFieldIds, capacity);
+            statuses = Arrays.copyOf(statuses, capacity);
+            cropCodes = Arrays.copyOf(cropCodes, capacity);
+            owners = Arrays.copyOf(owners, capacity);
+            changedDays = Arrays.copyOf(changedDays, capacity);
+            wateredDays = Arrays.copyOf(wateredDays, capacity);
+            fertilizedDays = Arrays.copyOf(fertilizedDays, capacity);
+            pestControlDays = Arrays.copyOf(pestControlDays, capacity);
+        }
+        return rowCount++;
+    }
+
+    private int ownerSlot(long ownerId) {
+        Integer slot = ownerSlots.get(ownerId);
+        if (slot != null) {
+            return slot;
+        }
+        slot = ownerSlots.size();
+        if (slot == ownerRegions.length) {
+            ownerRegions = Arrays.copyOf(ownerRegions, ownerRegions.length * 2);
+        }
+        ownerRegions[slot] = NONE;
+        ownerSlots.put(ownerId, slot);
+        return slot;
+    }
+
+    private void setProgress(int row, LocalDateTime watered, LocalDateTime fertilized, LocalDateTime pestControl) {
+        wateredDays[row] = toEpochDay(watered);
+        fertilizedDays[row] = toEpochDay(fertilized);
+        pestControlDays[row] = toEpochDay(pestControl);
+    }
+
+    private static int toEpochDay(LocalDateTime dateTime) {
+        return dateTime != null ? (int) dateTime.toLocalDate().toEpochDay() : NO_DAY;
+    }
+
+    private static Double average(long sum, long count) {
+        return count == 0 ? null : (double) sum / count;
+    }
+
+    /**
+     * Statistics of one group while a query runs.
+     */
+    private static final class Accumulator {
+        private final long key;
+        private long count;
+        private long wateredSum;
+        private long wateredCount;
+        private long fertilizedSum;
+        private long fertilizedCount;
+        private long pestControlSum;
+        private long pestControlCount;
+
+        private Accumulator(long key) {
+            this.key = key;
+        }
+
+        private void add(int today, int watered, int fertilized, int pestControl) {
+            count++;
+            if (watered != NO_DAY) {
+                wateredSum += today - watered;
+                wateredCount++;
+            }
+            if (fertilized != NO_DAY) {
+                fertilizedSum += today - fertilized;
+                fertilizedCount++;
+            }
+            if (pestControl != NO_DAY) {
+                pestControlSum += today - pestControl;
+                pestControlCount++;
+            }
+        }
+    }
+
+    /**
+     * Codes of the distinct values of a text column. Values differing only in case or surrounding
+     * whitespace share a code and are reported as first seen; blank values have no code.
+     */
+    private static final class Dictionary {
+        private final Map<String, Integer> codes = new HashMap<>();
+        private final List<String> values = new ArrayList<>();
+
+        private int encode(String value) {
+            if (value == null || value.isBlank()) {
+                return NONE;
+            }
+            return codes.computeIfAbsent(normalize(value), key -> {
+                values.add(value.trim());
+                return values.size() - 1;
+            });
+        }
+
+        private String decode(int code) {
+            return code == NONE ? null : values.get(code);
+        }
+
+        private int size() {
+            return values.size();
+        }
+
+        /**
+         * @return Accepted values indexed by code + 1 (so that no value is index 0), or null to accept everything
+         */
+        private boolean[] accepted(Set<String> filter) {
+            if (filter.isEmpty()) {
+                return null;
+            }
+            boolean[] accepted = new boolean[values.size() + 1];
+            for (String value : filter) {
+                Integer code = value != null ? codes.get(normalize(value)) : null;
+                if (code != null) {
+                    accepted[code + 1] = true;
+                }
+            }
+            return accepted;
+        }
+
+        private static String normalize(String value) {
+            return value.trim().toLowerCase(Locale.ROOT);
+        }
+    }
+}
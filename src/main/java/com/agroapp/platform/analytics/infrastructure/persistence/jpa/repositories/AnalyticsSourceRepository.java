@@ -0,0 +1,57 @@
+package com.agroapp.platform.analytics.infrastructure.persistence.jpa.repositories;
+
+import com.agroapp.platform.analytics.domain.model.projections.CropFieldFact;
+import com.agroapp.platform.analytics.domain.model.projections.OwnerLocation;
+import com.agroapp.platform.analytics.domain.model.projections.ProgressFact;
+import com.agroapp.platform.plants.domain.model.entities.CropField;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.RepositoryDefinition;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Read-only access to the rows the analytics snapshot is built from.
+ * Every lookup selects the rows changed after a point in time through an index on updatedAt
+ * (createdAt for tombstones). The streams use the MySQL streaming fetch size, so the first full
+ * load never holds the result set in memory; no other statement may run on the connection until
+ * a stream is closed.
+ */
+@Repository
+@RepositoryDefinition(domainClass = CropField.class, idClass = Long.class)
+public interface AnalyticsSourceRepository {
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("SELECT u.id AS id, u.location AS location, u.isLocationPublic AS locationPublic FROM User u " +
+            "WHERE u.updatedAt > :since")
+    Stream<OwnerLocation> streamOwnersUpdatedAfter(@Param("since") Date since);
+
+    /**
+     * Crop fields changed after the given time, with the owner and the history of their field.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("SELECT c.id AS id, f.userId AS userId, c.crop AS crop, c.status AS status, c.updatedAt AS updatedAt, " +
+            "p.watered AS watered, p.fertilized AS fertilized, p.pests AS pests " +
+            "FROM CropField c JOIN Field f ON f.id = c.fieldId LEFT JOIN ProgressHistory p ON p.fieldId = c.fieldId " +
+            "WHERE c.updatedAt > :since")
+    Stream<CropFieldFact> streamCropFieldsUpdatedAfter(@Param("since") Date since);
+
+    /**
+     * Progress histories changed after the given time, for fields that have a crop field.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("SELECT c.id AS cropFieldId, p.watered AS watered, p.fertilized AS fertilized, p.pests AS pests " +
+            "FROM ProgressHistory p JOIN CropField c ON c.fieldId = p.fieldId WHERE p.updatedAt > :since")
+    Stream<ProgressFact> streamProgressUpdatedAfter(@Param("since") Date since);
+
+    @Query("SELECT t.entityId FROM Tombstone t " +
+            "WHERE t.entityType = com.agroapp.platform.plants.domain.model.valueobjects.SyncEntityType.CROP_FIELD " +
+            "AND t.createdAt > :since")
+    List<Long> findCropFieldIdsDeletedAfter(@Param("since") Date since);
+}
@@ -0,0 +1,76 @@
+package com.agroapp.platform.analytics.interfaces.rest;
+
+import com.agroapp.platform.analytics.domain.services.AnalyticsQueryService;
+import com.agroapp.platform.analytics.interfaces.rest.resources.CropFieldStatisticsResource;
+import com.agroapp.platform.analytics.interfaces.rest.transform.CropFieldStatisticsResourceFromValueObjectAssembler;
+import com.agroapp.platform.analytics.interfaces.rest.transform.GetCropFieldStatisticsQueryFromParametersAssembler;
+import com.agroapp.platform.plants.domain.model.valueobjects.CropFieldStatus;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * REST Controller for crop field analytics.
+ * Answers from an in-memory snapshot refreshed in the background, so a query never touches the database
+ * and reflects the changes up to refreshedAt.
+ */
+@RestController
+@RequestMapping("/api/v1/analytics")
+@Tag(name = "Analytics", description = "Crop field statistics by crop, region and status")
+public class AnalyticsController {
+
+    private final AnalyticsQueryService analyticsQueryService;
+
+    public AnalyticsController(AnalyticsQueryService analyticsQueryService) {
+        this.analyticsQueryService = analyticsQueryService;
+    }
+
+    /**
+     * Counts crop fields, grouped and filtered.
+     * GET /api/v1/analytics?groupBy=crop,region&crop=Tomato&region=Cusco&status=Critical&changedSince=2026-10-12
+     *
+     * @param groupBy Dimensions to group by: crop, region, status (none for a single total)
+     * @param crop Crop names to keep
+     * @param region Regions (of the owner location) to keep
+     * @param status Statuses to keep
+     * @param changedSince Only crop fields changed on or after this day
+     * @return The statistics, 400 for an unknown dimension, or 503 while the snapshot is loading
+     */
+    @GetMapping
+    @Operation(summary = "Get crop field statistics", description = "Counts crop fields and averages the days since their last watering, " +
+            "fertilization and pest control, grouped by any of crop, region and status. Filters are optional and accept several values; " +
+            "crop and region match case-insensitively. Owners with a private location are counted without a region.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Statistics"),
+            @ApiResponse(responseCode = "400", description = "Unknown dimension or status"),
+            @ApiResponse(responseCode = "503", description = "Snapshot not loaded yet")
+    })
+    public ResponseEntity<CropFieldStatisticsResource> getStatistics(
+            @RequestParam(required = false) List<String> groupBy,
+            @RequestParam(required = false) List<String> crop,
+            @RequestParam(required = false) List<String> region,
+            @RequestParam(required = false) List<CropFieldStatus> status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate changedSince) {
+        try {
+            var query = GetCropFieldStatisticsQueryFromParametersAssembler.toQueryFromParameters(groupBy, crop, region, status, changedSince);
+            return analyticsQueryService.handle(query)
+                    .map(CropFieldStatisticsResourceFromValueObjectAssembler::toResourceFromValueObject)
+                    .map(ResponseEntity::ok)
+                    .orElseGet(() -> ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "10").build());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
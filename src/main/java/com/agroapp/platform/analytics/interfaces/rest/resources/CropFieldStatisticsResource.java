@@ -0,0 +1,14 @@
+package com.agroapp.platform.analytics.interfaces.rest.resources;
+
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Crop field statistics; groups are ordered by count, largest first.
+ */
+public record CropFieldStatisticsResource(
+        Date refreshedAt,
+        long total,
+        List<StatisticsGroupResource> groups
+) {
+}
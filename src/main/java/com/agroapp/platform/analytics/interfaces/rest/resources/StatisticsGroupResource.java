@@ -0,0 +1,14 @@
+package com.agroapp.platform.analytics.interfaces.rest.resources;
+
+import com.agroapp.platform.plants.domain.model.valueobjects.CropFieldStatus;
+
+public record StatisticsGroupResource(
+        String crop,
+        String region,
+        CropFieldStatus status,
+        long count,
+        Double avgDaysSinceWatered,
+        Double avgDaysSinceFertilized,
+        Double avgDaysSincePestControl
+) {
+}
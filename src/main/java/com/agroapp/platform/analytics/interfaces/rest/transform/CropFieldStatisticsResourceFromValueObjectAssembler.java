@@ -0,0 +1,35 @@
+package com.agroapp.platform.analytics.interfaces.rest.transform;
+
+import com.agroapp.platform.analytics.domain.model.valueobjects.CropFieldStatistics;
+import com.agroapp.platform.analytics.domain.model.valueobjects.StatisticsGroup;
+import com.agroapp.platform.analytics.interfaces.rest.resources.CropFieldStatisticsResource;
+import com.agroapp.platform.analytics.interfaces.rest.resources.StatisticsGroupResource;
+
+/**
+ * Assembler class to transform CropFieldStatistics into a CropFieldStatisticsResource.
+ * Pure transformation, no business logic.
+ */
+public class CropFieldStatisticsResourceFromValueObjectAssembler {
+
+    public static CropFieldStatisticsResource toResourceFromValueObject(CropFieldStatistics statistics) {
+        return new CropFieldStatisticsResource(
+                statistics.refreshedAt(),
+                statistics.total(),
+                statistics.groups().stream()
+                        .map(CropFieldStatisticsResourceFromValueObjectAssembler::toResource)
+                        .toList()
+        );
+    }
+
+    private static StatisticsGroupResource toResource(StatisticsGroup group) {
+        return new StatisticsGroupResource(
+                group.crop(),
+                group.region(),
+                group.status(),
+                group.count(),
+                group.avgDaysSinceWatered(),
+                group.avgDaysSinceFertilized(),
+                group.avgDaysSincePestControl()
+        );
+    }
+}
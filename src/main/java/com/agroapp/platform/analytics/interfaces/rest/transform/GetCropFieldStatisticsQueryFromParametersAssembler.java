@@ -0,0 +1,45 @@
+package com.agroapp.platform.analytics.interfaces.rest.transform;
+
+import com.agroapp.platform.analytics.domain.model.queries.GetCropFieldStatisticsQuery;
+import com.agroapp.platform.analytics.domain.model.valueobjects.AnalyticsDimension;
+import com.agroapp.platform.plants.domain.model.valueobjects.CropFieldStatus;
+
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Assembler class to transform the request parameters of the analytics endpoint into a GetCropFieldStatisticsQuery.
+ * Pure transformation, no business logic.
+ */
+public class GetCropFieldStatisticsQueryFromParametersAssembler {
+
+    /**
+     * @param groupBy Dimension names, case-insensitive (crop, region, status)
+     * @throws IllegalArgumentException if a dimension name is unknown
+     */
+    public static GetCropFieldStatisticsQuery toQueryFromParameters(List<String> groupBy,
+                                                                   List<String> crops,
+                                                                   List<String> regions,
+                                                                   List<CropFieldStatus> statuses,
+                                                                   LocalDate changedSince) {
+        Set<AnalyticsDimension> dimensions = EnumSet.noneOf(AnalyticsDimension.class);
+        if (groupBy != null) {
+            for (String name : groupBy) {
+                if (!name.isBlank()) {
+                    dimensions.add(AnalyticsDimension.valueOf(name.trim().toUpperCase(Locale.ROOT)));
+                }
+            }
+        }
+        return new GetCropFieldStatisticsQuery(
+                dimensions,
+                crops != null ? new HashSet<>(crops) : null,
+                regions != null ? new HashSet<>(regions) : null,
+                statuses != null ? EnumSet.copyOf(statuses) : null,
+                changedSince
+        );
+    }
+}
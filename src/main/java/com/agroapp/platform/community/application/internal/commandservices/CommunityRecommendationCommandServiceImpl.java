@@ -6,8 +6,14 @@ import com.agroapp.platform.community.domain.model.commands.CreateCommunityRecom
 import com.agroapp.platform.community.domain.model.commands.UpdateCommunityRecommendationCommand;
 import com.agroapp.platform.community.domain.services.CommunityRecommendationCommandService;
 import com.agroapp.platform.community.infrastructure.persistence.jpa.repositories.CommunityRecommendationRepository;
+import com.agroapp.platform.shared.domain.exceptions.VersionConflictException;
+import com.agroapp.platform.shared.infrastructure.outbox.OutboxRecorder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -20,12 +26,15 @@ public class CommunityRecommendationCommandServiceImpl implements CommunityRecom
 
     private final CommunityRecommendationRepository communityRecommendationRepository;
     private final ExternalUserService externalUserService;
+    private final OutboxRecorder outboxRecorder;
 
     public CommunityRecommendationCommandServiceImpl(
             CommunityRecommendationRepository communityRecommendationRepository,
-            ExternalUserService externalUserService) {
+            ExternalUserService externalUserService,
+            OutboxRecorder outboxRecorder) {
         this.communityRecommendationRepository = communityRecommendationRepository;
         this.externalUserService = externalUserService;
+        this.outboxRecorder = outboxRecorder;
     }
 
     /**
@@ -62,8 +71,44 @@ public class CommunityRecommendationCommandServiceImpl implements CommunityRecom
         return Optional.of(savedRecommendation);
     }
 
+    /**
+     * Updates a CommunityRecommendation.
+     * With an expected version (If-Match) the recommendation is written by a single version-checked
+     * UPDATE instead of being loaded and saved back, and recorded in the outbox here.
+     *
+     * @param command UpdateCommunityRecommendationCommand with userName, comment and optional expected version
+     * @return Updated CommunityRecommendation
+     * @throws VersionConflictException if the recommendation is no longer at the expected version
+     */
     @Override
+    @Transactional
     public Optional<CommunityRecommendation> handle(UpdateCommunityRecommendationCommand command) {
+        if (command.expectedVersion() != null) {
+            int updated = communityRecommendationRepository.updateIfVersionMatches(
+                    command.recommendationId(),
+                    command.expectedVersion(),
+                    command.userName(),
+                    command.comment(),
+                    new Date()
+            );
+            if (updated == 0) {
+                if (!communityRecommendationRepository.existsById(command.recommendationId())) {
+                    throw new RuntimeException("CommunityRecommendation not found");
+                }
+                throw new VersionConflictException("CommunityRecommendation", command.recommendationId(), command.expectedVersion());
+            }
+            Optional<CommunityRecommendation> updatedRecommendation = communityRecommendationRepository.findById(command.recommendationId());
+            updatedRecommendation.ifPresent(recommendation -> {
+                Map<String, Object> changes = new HashMap<>();
+                changes.put("userName", recommendation.getUserName());
+                changes.put("comment", recommendation.getComment());
+                changes.put("version", recommendation.getVersion());
+                changes.put("updatedAt", recommendation.getUpdatedAt());
+                outboxRecorder.recordUpdate(CommunityRecommendation.class, recommendation.getId(), changes);
+            });
+            return updatedRecommendation;
+        }
+
         Optional<CommunityRecommendation> recommendationOptional = communityRecommendationRepository.findById(command.recommendationId());
 
         if (recommendationOptional.isEmpty()) {
@@ -1,11 +1,15 @@
 package com.agroapp.platform.community.application.internal.eventhandlers;
 
 import com.agroapp.platform.community.infrastructure.persistence.jpa.repositories.CommunityRecommendationRepository;
+import com.agroapp.platform.community.domain.model.aggregates.CommunityRecommendation;
 import com.agroapp.platform.iam.domain.model.events.UserProfileUpdatedEvent;
+import com.agroapp.platform.shared.infrastructure.outbox.OutboxRecorder;
 import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collections;
+
 /**
  * Event handler for user-related events from the IAM bounded context.
  * Listens to user profile updates and synchronizes the userName in community recommendations.
@@ -14,14 +18,18 @@ import org.springframework.transaction.annotation.Transactional;
 public class CommunityUserEventHandler {
 
     private final CommunityRecommendationRepository communityRecommendationRepository;
+    private final OutboxRecorder outboxRecorder;
 
-    public CommunityUserEventHandler(CommunityRecommendationRepository communityRecommendationRepository) {
+    public CommunityUserEventHandler(CommunityRecommendationRepository communityRecommendationRepository,
+                                     OutboxRecorder outboxRecorder) {
         this.communityRecommendationRepository = communityRecommendationRepository;
+        this.outboxRecorder = outboxRecorder;
     }
 
     /**
      * Handles UserProfileUpdatedEvent from IAM context.
-     * Updates the userName in all recommendations created by the user.
+     * Updates the userName in all recommendations created by the user, and records each of them in the outbox
+     * (the bulk UPDATE does not report which rows it wrote, so their ids are read first).
      *
      * @param event the UserProfileUpdatedEvent containing userId and new userName
      */
@@ -29,7 +37,13 @@ public class CommunityUserEventHandler {
     @Transactional
     public void on(UserProfileUpdatedEvent event) {
         // Update all recommendations from this user with the new userName
+        var recommendationIds = communityRecommendationRepository.findIdsByUserId(event.getUserId());
+        if (recommendationIds.isEmpty()) {
+            return;
+        }
         communityRecommendationRepository.updateUserNameByUserId(event.getUserId(), event.getNewUserName());
+        recommendationIds.forEach(id -> outboxRecorder.recordUpdate(CommunityRecommendation.class, id,
+                Collections.singletonMap("userName", event.getNewUserName())));
     }
 }
 
@@ -7,11 +7,13 @@ import com.agroapp.platform.community.domain.model.queries.GetCommunityRecommend
 import com.agroapp.platform.community.domain.services.CommunityRecommendationQueryService;
 import com.agroapp.platform.community.infrastructure.persistence.jpa.repositories.CommunityRecommendationRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
 
 @Service
+@Transactional(readOnly = true)
 public class CommunityRecommendationQueryServiceImpl implements CommunityRecommendationQueryService {
 
     private final CommunityRecommendationRepository communityRecommendationRepository;
@@ -29,5 +31,10 @@ public class CommunityRecommendationQueryServiceImpl implements CommunityRecomme
     public Optional<CommunityRecommendation> handle(GetCommunityRecommendationByIdQuery query) {
         return communityRecommendationRepository.findById(query.recommendationId());
     }
+
+    @Override
+    public Optional<Long> handle(GetCommunityRecommendationVersionByIdQuery query) {
+        return communityRecommendationRepository.findVersionById(query.recommendationId());
+    }
 }
 
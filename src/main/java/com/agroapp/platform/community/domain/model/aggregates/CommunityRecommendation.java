@@ -1,6 +1,7 @@
 package com.agroapp.platform.community.domain.model.aggregates;
 
 import com.agroapp.platform.shared.domain.model.aggregates.AuditableAbstractAggregateRoot;
+import com.agroapp.platform.shared.domain.model.annotations.PublishesChanges;
 import jakarta.persistence.*;
 import lombok.Getter;
 
@@ -11,6 +12,7 @@ import java.time.LocalDateTime;
  */
 @Entity
 @Getter
+@PublishesChanges
 public class CommunityRecommendation extends AuditableAbstractAggregateRoot<CommunityRecommendation> {
 
     private Long userId;
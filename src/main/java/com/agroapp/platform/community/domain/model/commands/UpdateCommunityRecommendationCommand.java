@@ -3,7 +3,8 @@ package com.agroapp.platform.community.domain.model.commands;
 public record UpdateCommunityRecommendationCommand(
         Long recommendationId,
         String userName,
-        String comment
+        String comment,
+        Long expectedVersion
 ) {
 }
 
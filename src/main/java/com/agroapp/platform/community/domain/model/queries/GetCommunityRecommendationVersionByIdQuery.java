@@ -0,0 +1,7 @@
+package com.agroapp.platform.community.domain.model.queries;
+
+/**
+ * Query to read only the current version of a CommunityRecommendation, used to answer conditional requests.
+ */
+public record GetCommunityRecommendationVersionByIdQuery(Long recommendationId) {
+}
@@ -11,5 +11,6 @@ import java.util.Optional;
 public interface CommunityRecommendationQueryService {
     List<CommunityRecommendation> handle(GetAllCommunityRecommendationsQuery query);
     Optional<CommunityRecommendation> handle(GetCommunityRecommendationByIdQuery query);
+    Optional<Long> handle(GetCommunityRecommendationVersionByIdQuery query);
 }
 
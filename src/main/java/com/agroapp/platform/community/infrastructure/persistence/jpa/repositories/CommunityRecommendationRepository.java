@@ -7,6 +7,10 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface CommunityRecommendationRepository extends JpaRepository<CommunityRecommendation, Long> {
 
@@ -20,5 +24,29 @@ public interface CommunityRecommendationRepository extends JpaRepository<Communi
     @Modifying
     @Query("UPDATE CommunityRecommendation c SET c.userName = :userName WHERE c.userId = :userId")
     void updateUserNameByUserId(@Param("userId") Long userId, @Param("userName") String userName);
+
+    @Query("SELECT c.id FROM CommunityRecommendation c WHERE c.userId = :userId")
+    List<Long> findIdsByUserId(@Param("userId") Long userId);
+
+    /**
+     * Reads only the version column, so conditional requests can be answered without loading the aggregate.
+     */
+    @Query("SELECT c.version FROM CommunityRecommendation c WHERE c.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    /**
+     * Overwrites a recommendation only if it is still at the expected version, in a single statement.
+     *
+     * @return number of updated rows (0 when the recommendation is missing or its version moved on)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE CommunityRecommendation c SET c.userName = :userName, c.comment = :comment, " +
+            "c.version = c.version + 1, c.updatedAt = :updatedAt " +
+            "WHERE c.id = :id AND c.version = :version")
+    int updateIfVersionMatches(@Param("id") Long id,
+                               @Param("version") Long version,
+                               @Param("userName") String userName,
+                               @Param("comment") String comment,
+                               @Param("updatedAt") Date updatedAt);
 }
 
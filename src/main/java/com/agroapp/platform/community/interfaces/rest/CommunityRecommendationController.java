@@ -1,20 +1,26 @@
 package com.agroapp.platform.community.interfaces.rest;
 
+import com.agroapp.platform.community.domain.model.aggregates.CommunityRecommendation;
 import com.agroapp.platform.community.domain.model.queries.*;
 import com.agroapp.platform.community.domain.services.*;
 import com.agroapp.platform.community.interfaces.rest.resources.*;
 import com.agroapp.platform.community.interfaces.rest.transform.*;
+import com.agroapp.platform.shared.domain.exceptions.VersionConflictException;
+import com.agroapp.platform.shared.interfaces.rest.transform.EntityTagAssembler;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
@@ -84,9 +90,20 @@ public class CommunityRecommendationController {
     /**
      * Gets a CommunityRecommendation by its ID.
      * GET /api/v1/CommunityRecommendation/{recommendationId}
+     * Sends ETag "{id}-{version}" and answers 304 when If-None-Match still matches.
      */
     @GetMapping("/{recommendationId}")
-    public ResponseEntity<CommunityRecommendationResource> getCommunityRecommendationById(@PathVariable Long recommendationId) {
+    public ResponseEntity<CommunityRecommendationResource> getCommunityRecommendationById(@PathVariable Long recommendationId,
+                                                                                          WebRequest webRequest) {
+        var version = communityRecommendationQueryService.handle(new GetCommunityRecommendationVersionByIdQuery(recommendationId));
+        if (version.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        // Answer 304 from the version column alone when the client copy is current
+        if (webRequest.checkNotModified(EntityTagAssembler.toEntityTag(recommendationId, version.get()))) {
+            return null;
+        }
+
         var query = new GetCommunityRecommendationByIdQuery(recommendationId);
         var recommendation = communityRecommendationQueryService.handle(query);
 
@@ -117,17 +134,28 @@ public class CommunityRecommendationController {
     /**
      * Updates a CommunityRecommendation.
      * PUT /api/v1/community-recommendations/{id}
+     * With If-Match: "{id}-{version}" the update only applies if the recommendation has not changed since (412 otherwise).
      */
     @PutMapping("/{id}")
-    public ResponseEntity<CommunityRecommendationResource> updateCommunityRecommendation(@PathVariable Long id, @RequestBody UpdateCommunityRecommendationResource resource) {
-        var command = UpdateCommunityRecommendationCommandFromResourceAssembler.toCommandFromResource(id, resource);
-        var recommendation = communityRecommendationCommandService.handle(command);
+    public ResponseEntity<CommunityRecommendationResource> updateCommunityRecommendation(@PathVariable Long id,
+                                                                                         @RequestBody UpdateCommunityRecommendationResource resource,
+                                                                                         @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        var command = UpdateCommunityRecommendationCommandFromResourceAssembler.toCommandFromResource(id, resource,
+                EntityTagAssembler.toExpectedVersion(ifMatch, id));
+        Optional<CommunityRecommendation> recommendation;
+        try {
+            recommendation = communityRecommendationCommandService.handle(command);
+        } catch (VersionConflictException ex) {
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+        }
 
         if (recommendation.isEmpty()) {
             return ResponseEntity.badRequest().build();
         }
 
         var recommendationResource = CommunityRecommendationResourceFromEntityAssembler.toResourceFromEntity(recommendation.get());
-        return ResponseEntity.ok(recommendationResource);
+        return ResponseEntity.ok()
+                .eTag(EntityTagAssembler.toEntityTag(recommendation.get().getId(), recommendation.get().getVersion()))
+                .body(recommendationResource);
     }
 }
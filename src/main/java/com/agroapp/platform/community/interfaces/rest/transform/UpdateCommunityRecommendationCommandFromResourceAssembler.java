@@ -4,11 +4,12 @@ import com.agroapp.platform.community.domain.model.commands.UpdateCommunityRecom
 import com.agroapp.platform.community.interfaces.rest.resources.UpdateCommunityRecommendationResource;
 
 public class UpdateCommunityRecommendationCommandFromResourceAssembler {
-    public static UpdateCommunityRecommendationCommand toCommandFromResource(Long recommendationId, UpdateCommunityRecommendationResource resource) {
+    public static UpdateCommunityRecommendationCommand toCommandFromResource(Long recommendationId, UpdateCommunityRecommendationResource resource, Long expectedVersion) {
         return new UpdateCommunityRecommendationCommand(
                 recommendationId,
                 resource.userName(),
-                resource.comment()
+                resource.comment(),
+                expectedVersion
         );
     }
 }
@@ -7,10 +7,12 @@ import com.agroapp.platform.iam.domain.model.queries.GetUserByIdQuery;
 import com.agroapp.platform.iam.domain.services.UserQueryService;
 import com.agroapp.platform.iam.infrastructure.persistence.jpa.repositories.UserRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
 @Service
+@Transactional(readOnly = true)
 public class UserQueryServiceImpl implements UserQueryService {
 
     private final UserRepository userRepository;
@@ -28,5 +30,10 @@ public class UserQueryServiceImpl implements UserQueryService {
     public Optional<User> handle(GetUserByEmailQuery query) {
         return userRepository.findByEmail(query.email());
     }
+
+    @Override
+    public Optional<Long> handle(GetUserVersionByIdQuery query) {
+        return userRepository.findVersionById(query.userId());
+    }
 }
 
@@ -1,6 +1,7 @@
 package com.agroapp.platform.iam.domain.model.aggregates;
 
 import com.agroapp.platform.shared.domain.model.aggregates.AuditableAbstractAggregateRoot;
+import com.agroapp.platform.shared.domain.model.annotations.PublishesChanges;
 import jakarta.persistence.*;
 import lombok.Getter;
 
@@ -11,6 +12,8 @@ import lombok.Getter;
  */
 @Entity
 @Getter
+@PublishesChanges(exclude = "password")
+@Table(indexes = @Index(columnList = "updatedAt"))
 public class User extends AuditableAbstractAggregateRoot<User> {
 
     @Column(nullable = false)
@@ -0,0 +1,7 @@
+package com.agroapp.platform.iam.domain.model.queries;
+
+/**
+ * Query to read only the current version of a User, used to answer conditional requests.
+ */
+public record GetUserVersionByIdQuery(Long userId) {
+}
@@ -10,5 +10,6 @@ import java.util.Optional;
 public interface UserQueryService {
     Optional<User> handle(GetUserByIdQuery query);
     Optional<User> handle(GetUserByEmailQuery query);
+    Optional<Long> handle(GetUserVersionByIdQuery query);
 }
 
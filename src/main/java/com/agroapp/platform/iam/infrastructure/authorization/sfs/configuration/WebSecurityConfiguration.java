@@ -1,5 +1,6 @@
 package com.agroapp.platform.iam.infrastructure.authorization.sfs.configuration;
 
+import com.agroapp.platform.shared.infrastructure.idempotency.IdempotencyFilter;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -98,8 +99,8 @@ public class WebSecurityConfiguration {
         // Allow credentials (cookies, authorization headers)
         configuration.setAllowCredentials(true);
 
-        // Expose headers (for JWT in response)
-        configuration.setExposedHeaders(List.of("Authorization"));
+        // Expose headers (for JWT in response, and to tell replayed idempotent responses apart)
+        configuration.setExposedHeaders(List.of("Authorization", IdempotencyFilter.REPLAYED_HEADER));
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
         source.registerCorsConfiguration("/**", configuration);
@@ -2,6 +2,8 @@ package com.agroapp.platform.iam.infrastructure.persistence.jpa.repositories;
 
 import com.agroapp.platform.iam.domain.model.aggregates.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -11,5 +13,11 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
     boolean existsByIdentificator(String identificator);
+
+    /**
+     * Reads only the version column, so conditional requests can be answered without loading the aggregate.
+     */
+    @Query("SELECT u.version FROM User u WHERE u.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
 }
 
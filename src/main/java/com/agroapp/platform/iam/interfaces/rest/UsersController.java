@@ -3,11 +3,14 @@ package com.agroapp.platform.iam.interfaces.rest;
 import com.agroapp.platform.iam.domain.model.commands.DeleteUserCommand;
 import com.agroapp.platform.iam.domain.model.queries.GetUserByEmailQuery;
 import com.agroapp.platform.iam.domain.model.queries.GetUserByIdQuery;
+import com.agroapp.platform.iam.domain.model.queries.GetUserVersionByIdQuery;
 import com.agroapp.platform.geolocation.domain.services.LocationService;
 import com.agroapp.platform.iam.domain.services.UserCommandService;
 import com.agroapp.platform.iam.domain.services.UserQueryService;
 import com.agroapp.platform.iam.interfaces.rest.resources.*;
 import com.agroapp.platform.iam.interfaces.rest.transform.*;
+import com.agroapp.platform.shared.interfaces.rest.transform.EntityTagAssembler;
+import com.agroapp.platform.shared.infrastructure.web.ClientIpResolver;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -18,6 +21,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/v1/users")
@@ -59,7 +63,7 @@ public class UsersController {
     public ResponseEntity<UserResource> signUp(@RequestBody SignUpUserResource resource,
                                               HttpServletRequest request) {
         // Capture client IP address
-        String ipAddress = getClientIpAddress(request);
+        String ipAddress = ClientIpResolver.resolve(request);
 
         // Resolve location from IP using geolocation service
         String location = locationService.resolveLocationFromIp(ipAddress);
@@ -74,34 +78,6 @@ public class UsersController {
         return new ResponseEntity<>(userResource, HttpStatus.CREATED);
     }
 
-    /**
-     * Extracts the client's public IP address from the HTTP request.
-     * Handles various proxy headers (X-Forwarded-For, X-Real-IP, etc.)
-     *
-     * @param request The HTTP servlet request
-     * @return The client's IP address
-     */
-    private String getClientIpAddress(HttpServletRequest request) {
-        String ipAddress = request.getHeader("X-Forwarded-For");
-        if (ipAddress == null || ipAddress.isEmpty() || "unknown".equalsIgnoreCase(ipAddress)) {
-            ipAddress = request.getHeader("X-Real-IP");
-        }
-        if (ipAddress == null || ipAddress.isEmpty() || "unknown".equalsIgnoreCase(ipAddress)) {
-            ipAddress = request.getHeader("Proxy-Client-IP");
-        }
-        if (ipAddress == null || ipAddress.isEmpty() || "unknown".equalsIgnoreCase(ipAddress)) {
-            ipAddress = request.getHeader("WL-Proxy-Client-IP");
-        }
-        if (ipAddress == null || ipAddress.isEmpty() || "unknown".equalsIgnoreCase(ipAddress)) {
-            ipAddress = request.getRemoteAddr();
-        }
-        // If multiple IPs in X-Forwarded-For, take the first one
-        if (ipAddress != null && ipAddress.contains(",")) {
-            ipAddress = ipAddress.split(",")[0].trim();
-        }
-        return ipAddress;
-    }
-
     @PostMapping("/sign-in")
     public ResponseEntity<AuthenticatedUserResource> signIn(@RequestBody SignInUserResource resource) {
         var command = SignInCommandFromResourceAssembler.toCommandFromResource(resource);
@@ -117,8 +93,21 @@ public class UsersController {
         return ResponseEntity.ok(authenticatedUserResource);
     }
 
+    /**
+     * Gets a user by its ID.
+     * Sends ETag "{id}-{version}" and answers 304 when If-None-Match still matches.
+     */
     @GetMapping("/{id}")
-    public ResponseEntity<UserResource> getUserById(@PathVariable Long id) {
+    public ResponseEntity<UserResource> getUserById(@PathVariable Long id, WebRequest webRequest) {
+        var version = userQueryService.handle(new GetUserVersionByIdQuery(id));
+        if (version.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        // Answer 304 from the version column alone when the client copy is current
+        if (webRequest.checkNotModified(EntityTagAssembler.toEntityTag(id, version.get()))) {
+            return null;
+        }
+
         var query = new GetUserByIdQuery(id);
         var user = userQueryService.handle(query);
         if (user.isEmpty()) {
@@ -155,7 +144,7 @@ public class UsersController {
 
     @GetMapping("/debug-ip")
     public ResponseEntity<String> debugIp(HttpServletRequest request) {
-        String ip = getClientIpAddress(request);
+        String ip = ClientIpResolver.resolve(request);
         // Llama al servicio para ver qué respondería la API sin crear usuario
         String location = locationService.resolveLocationFromIp(ip);
 
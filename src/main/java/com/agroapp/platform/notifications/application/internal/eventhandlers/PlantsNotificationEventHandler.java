@@ -0,0 +1,90 @@
+package com.agroapp.platform.notifications.application.internal.eventhandlers;
+
+import com.agroapp.platform.notifications.domain.model.valueobjects.CropFieldStatusNotification;
+import com.agroapp.platform.notifications.domain.model.valueobjects.TaskNotification;
+import com.agroapp.platform.notifications.infrastructure.sse.SseSubscriberRegistry;
+import com.agroapp.platform.plants.domain.model.events.CropFieldStatusChangedEvent;
+import com.agroapp.platform.plants.domain.model.events.TaskCreatedEvent;
+import com.agroapp.platform.plants.domain.model.events.TaskDueSoonEvent;
+import com.agroapp.platform.plants.domain.model.events.TaskRescheduledEvent;
+import com.agroapp.platform.plants.domain.model.projections.FieldSummary;
+import com.agroapp.platform.plants.domain.model.queries.GetCropFieldByIdQuery;
+import com.agroapp.platform.plants.domain.model.queries.GetFieldSummaryByIdQuery;
+import com.agroapp.platform.plants.domain.model.queries.GetTaskByIdQuery;
+import com.agroapp.platform.plants.domain.model.valueobjects.CropFieldStatus;
+import com.agroapp.platform.plants.domain.services.CropFieldQueryService;
+import com.agroapp.platform.plants.domain.services.FieldQueryService;
+import com.agroapp.platform.plants.domain.services.TaskQueryService;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Optional;
+
+/**
+ * Event handler for task and crop field events from the Plants bounded context.
+ * Pushes them to the field owner's open notification streams once the change is committed.
+ * Nothing is looked up while no client is connected.
+ */
+@Component
+public class PlantsNotificationEventHandler {
+
+    private final SseSubscriberRegistry sseSubscriberRegistry;
+    private final FieldQueryService fieldQueryService;
+    private final TaskQueryService taskQueryService;
+    private final CropFieldQueryService cropFieldQueryService;
+
+    public PlantsNotificationEventHandler(SseSubscriberRegistry sseSubscriberRegistry,
+                                          FieldQueryService fieldQueryService,
+                                          TaskQueryService taskQueryService,
+                                          CropFieldQueryService cropFieldQueryService) {
+        this.sseSubscriberRegistry = sseSubscriberRegistry;
+        this.fieldQueryService = fieldQueryService;
+        this.taskQueryService = taskQueryService;
+        this.cropFieldQueryService = cropFieldQueryService;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(TaskCreatedEvent event) {
+        if (!sseSubscriberRegistry.hasSubscribers()) {
+            return;
+        }
+        findOwner(event.getFieldId()).ifPresent(userId -> sseSubscriberRegistry.publish(userId, "task-created",
+                new TaskNotification(event.getTaskId(), event.getFieldId(), event.getDescription(), event.getDueDate())));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(TaskRescheduledEvent event) {
+        if (!sseSubscriberRegistry.hasSubscribers()) {
+            return;
+        }
+        taskQueryService.handle(new GetTaskByIdQuery(event.getTaskId()))
+                .ifPresent(task -> findOwner(task.getFieldId()).ifPresent(userId -> sseSubscriberRegistry.publish(userId, "task-rescheduled",
+                        new TaskNotification(task.getId(), task.getFieldId(), task.getDescription(), event.getDueDate()))));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(TaskDueSoonEvent event) {
+        if (!sseSubscriberRegistry.hasSubscribers()) {
+            return;
+        }
+        findOwner(event.getFieldId()).ifPresent(userId -> sseSubscriberRegistry.publish(userId, "task-due-soon",
+                new TaskNotification(event.getTaskId(), event.getFieldId(), event.getDescription(), event.getDueDate())));
+    }
+
+    /**
+     * Only a change to Critical is pushed; other status changes reach clients through sync.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(CropFieldStatusChangedEvent event) {
+        if (event.getStatus() != CropFieldStatus.Critical || !sseSubscriberRegistry.hasSubscribers()) {
+            return;
+        }
+        cropFieldQueryService.handle(new GetCropFieldByIdQuery(event.getCropFieldId()))
+                .ifPresent(cropField -> findOwner(cropField.getFieldId()).ifPresent(userId -> sseSubscriberRegistry.publish(userId, "crop-field-critical",
+                        new CropFieldStatusNotification(cropField.getId(), cropField.getFieldId(), cropField.getCrop(), event.getStatus().name()))));
+    }
+
+    private Optional<Long> findOwner(Long fieldId) {
+        return fieldQueryService.handle(new GetFieldSummaryByIdQuery(fieldId)).map(FieldSummary::getUserId);
+    }
+}
@@ -0,0 +1,12 @@
+package com.agroapp.platform.notifications.domain.model.valueobjects;
+
+/**
+ * Payload of the notification about a crop field status change.
+ */
+public record CropFieldStatusNotification(
+        Long cropFieldId,
+        Long fieldId,
+        String crop,
+        String status
+) {
+}
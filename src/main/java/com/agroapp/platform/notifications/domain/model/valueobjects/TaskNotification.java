@@ -0,0 +1,14 @@
+package com.agroapp.platform.notifications.domain.model.valueobjects;
+
+import java.time.LocalDateTime;
+
+/**
+ * Payload of the notifications about a task (created, rescheduled, due soon).
+ */
+public record TaskNotification(
+        Long taskId,
+        Long fieldId,
+        String description,
+        LocalDateTime dueDate
+) {
+}
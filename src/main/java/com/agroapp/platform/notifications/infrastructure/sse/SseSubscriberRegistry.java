@@ -0,0 +1,176 @@
+package com.agroapp.platform.notifications.infrastructure.sse;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Registry of the open Server-Sent Events connections, by user.
+ * Publishing never blocks: a message is put into each subscriber's bounded buffer and the
+ * subscriber is drained on a virtual thread, one drain at a time per connection. A subscriber
+ * whose buffer is full (a client not reading) is disconnected; clients reconnect and catch up
+ * through the sync endpoint. Idle connections hold no thread, only the emitter and a small buffer.
+ * Heartbeat comments keep proxies from closing idle connections and detect dead clients.
+ */
+@Component
+public class SseSubscriberRegistry {
+
+    private final ConcurrentHashMap<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger connectionCount = new AtomicInteger();
+    private final ExecutorService deliveryExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final long timeoutMillis;
+    private final int bufferCapacity;
+    private final Counter disconnectedSlowSubscribers;
+
+    /**
+     * @param meterRegistry Registry the connection gauge and slow subscriber counter are published to
+     * @param timeout How long a connection stays open before the client has to reconnect
+     * @param bufferCapacity Maximum number of undelivered messages per connection
+     */
+    public SseSubscriberRegistry(MeterRegistry meterRegistry,
+                                 @Value("${notifications.sse.timeout:PT30M}") Duration timeout,
+                                 @Value("${notifications.sse.buffer-capacity:32}") int bufferCapacity) {
+        this.timeoutMillis = timeout.toMillis();
+        this.bufferCapacity = bufferCapacity;
+        Gauge.builder("notifications.sse.connections", connectionCount, AtomicInteger::get)
+                .description("Open Server-Sent Events connections")
+                .register(meterRegistry);
+        this.disconnectedSlowSubscribers = Counter.builder("notifications.sse.slow.disconnected")
+                .description("Connections closed because their buffer was full")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Opens a connection for a user.
+     *
+     * @param userId ID of the user receiving the notifications
+     * @return The emitter to return from the controller
+     */
+    public SseEmitter subscribe(Long userId) {
+        var subscriber = new Subscriber(userId, new SseEmitter(timeoutMillis), new ArrayBlockingQueue<>(bufferCapacity));
+        // Adding and removing go through compute, so a set is never dropped while a subscriber is being added to it
+        subscribers.compute(userId, (id, userSubscribers) -> {
+            var updated = userSubscribers != null ? userSubscribers : ConcurrentHashMap.<Subscriber>newKeySet();
+            updated.add(subscriber);
+            return updated;
+        });
+        connectionCount.incrementAndGet();
+
+        subscriber.emitter().onCompletion(() -> remove(subscriber));
+        subscriber.emitter().onTimeout(() -> remove(subscriber));
+        subscriber.emitter().onError(error -> remove(subscriber));
+        // Sends the response headers right away, so the client knows the stream is open
+        offer(subscriber, Message.HEARTBEAT);
+        return subscriber.emitter();
+    }
+
+    /**
+     * @return true if at least one connection is open, so publishers can skip the work otherwise
+     */
+    public boolean hasSubscribers() {
+        return connectionCount.get() > 0;
+    }
+
+    /**
+     * Sends an event to every open connection of a user.
+     *
+     * @param userId ID of the user
+     * @param name Event name (the SSE "event" field)
+     * @param data Event payload, serialized as JSON
+     */
+    public void publish(Long userId, String name, Object data) {
+        var userSubscribers = subscribers.get(userId);
+        if (userSubscribers == null) {
+            return;
+        }
+        var message = new Message(name, data);
+        for (Subscriber subscriber : userSubscribers) {
+            offer(subscriber, message);
+        }
+    }
+
+    @Scheduled(fixedRateString = "${notifications.sse.heartbeat-interval:PT25S}")
+    public void sendHeartbeats() {
+        subscribers.values().forEach(userSubscribers -> userSubscribers.forEach(subscriber -> offer(subscriber, Message.HEARTBEAT)));
+    }
+
+    private void offer(Subscriber subscriber, Message message) {
+        if (!subscriber.buffer().offer(message)) {
+            disconnectedSlowSubscribers.increment();
+            remove(subscriber);
+            subscriber.emitter().complete();
+            return;
+        }
+        if (subscriber.draining().compareAndSet(false, true)) {
+            deliveryExecutor.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        do {
+            Message message;
+            while ((message = subscriber.buffer().poll()) != null) {
+                try {
+                    subscriber.emitter().send(message.toEvent());
+                } catch (IOException | IllegalStateException ex) {
+                    // Client gone: leave the draining flag set so nothing is scheduled for it anymore
+                    remove(subscriber);
+                    subscriber.buffer().clear();
+                    return;
+                }
+            }
+            subscriber.draining().set(false);
+            // A message offered between the last poll and the reset would otherwise wait for the next offer
+        } while (!subscriber.buffer().isEmpty() && subscriber.draining().compareAndSet(false, true));
+    }
+
+    private void remove(Subscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.userId(), (id, userSubscribers) -> {
+            if (userSubscribers.remove(subscriber)) {
+                connectionCount.decrementAndGet();
+            }
+            return userSubscribers.isEmpty() ? null : userSubscribers;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.values().forEach(userSubscribers -> userSubscribers.forEach(subscriber -> subscriber.emitter().complete()));
+        deliveryExecutor.shutdownNow();
+    }
+
+    private record Subscriber(Long userId, SseEmitter emitter, ArrayBlockingQueue<Message> buffer, AtomicBoolean draining) {
+        Subscriber(Long userId, SseEmitter emitter, ArrayBlockingQueue<Message> buffer) {
+            this(userId, emitter, buffer, new AtomicBoolean());
+        }
+    }
+
+    /**
+     * A queued event. Built into an SSE event per connection, since event builders cannot be sent twice.
+     */
+    private record Message(String name, Object data) {
+        static final Message HEARTBEAT = new Message(null, null);
+
+        SseEmitter.SseEventBuilder toEvent() {
+            if (this == HEARTBEAT) {
+                return SseEmitter.event().comment("heartbeat");
+            }
+            return SseEmitter.event().name(name).data(data);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.agroapp.platform.notifications.interfaces.rest;
+
+import com.agroapp.platform.notifications.infrastructure.sse.SseSubscriberRegistry;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * REST Controller for the notification stream.
+ * Replaces polling of tasks and crop fields: clients keep one Server-Sent Events connection open
+ * and receive task-created, task-rescheduled, task-due-soon and crop-field-critical events.
+ */
+@RestController
+@RequestMapping("/api/v1/notifications")
+@Tag(name = "Notifications", description = "Push notifications over Server-Sent Events")
+public class NotificationsController {
+
+    private final SseSubscriberRegistry sseSubscriberRegistry;
+
+    public NotificationsController(SseSubscriberRegistry sseSubscriberRegistry) {
+        this.sseSubscriberRegistry = sseSubscriberRegistry;
+    }
+
+    /**
+     * Opens the notification stream of a user.
+     * GET /api/v1/notifications/stream?userId={userId}
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Open the notification stream", description = "Server-Sent Events stream of the user's task and crop field notifications. " +
+            "Heartbeat comments are sent periodically; after a reconnect, missed changes can be fetched from the sync endpoint.")
+    public SseEmitter stream(@RequestParam Long userId) {
+        return sseSubscriberRegistry.subscribe(userId);
+    }
+}
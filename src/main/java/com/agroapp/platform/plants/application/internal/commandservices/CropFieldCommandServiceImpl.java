@@ -3,23 +3,49 @@ package com.agroapp.platform.plants.application.internal.commandservices;
 import com.agroapp.platform.plants.domain.model.commands.CreateCropFieldCommand;
 import com.agroapp.platform.plants.domain.model.commands.UpdateCropFieldCommand;
 import com.agroapp.platform.plants.domain.model.commands.DeleteCropFieldCommand;
+import com.agroapp.platform.plants.domain.model.commands.UpdateCropFieldStatusCommand;
 import com.agroapp.platform.plants.domain.model.entities.CropField;
+import com.agroapp.platform.plants.domain.model.entities.Tombstone;
+import com.agroapp.platform.plants.domain.model.events.CropFieldStatusChangedEvent;
+import com.agroapp.platform.plants.domain.model.projections.CropFieldStatusUpdate;
+import com.agroapp.platform.plants.domain.model.valueobjects.SyncEntityType;
 import com.agroapp.platform.plants.domain.services.CropFieldCommandService;
 import com.agroapp.platform.plants.infrastructure.persistence.jpa.repositories.CropFieldRepository;
+import com.agroapp.platform.plants.infrastructure.persistence.jpa.repositories.FieldRepository;
+import com.agroapp.platform.plants.infrastructure.persistence.jpa.repositories.TombstoneRepository;
+import com.agroapp.platform.shared.infrastructure.outbox.OutboxRecorder;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Date;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
 public class CropFieldCommandServiceImpl implements CropFieldCommandService {
 
     private final CropFieldRepository cropFieldRepository;
+    private final FieldRepository fieldRepository;
+    private final TombstoneRepository tombstoneRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final OutboxRecorder outboxRecorder;
 
-    public CropFieldCommandServiceImpl(CropFieldRepository cropFieldRepository) {
+    public CropFieldCommandServiceImpl(CropFieldRepository cropFieldRepository, FieldRepository fieldRepository,
+                                       TombstoneRepository tombstoneRepository, ApplicationEventPublisher eventPublisher,
+                                       OutboxRecorder outboxRecorder) {
         this.cropFieldRepository = cropFieldRepository;
+        this.fieldRepository = fieldRepository;
+        this.tombstoneRepository = tombstoneRepository;
+        this.eventPublisher = eventPublisher;
+        this.outboxRecorder = outboxRecorder;
     }
 
+    /**
+     * Creates a CropField and bumps the version of its Field, whose representation references it.
+     */
     @Override
+    @Transactional
     public Optional<CropField> handle(CreateCropFieldCommand command) {
         CropField cropField = new CropField(
                 command.fieldId(),
@@ -33,6 +59,7 @@ public class CropFieldCommandServiceImpl implements CropFieldCommandService {
         );
 
         CropField savedCropField = cropFieldRepository.save(cropField);
+        fieldRepository.incrementVersion(savedCropField.getFieldId());
         return Optional.of(savedCropField);
     }
 
@@ -55,15 +82,45 @@ public class CropFieldCommandServiceImpl implements CropFieldCommandService {
         }
 
         CropField updatedCropField = cropFieldRepository.save(cropField);
+        if (command.status() != null) {
+            eventPublisher.publishEvent(new CropFieldStatusChangedEvent(this, updatedCropField.getId(), updatedCropField.getStatus()));
+        }
         return Optional.of(updatedCropField);
     }
 
+    /**
+     * Changes only the status of a CropField with a single UPDATE, without loading the entity.
+     *
+     * @return The written columns, or empty if the crop field does not exist
+     */
+    @Override
+    @Transactional
+    public Optional<CropFieldStatusUpdate> handle(UpdateCropFieldStatusCommand command) {
+        if (command.status() == null) {
+            throw new IllegalArgumentException("Status cannot be null");
+        }
+        Date updatedAt = new Date();
+        if (cropFieldRepository.updateStatus(command.cropFieldId(), command.status(), updatedAt) == 0) {
+            return Optional.empty();
+        }
+        outboxRecorder.recordUpdate(CropField.class, command.cropFieldId(), Map.of("status", command.status(), "updatedAt", updatedAt));
+        eventPublisher.publishEvent(new CropFieldStatusChangedEvent(this, command.cropFieldId(), command.status()));
+        return Optional.of(new CropFieldStatusUpdate(command.cropFieldId(), command.status(), updatedAt));
+    }
+
+    /**
+     * Deletes a CropField and records a tombstone, so syncing clients remove it as well.
+     */
     @Override
+    @Transactional
     public void handle(DeleteCropFieldCommand command) {
-        if (!cropFieldRepository.existsById(command.id())) {
+        Optional<CropField> cropFieldOptional = cropFieldRepository.findById(command.id());
+        if (cropFieldOptional.isEmpty()) {
             throw new RuntimeException("CropField with id " + command.id() + " not found");
         }
-        cropFieldRepository.deleteById(command.id());
+        tombstoneRepository.save(new Tombstone(SyncEntityType.CROP_FIELD, command.id(), cropFieldOptional.get().getFieldId()));
+        cropFieldRepository.delete(cropFieldOptional.get());
+        fieldRepository.incrementVersion(cropFieldOptional.get().getFieldId());
     }
 }
 
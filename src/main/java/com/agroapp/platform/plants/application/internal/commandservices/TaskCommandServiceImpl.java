@@ -5,35 +5,95 @@ import com.agroapp.platform.plants.domain.model.commands.*;
 import com.agroapp.platform.plants.domain.model.commands.CreateTaskCommand;
 import com.agroapp.platform.plants.domain.model.commands.DeleteTaskCommand;
 import com.agroapp.platform.plants.domain.model.commands.UpdateTaskCommand;
+import com.agroapp.platform.plants.domain.model.entities.TaskOccurrenceException;
+import com.agroapp.platform.plants.domain.model.entities.Tombstone;
+import com.agroapp.platform.plants.domain.model.events.TaskCreatedEvent;
+import com.agroapp.platform.plants.domain.model.events.TaskRescheduledEvent;
+import com.agroapp.platform.plants.domain.model.projections.TaskDueDateUpdate;
+import com.agroapp.platform.plants.domain.model.valueobjects.RecurrenceRule;
+import com.agroapp.platform.plants.domain.model.valueobjects.SyncEntityType;
+import com.agroapp.platform.plants.domain.model.valueobjects.TaskOccurrence;
 import com.agroapp.platform.plants.domain.services.TaskCommandService;
+import com.agroapp.platform.plants.infrastructure.persistence.jpa.repositories.FieldRepository;
+import com.agroapp.platform.plants.infrastructure.persistence.jpa.repositories.TaskOccurrenceExceptionRepository;
 import com.agroapp.platform.plants.infrastructure.persistence.jpa.repositories.TaskRepository;
+import com.agroapp.platform.plants.infrastructure.persistence.jpa.repositories.TombstoneRepository;
+import com.agroapp.platform.shared.domain.exceptions.VersionConflictException;
+import com.agroapp.platform.shared.infrastructure.outbox.OutboxRecorder;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 
+/**
+ * Implementation of TaskCommandService.
+ * A Field's representation lists its task ids, so every change to the set of tasks of a field
+ * also bumps that field's version (and therefore its ETag).
+ * Creating and rescheduling a task publish domain events (delivered after commit to listeners).
+ * Changes to single occurrences of a recurring task are stored as occurrence exceptions, and bump the versions
+ * of the task and its field like any other change to the task.
+ * Tasks written by a bulk UPDATE are recorded in the outbox here, since the UPDATE bypasses the persistence context.
+ */
 @Service
 public class TaskCommandServiceImpl implements TaskCommandService {
 
     private final TaskRepository taskRepository;
+    private final FieldRepository fieldRepository;
+    private final TombstoneRepository tombstoneRepository;
+    private final TaskOccurrenceExceptionRepository taskOccurrenceExceptionRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final OutboxRecorder outboxRecorder;
 
-    public TaskCommandServiceImpl(TaskRepository taskRepository) {
+    public TaskCommandServiceImpl(TaskRepository taskRepository, FieldRepository fieldRepository,
+                                  TombstoneRepository tombstoneRepository,
+                                  TaskOccurrenceExceptionRepository taskOccurrenceExceptionRepository,
+                                  ApplicationEventPublisher eventPublisher,
+                                  OutboxRecorder outboxRecorder) {
         this.taskRepository = taskRepository;
+        this.fieldRepository = fieldRepository;
+        this.tombstoneRepository = tombstoneRepository;
+        this.taskOccurrenceExceptionRepository = taskOccurrenceExceptionRepository;
+        this.eventPublisher = eventPublisher;
+        this.outboxRecorder = outboxRecorder;
     }
 
     @Override
+    @Transactional
     public Optional<Task> handle(CreateTaskCommand command) {
         Task task = new Task(
                 command.fieldId(),
                 command.description(),
-                command.dueDate()
+                command.dueDate(),
+                command.recurrenceIntervalDays() != null
+                        ? new RecurrenceRule(command.recurrenceIntervalDays(), command.recurrenceUntil())
+                        : null
         );
 
         Task savedTask = taskRepository.save(task);
+        fieldRepository.incrementVersion(savedTask.getFieldId());
+        eventPublisher.publishEvent(new TaskCreatedEvent(this, savedTask.getId(), savedTask.getFieldId(),
+                savedTask.getDescription(), savedTask.getDueDate()));
         return Optional.of(savedTask);
     }
 
+    /**
+     * Updates a task.
+     * With an expected version (If-Match) the task is written by a single version-checked UPDATE
+     * instead of being loaded and saved back.
+     *
+     * @throws VersionConflictException if the task is no longer at the expected version
+     */
     @Override
+    @Transactional
     public Optional<Task> handle(UpdateTaskCommand command) {
+        if (command.expectedVersion() != null) {
+            return Optional.of(updateIfVersionMatches(command));
+        }
+
         Optional<Task> taskOptional = taskRepository.findById(command.taskId());
 
         if (taskOptional.isEmpty()) {
@@ -41,17 +101,168 @@ public class TaskCommandServiceImpl implements TaskCommandService {
         }
 
         Task task = taskOptional.get();
+        Long previousFieldId = task.getFieldId();
         task.update(command.fieldId(), command.description(), command.dueDate());
         Task updatedTask = taskRepository.save(task);
+        if (!previousFieldId.equals(updatedTask.getFieldId())) {
+            reassigned(updatedTask.getId(), previousFieldId, updatedTask.getFieldId());
+        }
         return Optional.of(updatedTask);
     }
 
+    private Task updateIfVersionMatches(UpdateTaskCommand command) {
+        if (command.fieldId() == null) {
+            throw new IllegalArgumentException("Task must be associated with a field (fieldId cannot be null)");
+        }
+
+        // Read before the UPDATE; it is only used if the version check passes, so the task cannot have moved in between
+        Long previousFieldId = taskRepository.findFieldIdById(command.taskId()).orElse(null);
+        int updated = taskRepository.updateIfVersionMatches(
+                command.taskId(),
+                command.expectedVersion(),
+                command.fieldId(),
+                command.description(),
+                command.dueDate(),
+                new Date()
+        );
+        if (updated == 0) {
+            if (!taskRepository.existsById(command.taskId())) {
+                throw new RuntimeException("Task not found");
+            }
+            throw new VersionConflictException("Task", command.taskId(), command.expectedVersion());
+        }
+        if (!command.fieldId().equals(previousFieldId)) {
+            reassigned(command.taskId(), previousFieldId, command.fieldId());
+        }
+        Task task = taskRepository.findById(command.taskId()).orElseThrow();
+        Map<String, Object> changes = new HashMap<>();
+        changes.put("fieldId", task.getFieldId());
+        changes.put("description", task.getDescription());
+        changes.put("dueDate", task.getDueDate());
+        changes.put("version", task.getVersion());
+        changes.put("updatedAt", task.getUpdatedAt());
+        outboxRecorder.recordUpdate(Task.class, task.getId(), changes);
+        return task;
+    }
+
+    /**
+     * Bumps the versions of both fields of a task moved to another field, and records a tombstone in the field
+     * it left: the sync of that field's owner (possibly another user) then drops the task.
+     */
+    private void reassigned(Long taskId, Long previousFieldId, Long fieldId) {
+        fieldRepository.incrementVersion(previousFieldId);
+        fieldRepository.incrementVersion(fieldId);
+        tombstoneRepository.save(new Tombstone(SyncEntityType.TASK, taskId, previousFieldId));
+    }
+
+    /**
+     * Changes only the due date of a task with a single UPDATE, without loading the aggregate.
+     * With an expected version (If-Match) the UPDATE is version-checked.
+     *
+     * @return The written columns, or empty if the task does not exist
+     * @throws VersionConflictException if the task is no longer at the expected version
+     */
+    @Override
+    @Transactional
+    public Optional<TaskDueDateUpdate> handle(RescheduleTaskCommand command) {
+        Date updatedAt = new Date();
+        int updated = taskRepository.updateDueDate(command.taskId(), command.expectedVersion(), command.dueDate(), updatedAt);
+        if (updated == 0) {
+            if (command.expectedVersion() != null && taskRepository.existsById(command.taskId())) {
+                throw new VersionConflictException("Task", command.taskId(), command.expectedVersion());
+            }
+            return Optional.empty();
+        }
+        // The UPDATE always bumps the version; read it back so the outbox and the entity tag carry it
+        Long version = taskRepository.findVersionById(command.taskId()).orElseThrow();
+        Map<String, Object> changes = new HashMap<>();
+        changes.put("dueDate", command.dueDate());
+        changes.put("version", version);
+        changes.put("updatedAt", updatedAt);
+        outboxRecorder.recordUpdate(Task.class, command.taskId(), changes);
+        eventPublisher.publishEvent(new TaskRescheduledEvent(this, command.taskId(), command.dueDate()));
+        return Optional.of(new TaskDueDateUpdate(command.taskId(), command.dueDate(), version, updatedAt));
+    }
+
+    /**
+     * Deletes a task and records a tombstone, so syncing clients remove it as well.
+     */
     @Override
+    @Transactional
     public void handle(DeleteTaskCommand command) {
-        if (!taskRepository.existsById(command.taskId())) {
+        Optional<Task> taskOptional = taskRepository.findById(command.taskId());
+        if (taskOptional.isEmpty()) {
             throw new RuntimeException("Task not found");
         }
-        taskRepository.deleteById(command.taskId());
+        Task task = taskOptional.get();
+        tombstoneRepository.save(new Tombstone(SyncEntityType.TASK, task.getId(), task.getFieldId()));
+        fieldRepository.incrementVersion(task.getFieldId());
+        taskOccurrenceExceptionRepository.deleteByTaskId(task.getId());
+        taskRepository.delete(task);
+    }
+
+    /**
+     * Completes, skips or moves one occurrence of a task by storing (or updating) its exception.
+     * An occurrence set back to scheduled at its rule date drops the exception.
+     * The task's version and updatedAt are bumped, so syncing clients, entity tags and the outbox see the change.
+     *
+     * @return The occurrence as it is now, or empty if the task does not exist
+     * @throws IllegalArgumentException if the task has no occurrence at the given date
+     */
+    @Override
+    @Transactional
+    public Optional<TaskOccurrence> handle(UpdateTaskOccurrenceCommand command) {
+        Optional<Task> taskOptional = taskRepository.findById(command.taskId());
+        if (taskOptional.isEmpty()) {
+            return Optional.empty();
+        }
+        Task task = taskOptional.get();
+        if (!task.isOccurrence(command.occurrenceDate())) {
+            throw new IllegalArgumentException("Task " + task.getId() + " has no occurrence at " + command.occurrenceDate());
+        }
+
+        var exception = taskOccurrenceExceptionRepository
+                .findByTaskIdAndOccurrenceDate(task.getId(), command.occurrenceDate())
+                .map(existing -> existing.update(command.status(), command.dueDate()))
+                .orElseGet(() -> new TaskOccurrenceException(task.getId(), command.occurrenceDate(),
+                        command.status(), command.dueDate()));
+        if (exception.matchesRule()) {
+            if (exception.getId() != null) {
+                taskOccurrenceExceptionRepository.delete(exception);
+            }
+        } else {
+            taskOccurrenceExceptionRepository.save(exception);
+        }
+
+        Date updatedAt = new Date();
+        taskRepository.touch(task.getId(), updatedAt);
+        fieldRepository.incrementVersion(task.getFieldId());
+        outboxRecorder.recordUpdate(Task.class, task.getId(), Map.of(
+                "version", taskRepository.findVersionById(task.getId()).orElseThrow(), "updatedAt", updatedAt));
+        return Optional.of(new TaskOccurrence(task.getId(), task.getFieldId(), task.getDescription(),
+                exception.getOccurrenceDate(), exception.getDueDate(), exception.getStatus()));
+    }
+
+    /**
+     * Moves the next due date of the tasks whose next occurrence has passed to their first occurrence at
+     * or after now. Only those tasks are read, and their versions are left as they are.
+     *
+     * @return The number of tasks moved forward
+     */
+    @Override
+    @Transactional
+    public int handle(AdvanceTaskNextDueDatesCommand command) {
+        int advanced = 0;
+        for (Task task : taskRepository.findByNextDueDateBefore(command.now())) {
+            advanced += taskRepository.advanceNextDueDate(task.getId(), task.getNextDueDate(),
+                    task.firstOccurrenceFrom(command.now()));
+        }
+        return advanced;
     }
-}
 
+    @Override
+    @Transactional
+    public int handle(InitializeTaskNextDueDatesCommand command) {
+        return taskRepository.initializeNextDueDates(command.now());
+    }
+}
@@ -0,0 +1,214 @@
+package com.agroapp.platform.plants.application.internal.jobs;
+
+import com.agroapp.platform.plants.domain.model.entities.CropField;
+import com.agroapp.platform.plants.domain.model.events.CropFieldStatusChangedEvent;
+import com.agroapp.platform.plants.domain.model.projections.CropHealthInput;
+import com.agroapp.platform.plants.domain.model.valueobjects.CropFieldStatus;
+import com.agroapp.platform.plants.domain.model.valueobjects.CropHealthThresholds;
+import com.agroapp.platform.plants.domain.model.valueobjects.CropHealthThresholds.ActivityThreshold;
+import com.agroapp.platform.plants.infrastructure.persistence.jpa.repositories.CropFieldRepository;
+import com.agroapp.platform.shared.infrastructure.outbox.OutboxRecorder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Background job that derives the status of every crop field from the maintenance history of its field:
+ * a crop needs attention, or is critical, once the days since its last watering, fertilization or pest
+ * control reach the thresholds of its crop (plants.crop-health.*), and is healthy otherwise.
+ * The id range of the crop fields is split into chunks that are evaluated in parallel, each in its own
+ * transaction: one range query reads the chunk, the statuses are computed in memory, and the rows that
+ * change are written with one bulk UPDATE per status transition and recorded in the outbox. A chunk that
+ * fails is logged and evaluated again on the next run. Rows scanned and changed are counted in
+ * {@code crop.health.rows.scanned} and {@code crop.health.rows.changed}, and every run is timed in
+ * {@code crop.health.evaluation}.
+ */
+@Component
+@EnableConfigurationProperties(CropHealthProperties.class)
+public class CropHealthEvaluationJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(CropHealthEvaluationJob.class);
+
+    /**
+     * Thresholds used for the activities configured neither for the crop nor in plants.crop-health.defaults.
+     */
+    private static final CropHealthThresholds FALLBACK_THRESHOLDS = new CropHealthThresholds(
+            new ActivityThreshold(3, 7), new ActivityThreshold(30, 60), new ActivityThreshold(30, 90));
+
+    private final CropFieldRepository cropFieldRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final OutboxRecorder outboxRecorder;
+    private final boolean enabled;
+    private final int chunkSize;
+    private final CropHealthThresholds defaultThresholds;
+    private final Map<String, CropHealthThresholds> cropThresholds = new HashMap<>();
+    private final ExecutorService executor;
+    private final Counter rowsScanned;
+    private final Map<CropFieldStatus, Counter> rowsChanged = new EnumMap<>(CropFieldStatus.class);
+    private final Timer evaluationTimer;
+
+    public CropHealthEvaluationJob(CropFieldRepository cropFieldRepository,
+                                   TransactionTemplate transactionTemplate,
+                                   ApplicationEventPublisher eventPublisher,
+                                   OutboxRecorder outboxRecorder,
+                                   CropHealthProperties properties,
+                                   MeterRegistry meterRegistry) {
+        this.cropFieldRepository = cropFieldRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.outboxRecorder = outboxRecorder;
+        this.enabled = properties.enabled();
+        this.chunkSize = properties.chunkSize();
+        this.defaultThresholds = properties.defaults() == null
+                ? FALLBACK_THRESHOLDS
+                : properties.defaults().withDefaults(FALLBACK_THRESHOLDS);
+        if (properties.crops() != null) {
+            properties.crops().forEach((crop, thresholds) ->
+                    cropThresholds.put(crop.toLowerCase(Locale.ROOT), thresholds.withDefaults(defaultThresholds)));
+        }
+
+        var threadCount = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(properties.parallelism(), runnable -> {
+            var thread = new Thread(runnable, "crop-health-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.rowsScanned = Counter.builder("crop.health.rows.scanned")
+                .description("Crop fields read by the crop health evaluation")
+                .register(meterRegistry);
+        for (CropFieldStatus status : CropFieldStatus.values()) {
+            rowsChanged.put(status, Counter.builder("crop.health.rows.changed")
+                    .description("Crop fields whose status was changed by the crop health evaluation")
+                    .tag("status", status.name())
+                    .register(meterRegistry));
+        }
+        this.evaluationTimer = Timer.builder("crop.health.evaluation")
+                .description("Duration of a full crop health evaluation")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Evaluates every crop field once. The run waits for its chunks, so it keeps one thread of the scheduling
+     * pool (spring.task.scheduling.pool.size) busy while the other jobs keep running on the rest.
+     */
+    @Scheduled(initialDelayString = "${plants.crop-health.initial-delay:PT2M}",
+            fixedDelayString = "${plants.crop-health.delay:PT1H}")
+    public void evaluateAll() {
+        if (!enabled) {
+            return;
+        }
+        Long minId = cropFieldRepository.findMinId().orElse(null);
+        Long maxId = cropFieldRepository.findMaxId().orElse(null);
+        if (minId == null || maxId == null) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        Timer.Sample sample = Timer.start();
+        var scanned = new AtomicInteger();
+        var changed = new AtomicInteger();
+        var failed = new AtomicInteger();
+
+        List<CompletableFuture<Void>> chunks = new ArrayList<>();
+        for (long fromId = minId; fromId <= maxId; fromId += chunkSize) {
+            long chunkFromId = fromId;
+            long chunkToId = Math.min(fromId + chunkSize - 1, maxId);
+            chunks.add(CompletableFuture.runAsync(() -> {
+                try {
+                    ChunkResult result = transactionTemplate.execute(status -> evaluateChunk(chunkFromId, chunkToId, now));
+                    scanned.addAndGet(result.scanned());
+                    changed.addAndGet(result.changed());
+                } catch (RuntimeException ex) {
+                    failed.incrementAndGet();
+                    logger.error("Crop health evaluation of ids {}..{} failed, it will be retried on the next run: {}",
+                            chunkFromId, chunkToId, ex.getMessage());
+                }
+            }, executor));
+        }
+        CompletableFuture.allOf(chunks.toArray(CompletableFuture[]::new)).join();
+
+        long elapsed = sample.stop(evaluationTimer);
+        logger.info("Crop health evaluation scanned {} crop fields and changed {} in {} ms ({} of {} chunks failed)",
+                scanned.get(), changed.get(), elapsed / 1_000_000, failed.get(), chunks.size());
+    }
+
+    private ChunkResult evaluateChunk(long fromId, long toId, LocalDateTime now) {
+        List<CropHealthInput> inputs = cropFieldRepository.findHealthInputsBetween(fromId, toId);
+        rowsScanned.increment(inputs.size());
+
+        Map<Transition, List<Long>> idsByTransition = new HashMap<>();
+        for (CropHealthInput input : inputs) {
+            CropFieldStatus status = thresholdsFor(input.getCrop())
+                    .evaluate(input.getWatered(), input.getFertilized(), input.getPests(), now);
+            CropFieldStatus current = input.getStatus() == null ? CropFieldStatus.Healthy : input.getStatus();
+            if (status != current) {
+                idsByTransition.computeIfAbsent(new Transition(current, status), key -> new ArrayList<>())
+                        .add(input.getId());
+            }
+        }
+
+        int changed = 0;
+        Date updatedAt = new Date();
+        for (var entry : idsByTransition.entrySet()) {
+            Transition transition = entry.getKey();
+            int updated = cropFieldRepository.updateStatusByIdIn(entry.getValue(), transition.from(), transition.to(), updatedAt);
+            rowsChanged.get(transition.to()).increment(updated);
+            changed += updated;
+            // Listeners only act after the commit
+            for (Long id : updatedIds(entry.getValue(), updated, transition.to(), updatedAt)) {
+                outboxRecorder.recordUpdate(CropField.class, id, Map.of("status", transition.to(), "updatedAt", updatedAt));
+                eventPublisher.publishEvent(new CropFieldStatusChangedEvent(this, id, transition.to()));
+            }
+        }
+        return new ChunkResult(inputs.size(), changed);
+    }
+
+    /**
+     * Ids, among the ones a bulk UPDATE was run for, of the rows it actually changed: rows whose status was
+     * changed concurrently were skipped by its expected-status condition, and must not be announced.
+     */
+    private List<Long> updatedIds(List<Long> ids, int updated, CropFieldStatus status, Date updatedAt) {
+        return updated == ids.size() ? ids : cropFieldRepository.findIdsUpdatedTo(ids, status, updatedAt);
+    }
+
+    private CropHealthThresholds thresholdsFor(String crop) {
+        if (cropThresholds.isEmpty() || crop == null) {
+            return defaultThresholds;
+        }
+        return cropThresholds.getOrDefault(crop.toLowerCase(Locale.ROOT), defaultThresholds);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private record Transition(CropFieldStatus from, CropFieldStatus to) {
+    }
+
+    private record ChunkResult(int scanned, int changed) {
+    }
+}
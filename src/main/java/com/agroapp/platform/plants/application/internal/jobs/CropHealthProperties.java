@@ -0,0 +1,24 @@
+package com.agroapp.platform.plants.application.internal.jobs;
+
+import com.agroapp.platform.plants.domain.model.valueobjects.CropHealthThresholds;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.Map;
+
+/**
+ * Crop health evaluation settings (plants.crop-health.*).
+ *
+ * @param enabled Whether crop fields are evaluated at all
+ * @param chunkSize Width of the id range evaluated (and updated) in one transaction
+ * @param parallelism Chunks evaluated at the same time, each holding a database connection
+ * @param defaults Thresholds of crops without thresholds of their own
+ * @param crops Thresholds by crop name (case-insensitive); activities left out use the defaults
+ */
+@ConfigurationProperties("plants.crop-health")
+public record CropHealthProperties(@DefaultValue("true") boolean enabled,
+                                   @DefaultValue("2000") int chunkSize,
+                                   @DefaultValue("4") int parallelism,
+                                   CropHealthThresholds defaults,
+                                   Map<String, CropHealthThresholds> crops) {
+}
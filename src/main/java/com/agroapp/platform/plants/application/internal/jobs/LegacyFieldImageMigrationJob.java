@@ -0,0 +1,173 @@
+package com.agroapp.platform.plants.application.internal.jobs;
+
+import com.agroapp.platform.plants.domain.model.aggregates.Field;
+import com.agroapp.platform.plants.domain.model.projections.LegacyFieldImage;
+import com.agroapp.platform.plants.infrastructure.persistence.jpa.repositories.FieldRepository;
+import com.agroapp.platform.shared.domain.model.entities.JobCheckpoint;
+import com.agroapp.platform.shared.domain.model.entities.StoredFile;
+import com.agroapp.platform.shared.infrastructure.outbox.OutboxRecorder;
+import com.agroapp.platform.shared.infrastructure.persistence.jpa.repositories.JobCheckpointRepository;
+import com.agroapp.platform.shared.infrastructure.storage.FileStorageService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Background job that moves legacy inline Base64 images out of the fields table.
+ * Each run handles one id-ordered chunk: the chunk is read through a streaming cursor,
+ * every image is decoded into a file through the FileStorageService, and the column is
+ * replaced by the file reference. The chunk and its checkpoint commit together, so a
+ * restart resumes after the last committed chunk. The delay between runs throttles the job;
+ * once it has caught up it only checks for new legacy rows every idle interval.
+ */
+@Component
+public class LegacyFieldImageMigrationJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(LegacyFieldImageMigrationJob.class);
+    static final String JOB_NAME = "legacy-field-image-migration";
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final FieldRepository fieldRepository;
+    private final JobCheckpointRepository jobCheckpointRepository;
+    private final FileStorageService fileStorageService;
+    private final TransactionTemplate transactionTemplate;
+    private final OutboxRecorder outboxRecorder;
+    private final boolean enabled;
+    private final int chunkSize;
+    private final String urlPrefix;
+    private final Duration idleInterval;
+
+    private volatile Instant idleUntil = Instant.MIN;
+
+    public LegacyFieldImageMigrationJob(FieldRepository fieldRepository,
+                                        JobCheckpointRepository jobCheckpointRepository,
+                                        FileStorageService fileStorageService,
+                                        TransactionTemplate transactionTemplate,
+                                        OutboxRecorder outboxRecorder,
+                                        @Value("${plants.image-migration.enabled:true}") boolean enabled,
+                                        @Value("${plants.image-migration.chunk-size:20}") int chunkSize,
+                                        @Value("${plants.image-migration.idle-interval:PT10M}") Duration idleInterval,
+                                        @Value("${file.public-url-prefix:/uploads/}") String urlPrefix) {
+        this.fieldRepository = fieldRepository;
+        this.jobCheckpointRepository = jobCheckpointRepository;
+        this.fileStorageService = fileStorageService;
+        this.transactionTemplate = transactionTemplate;
+        this.outboxRecorder = outboxRecorder;
+        this.enabled = enabled;
+        this.chunkSize = chunkSize;
+        this.urlPrefix = urlPrefix;
+        this.idleInterval = idleInterval;
+    }
+
+    /**
+     * Migrates the next chunk of legacy images, if any are left.
+     */
+    @Scheduled(initialDelayString = "${plants.image-migration.initial-delay:PT1M}",
+            fixedDelayString = "${plants.image-migration.delay:PT2S}")
+    public void migrateNextChunk() {
+        if (!enabled || Instant.now().isBefore(idleUntil)) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> migrateChunk());
+        } catch (RuntimeException ex) {
+            logger.error("Legacy field image migration chunk failed, it will be retried: {}", ex.getMessage());
+        }
+    }
+
+    private void migrateChunk() {
+        JobCheckpoint checkpoint = jobCheckpointRepository.findByJobName(JOB_NAME)
+                .orElseGet(() -> new JobCheckpoint(JOB_NAME));
+
+        long lastId = checkpoint.getLastProcessedId();
+        int read = 0;
+        List<StoredFile> storedFiles = new ArrayList<>();
+        List<Long> fieldIds = new ArrayList<>();
+
+        // No other statement may run while the streaming cursor is open, so files are only written here
+        try (Stream<LegacyFieldImage> images = fieldRepository.streamLegacyImagesAfter(lastId, Limit.of(chunkSize))) {
+            for (LegacyFieldImage image : (Iterable<LegacyFieldImage>) images::iterator) {
+                read++;
+                lastId = image.getId();
+                try {
+                    storedFiles.add(toStoredFile(image));
+                    fieldIds.add(image.getId());
+                } catch (IllegalArgumentException | FileStorageService.FileStorageException ex) {
+                    logger.warn("Field {} has an image that cannot be migrated, leaving it in place: {}", image.getId(), ex.getMessage());
+                }
+            }
+        }
+
+        fileStorageService.catalogueFiles(storedFiles);
+        Date now = new Date();
+        for (int i = 0; i < fieldIds.size(); i++) {
+            String imageUrl = urlPrefix + storedFiles.get(i).getFilename();
+            fieldRepository.updateImageUrl(fieldIds.get(i), imageUrl, now);
+            outboxRecorder.recordUpdate(Field.class, fieldIds.get(i), Map.of("imageUrl", imageUrl, "updatedAt", now));
+        }
+
+        checkpoint.advance(lastId, fieldIds.size());
+        jobCheckpointRepository.save(checkpoint);
+        if (read < chunkSize) {
+            idleUntil = Instant.now().plus(idleInterval);
+            logger.info("Legacy field image migration caught up, {} images migrated so far", checkpoint.getProcessedCount());
+        }
+    }
+
+    private StoredFile toStoredFile(LegacyFieldImage image) {
+        String value = image.getImageUrl().trim();
+
+        // Accept both data URIs (data:image/png;base64,...) and bare Base64; the declared type is not trusted
+        if (value.startsWith("data:")) {
+            int commaIndex = value.indexOf(',');
+            if (commaIndex == -1) {
+                throw new IllegalArgumentException("Malformed data URI");
+            }
+            value = value.substring(commaIndex + 1);
+        }
+
+        // Line breaks are allowed, any other character outside the Base64 alphabet rejects the value
+        byte[] content = Base64.getDecoder().decode(WHITESPACE.matcher(value).replaceAll(""));
+        String contentType = detectImageType(content);
+        if (contentType == null) {
+            throw new IllegalArgumentException("Decoded content is not a PNG, JPEG, GIF or WebP image");
+        }
+        return fileStorageService.writeFile(content, contentType, image.getUserId());
+    }
+
+    /**
+     * Detects common image formats from their magic bytes.
+     *
+     * @return The content type, or null when the content is not a recognized image
+     */
+    private static String detectImageType(byte[] content) {
+        if (content.length >= 4 && (content[0] & 0xff) == 0x89 && content[1] == 'P' && content[2] == 'N' && content[3] == 'G') {
+            return "image/png";
+        }
+        if (content.length >= 3 && (content[0] & 0xff) == 0xff && (content[1] & 0xff) == 0xd8 && (content[2] & 0xff) == 0xff) {
+            return "image/jpeg";
+        }
+        if (content.length >= 4 && content[0] == 'G' && content[1] == 'I' && content[2] == 'F' && content[3] == '8') {
+            return "image/gif";
+        }
+        if (content.length >= 12 && content[0] == 'R' && content[1] == 'I' && content[2] == 'F' && content[3] == 'F'
+                && content[8] == 'W' && content[9] == 'E' && content[10] == 'B' && content[11] == 'P') {
+            return "image/webp";
+        }
+        return null;
+    }
+}
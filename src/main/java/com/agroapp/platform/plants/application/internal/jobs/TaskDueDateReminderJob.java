@@ -0,0 +1,80 @@
+package com.agroapp.platform.plants.application.internal.jobs;
+
+import com.agroapp.platform.plants.domain.model.commands.AdvanceTaskNextDueDatesCommand;
+import com.agroapp.platform.plants.domain.model.commands.InitializeTaskNextDueDatesCommand;
+import com.agroapp.platform.plants.domain.model.events.TaskDueSoonEvent;
+import com.agroapp.platform.plants.domain.model.queries.GetTaskOccurrencesDueBetweenQuery;
+import com.agroapp.platform.plants.domain.model.valueobjects.TaskOccurrence;
+import com.agroapp.platform.plants.domain.model.valueobjects.TaskOccurrenceStatus;
+import com.agroapp.platform.plants.domain.services.TaskCommandService;
+import com.agroapp.platform.plants.domain.services.TaskQueryService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Background job that publishes a TaskDueSoonEvent when a task comes within the reminder lead time
+ * of its due date. Each run covers the due dates between the end of the previous window and
+ * now + lead time, so every task (every occurrence of a recurring task that is still scheduled)
+ * is reminded once per instance. The window starts at startup:
+ * tasks that entered the lead time while the application was down are not reminded, and neither are
+ * tasks created already inside it (their task-created notification carries the due date).
+ * Only the tasks due in the window are read: after each run the next due date of the tasks whose occurrences
+ * have passed is moved forward, which relies on the lead time being longer than the delay between runs.
+ */
+@Component
+public class TaskDueDateReminderJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskDueDateReminderJob.class);
+
+    private final TaskQueryService taskQueryService;
+    private final TaskCommandService taskCommandService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Duration leadTime;
+
+    private LocalDateTime windowEnd;
+    private boolean initialized;
+
+    public TaskDueDateReminderJob(TaskQueryService taskQueryService,
+                                  TaskCommandService taskCommandService,
+                                  ApplicationEventPublisher eventPublisher,
+                                  @Value("${plants.task-reminders.lead-time:PT1H}") Duration leadTime) {
+        this.taskQueryService = taskQueryService;
+        this.taskCommandService = taskCommandService;
+        this.eventPublisher = eventPublisher;
+        this.leadTime = leadTime;
+        this.windowEnd = LocalDateTime.now().plus(leadTime);
+    }
+
+    /**
+     * Publishes reminders for the tasks that entered the lead time since the previous run.
+     */
+    @Scheduled(fixedDelayString = "${plants.task-reminders.delay:PT1M}")
+    public void remindDueTasks() {
+        LocalDateTime now = LocalDateTime.now();
+        if (!initialized) {
+            // Tasks stored before the next due date existed
+            int updated = taskCommandService.handle(new InitializeTaskNextDueDatesCommand(now));
+            if (updated > 0) {
+                logger.info("Initialized the next due date of {} tasks", updated);
+            }
+            initialized = true;
+        }
+        LocalDateTime from = windowEnd;
+        LocalDateTime to = now.plus(leadTime);
+        for (TaskOccurrence occurrence : taskQueryService.handle(new GetTaskOccurrencesDueBetweenQuery(from, to))) {
+            if (occurrence.status() == TaskOccurrenceStatus.SCHEDULED) {
+                eventPublisher.publishEvent(new TaskDueSoonEvent(this, occurrence.taskId(), occurrence.fieldId(),
+                        occurrence.description(), occurrence.dueDate()));
+            }
+        }
+        windowEnd = to;
+        taskCommandService.handle(new AdvanceTaskNextDueDatesCommand(now));
+    }
+}
@@ -0,0 +1,48 @@
+package com.agroapp.platform.plants.application.internal.jobs;
+
+import com.agroapp.platform.plants.infrastructure.persistence.jpa.repositories.TombstoneRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Date;
+
+/**
+ * Background job that deletes the tombstones older than sync.tombstone-retention.
+ * Clients syncing from a cursor older than that are sent a full resync instead (see SyncQueryServiceImpl).
+ */
+@Component
+public class TombstoneCleanupJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(TombstoneCleanupJob.class);
+
+    private final TombstoneRepository tombstoneRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration retention;
+
+    public TombstoneCleanupJob(TombstoneRepository tombstoneRepository,
+                               TransactionTemplate transactionTemplate,
+                               @Value("${sync.tombstone-retention:P30D}") Duration retention) {
+        this.tombstoneRepository = tombstoneRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.retention = retention;
+    }
+
+    /**
+     * Deletes the tombstones recorded longer ago than the retention.
+     */
+    @Scheduled(initialDelayString = "${sync.tombstone-cleanup-initial-delay:PT15M}", fixedDelayString = "${sync.tombstone-cleanup-delay:PT1H}")
+    public void deleteExpired() {
+        Date before = new Date(System.currentTimeMillis() - retention.toMillis());
+        try {
+            Integer deleted = transactionTemplate.execute(status -> tombstoneRepository.deleteCreatedBefore(before));
+            logger.info("Deleted {} tombstones recorded before {}", deleted, before);
+        } catch (RuntimeException ex) {
+            logger.error("Tombstone cleanup failed, it will be retried: {}", ex.getMessage());
+        }
+    }
+}
@@ -8,11 +8,13 @@ import com.agroapp.platform.plants.domain.model.queries.GetCropFieldByIdQuery;
 import com.agroapp.platform.plants.domain.services.CropFieldQueryService;
 import com.agroapp.platform.plants.infrastructure.persistence.jpa.repositories.CropFieldRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
 
 @Service
+@Transactional(readOnly = true)
 public class CropFieldQueryServiceImpl implements CropFieldQueryService {
 
     private final CropFieldRepository cropFieldRepository;
@@ -35,5 +37,17 @@ public class CropFieldQueryServiceImpl implements CropFieldQueryService {
     public Optional<CropField> handle(GetCropFieldByFieldIdQuery query) {
         return cropFieldRepository.findByFieldId(query.fieldId());
     }
-}
 
+    @Override
+    public List<CropField> handle(GetCropFieldsByFieldIdsQuery query) {
+        if (query.fieldIds().isEmpty()) {
+            return List.of();
+        }
+        return cropFieldRepository.findByFieldIdIn(query.fieldIds());
+    }
+
+    @Override
+    public List<CropField> handle(GetCropFieldsByIdsQuery query) {
+        return cropFieldRepository.findAllById(query.cropFieldIds());
+    }
+}
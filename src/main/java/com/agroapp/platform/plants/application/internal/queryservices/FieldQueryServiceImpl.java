@@ -1,18 +1,23 @@
 package com.agroapp.platform.plants.application.internal.queryservices;
 
 import com.agroapp.platform.plants.domain.model.aggregates.Field;
+import com.agroapp.platform.plants.domain.model.projections.FarmReportRow;
+import com.agroapp.platform.plants.domain.model.projections.FieldSummary;
 import com.agroapp.platform.plants.domain.model.queries.*;
 import com.agroapp.platform.plants.domain.model.queries.GetAllFieldsQuery;
 import com.agroapp.platform.plants.domain.model.queries.GetFieldByIdQuery;
 import com.agroapp.platform.plants.domain.model.queries.GetFieldsByUserIdQuery;
 import com.agroapp.platform.plants.domain.services.FieldQueryService;
 import com.agroapp.platform.plants.infrastructure.persistence.jpa.repositories.FieldRepository;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
 
 @Service
+@Transactional(readOnly = true)
 public class FieldQueryServiceImpl implements FieldQueryService {
 
     private final FieldRepository fieldRepository;
@@ -35,5 +40,25 @@ public class FieldQueryServiceImpl implements FieldQueryService {
     public List<Field> handle(GetFieldsByUserIdQuery query) {
         return fieldRepository.findByUserId(query.userId());
     }
-}
 
+    @Override
+    public Optional<FieldSummary> handle(GetFieldSummaryByIdQuery query) {
+        return fieldRepository.findSummaryById(query.fieldId());
+    }
+
+    @Override
+    public List<FieldSummary> handle(GetFieldSummariesByUserIdQuery query) {
+        return fieldRepository.findSummariesByUserId(query.userId());
+    }
+
+    @Override
+    public Optional<Long> handle(GetFieldVersionByIdQuery query) {
+        return fieldRepository.findVersionById(query.fieldId());
+    }
+
+    @Override
+    public List<FarmReportRow> handle(GetFarmReportByUserIdQuery query) {
+        List<Long> fieldIds = fieldRepository.findIdsByUserIdAfter(query.userId(), query.afterFieldId(), Limit.of(query.fieldLimit()));
+        return fieldIds.isEmpty() ? List.of() : fieldRepository.findFarmReportByFieldIds(fieldIds);
+    }
+}
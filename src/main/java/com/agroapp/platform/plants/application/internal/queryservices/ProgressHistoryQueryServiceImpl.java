@@ -8,11 +8,13 @@ import com.agroapp.platform.plants.domain.model.queries.GetProgressHistoryByIdQu
 import com.agroapp.platform.plants.domain.services.ProgressHistoryQueryService;
 import com.agroapp.platform.plants.infrastructure.persistence.jpa.repositories.ProgressHistoryRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
 
 @Service
+@Transactional(readOnly = true)
 public class ProgressHistoryQueryServiceImpl implements ProgressHistoryQueryService {
 
     private final ProgressHistoryRepository progressHistoryRepository;
@@ -35,5 +37,17 @@ public class ProgressHistoryQueryServiceImpl implements ProgressHistoryQueryServ
     public Optional<ProgressHistory> handle(GetProgressHistoryByFieldIdQuery query) {
         return progressHistoryRepository.findByFieldId(query.fieldId());
     }
-}
 
+    @Override
+    public List<ProgressHistory> handle(GetProgressHistoriesByFieldIdsQuery query) {
+        if (query.fieldIds().isEmpty()) {
+            return List.of();
+        }
+        return progressHistoryRepository.findByFieldIdIn(query.fieldIds());
+    }
+
+    @Override
+    public List<ProgressHistory> handle(GetProgressHistoriesByIdsQuery query) {
+        return progressHistoryRepository.findAllById(query.progressHistoryIds());
+    }
+}
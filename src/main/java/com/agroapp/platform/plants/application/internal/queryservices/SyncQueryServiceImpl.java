@@ -0,0 +1,74 @@
+package com.agroapp.platform.plants.application.internal.queryservices;
+
+import com.agroapp.platform.plants.domain.model.queries.GetChangesSinceQuery;
+import com.agroapp.platform.plants.domain.model.valueobjects.ChangeSet;
+import com.agroapp.platform.plants.domain.services.SyncQueryService;
+import com.agroapp.platform.plants.infrastructure.persistence.jpa.repositories.*;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.Date;
+
+/**
+ * Implementation of SyncQueryService.
+ * Every lookup is a range scan on an (owner, updatedAt) index, so the work done is proportional
+ * to the number of changes rather than to the number of records of the user.
+ * All lookups run in one read-only transaction and therefore see the same snapshot.
+ * Tombstones are kept for sync.tombstone-retention: a cursor older than that may have missed deletions,
+ * so it gets every record of the user, flagged as a full resync.
+ */
+@Service
+@Transactional(readOnly = true)
+public class SyncQueryServiceImpl implements SyncQueryService {
+
+    private final FieldRepository fieldRepository;
+    private final TaskRepository taskRepository;
+    private final CropFieldRepository cropFieldRepository;
+    private final ProgressHistoryRepository progressHistoryRepository;
+    private final TombstoneRepository tombstoneRepository;
+    private final Duration cursorOverlap;
+    private final Duration tombstoneRetention;
+
+    /**
+     * @param cursorOverlap How far behind the current time the returned cursor is set. updatedAt is
+     *                      assigned before commit, so a transaction still running when the changes are
+     *                      read can commit rows older than "now"; replicas may also lag. Changes inside
+     *                      the overlap are sent again on the next sync (clients apply them idempotently).
+     * @param tombstoneRetention How long deletions are kept (see TombstoneCleanupJob)
+     */
+    public SyncQueryServiceImpl(FieldRepository fieldRepository,
+                                TaskRepository taskRepository,
+                                CropFieldRepository cropFieldRepository,
+                                ProgressHistoryRepository progressHistoryRepository,
+                                TombstoneRepository tombstoneRepository,
+                                @Value("${sync.cursor-overlap:PT10S}") Duration cursorOverlap,
+                                @Value("${sync.tombstone-retention:P30D}") Duration tombstoneRetention) {
+        this.fieldRepository = fieldRepository;
+        this.taskRepository = taskRepository;
+        this.cropFieldRepository = cropFieldRepository;
+        this.progressHistoryRepository = progressHistoryRepository;
+        this.tombstoneRepository = tombstoneRepository;
+        this.cursorOverlap = cursorOverlap;
+        this.tombstoneRetention = tombstoneRetention;
+    }
+
+    @Override
+    public ChangeSet handle(GetChangesSinceQuery query) {
+        // Taken before reading, so nothing committed after the reads can fall behind the cursor
+        long now = System.currentTimeMillis();
+        var cursor = new Date(now - cursorOverlap.toMillis());
+        boolean fullResync = query.since() != null && query.since().getTime() < now - tombstoneRetention.toMillis();
+        var since = query.since() != null && !fullResync ? query.since() : new Date(0);
+        return new ChangeSet(
+                cursor,
+                fullResync,
+                fieldRepository.findByUserIdAndUpdatedAtAfter(query.userId(), since),
+                taskRepository.findByUserIdUpdatedAfter(query.userId(), since),
+                cropFieldRepository.findByUserIdUpdatedAfter(query.userId(), since),
+                progressHistoryRepository.findByUserIdUpdatedAfter(query.userId(), since),
+                tombstoneRepository.findByUserIdDeletedAfter(query.userId(), since)
+        );
+    }
+}
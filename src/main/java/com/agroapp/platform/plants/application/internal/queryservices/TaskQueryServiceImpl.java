@@ -1,24 +1,37 @@
 package com.agroapp.platform.plants.application.internal.queryservices;
 
 import com.agroapp.platform.plants.domain.model.aggregates.Task;
+import com.agroapp.platform.plants.domain.model.entities.TaskOccurrenceException;
 import com.agroapp.platform.plants.domain.model.queries.*;
 import com.agroapp.platform.plants.domain.model.queries.GetAllTasksQuery;
 import com.agroapp.platform.plants.domain.model.queries.GetTaskByIdQuery;
 import com.agroapp.platform.plants.domain.model.queries.GetTasksByFieldIdQuery;
+import com.agroapp.platform.plants.domain.model.valueobjects.TaskOccurrence;
 import com.agroapp.platform.plants.domain.services.TaskQueryService;
+import com.agroapp.platform.plants.infrastructure.persistence.jpa.repositories.TaskOccurrenceExceptionRepository;
 import com.agroapp.platform.plants.infrastructure.persistence.jpa.repositories.TaskRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 @Service
+@Transactional(readOnly = true)
 public class TaskQueryServiceImpl implements TaskQueryService {
 
     private final TaskRepository taskRepository;
+    private final TaskOccurrenceExceptionRepository taskOccurrenceExceptionRepository;
 
-    public TaskQueryServiceImpl(TaskRepository taskRepository) {
+    public TaskQueryServiceImpl(TaskRepository taskRepository,
+                                TaskOccurrenceExceptionRepository taskOccurrenceExceptionRepository) {
         this.taskRepository = taskRepository;
+        this.taskOccurrenceExceptionRepository = taskOccurrenceExceptionRepository;
     }
 
     @Override
@@ -35,5 +48,66 @@ public class TaskQueryServiceImpl implements TaskQueryService {
     public List<Task> handle(GetTasksByFieldIdQuery query) {
         return taskRepository.findByFieldId(query.fieldId());
     }
-}
 
+    @Override
+    public Optional<Long> handle(GetTaskVersionByIdQuery query) {
+        return taskRepository.findVersionById(query.taskId());
+    }
+
+    @Override
+    public List<Task> handle(GetTasksByFieldIdsQuery query) {
+        if (query.fieldIds().isEmpty()) {
+            return List.of();
+        }
+        return taskRepository.findByFieldIdIn(query.fieldIds());
+    }
+
+    @Override
+    public List<Task> handle(GetTasksByIdsQuery query) {
+        return taskRepository.findAllById(query.taskIds());
+    }
+
+    @Override
+    public List<TaskOccurrence> handle(GetTaskOccurrencesByFieldIdQuery query) {
+        return occurrencesBetween(query.fieldId(), query.from(), query.to());
+    }
+
+    /**
+     * Every occurrence of an upcoming window is due at or after the next due date of its task, so the tasks are
+     * read by their next due date, plus the tasks with an occurrence moved into the window, both by index.
+     */
+    @Override
+    public List<TaskOccurrence> handle(GetTaskOccurrencesDueBetweenQuery query) {
+        Map<Long, Task> tasks = new LinkedHashMap<>();
+        taskRepository.findByNextDueDateBefore(query.to()).forEach(task -> tasks.put(task.getId(), task));
+        List<Long> movedTaskIds = taskOccurrenceExceptionRepository.findTaskIdsDueBetween(query.from(), query.to()).stream()
+                .filter(taskId -> !tasks.containsKey(taskId))
+                .toList();
+        if (!movedTaskIds.isEmpty()) {
+            taskRepository.findAllById(movedTaskIds).forEach(task -> tasks.put(task.getId(), task));
+        }
+        return expand(List.copyOf(tasks.values()), query.from(), query.to());
+    }
+
+    /**
+     * Expands the occurrences of a field in a window with two statements, whatever the number of occurrences:
+     * the tasks that may occur in it and the exceptions affecting it.
+     */
+    private List<TaskOccurrence> occurrencesBetween(Long fieldId, LocalDateTime from, LocalDateTime to) {
+        return expand(taskRepository.findWithOccurrencesBetween(fieldId, from, to), from, to);
+    }
+
+    private List<TaskOccurrence> expand(List<Task> tasks, LocalDateTime from, LocalDateTime to) {
+        if (tasks.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, List<TaskOccurrenceException>> exceptionsByTaskId = taskOccurrenceExceptionRepository
+                .findByTaskIdsBetween(tasks.stream().map(Task::getId).toList(), from, to).stream()
+                .collect(Collectors.groupingBy(TaskOccurrenceException::getTaskId));
+        return tasks.stream()
+                .flatMap(task -> task.occurrencesBetween(from, to,
+                        exceptionsByTaskId.getOrDefault(task.getId(), List.of())).stream())
+                .sorted(Comparator.comparing(TaskOccurrence::dueDate))
+                .toList();
+    }
+}
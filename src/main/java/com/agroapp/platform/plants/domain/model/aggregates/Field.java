@@ -1,6 +1,7 @@
 package com.agroapp.platform.plants.domain.model.aggregates;
 
 import com.agroapp.platform.shared.domain.model.aggregates.AuditableAbstractAggregateRoot;
+import com.agroapp.platform.shared.domain.model.annotations.PublishesChanges;
 import jakarta.persistence.*;
 import lombok.Getter;
 
@@ -12,15 +13,17 @@ import lombok.Getter;
  */
 @Entity
 @Getter
+@PublishesChanges
+@Table(indexes = @Index(columnList = "userId, updatedAt"))
 public class Field extends AuditableAbstractAggregateRoot<Field> {
 
     @Column(nullable = false)
     private Long userId;
 
     /**
-     * Image stored as Base64 encoded string.
-     * Uses @Lob (Large Object) to support very long text strings.
-     * In MySQL, this maps to LONGTEXT type which can store up to 4GB.
+     * Reference to the field image in file storage (e.g. /uploads/{filename}).
+     * Legacy rows may still hold a Base64 encoded image until the background migration moves it to a file,
+     * which is why the column keeps its @Lob (LONGTEXT) mapping.
      */
     @Lob
     @Column(columnDefinition = "LONGTEXT")
@@ -1,18 +1,37 @@
 package com.agroapp.platform.plants.domain.model.aggregates;
 
+import com.agroapp.platform.plants.domain.model.entities.TaskOccurrenceException;
+import com.agroapp.platform.plants.domain.model.valueobjects.RecurrenceRule;
+import com.agroapp.platform.plants.domain.model.valueobjects.TaskOccurrence;
+import com.agroapp.platform.plants.domain.model.valueobjects.TaskOccurrenceStatus;
 import com.agroapp.platform.shared.domain.model.aggregates.AuditableAbstractAggregateRoot;
+import com.agroapp.platform.shared.domain.model.annotations.PublishesChanges;
 import jakarta.persistence.*;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Task Aggregate Root
  * Represents a task associated with a Field.
+ * A recurring task is one row with a recurrence rule: its occurrences are expanded for the window
+ * being read, and only the occurrences that differ from the rule are stored (TaskOccurrenceException).
  * Domain-driven design: encapsulates task management business logic.
  */
 @Entity
 @Getter
+@PublishesChanges(exclude = "nextDueDate")
+@Table(indexes = {
+        @Index(columnList = "fieldId, updatedAt"),
+        @Index(columnList = "dueDate"),
+        @Index(columnList = "nextDueDate")
+})
 public class Task extends AuditableAbstractAggregateRoot<Task> {
 
     @Column(nullable = false)
@@ -21,6 +40,19 @@ public class Task extends AuditableAbstractAggregateRoot<Task> {
     private String description;
     private LocalDateTime dueDate;
 
+    /**
+     * Recurrence rule, null for a one-off task.
+     */
+    @Embedded
+    private RecurrenceRule recurrence;
+
+    /**
+     * Lower bound of the due dates of the upcoming occurrences, null once the task has none left.
+     * Reset to the due date whenever the schedule changes and advanced as occurrences pass, so the
+     * tasks due in a coming window are found by index instead of expanding every recurring task.
+     */
+    private LocalDateTime nextDueDate;
+
     /**
      * Default constructor required by JPA.
      */
@@ -42,6 +74,23 @@ public class Task extends AuditableAbstractAggregateRoot<Task> {
         this.fieldId = fieldId;
         this.description = description;
         this.dueDate = dueDate;
+        this.nextDueDate = dueDate;
+    }
+
+    /**
+     * Creates a new recurring Task aggregate.
+     *
+     * @param fieldId The ID of the field this task is associated with
+     * @param description Description of the task
+     * @param dueDate Due date of the first occurrence
+     * @param recurrence Recurrence rule (null for a one-off task)
+     */
+    public Task(Long fieldId, String description, LocalDateTime dueDate, RecurrenceRule recurrence) {
+        this(fieldId, description, dueDate);
+        if (recurrence != null && dueDate == null) {
+            throw new IllegalArgumentException("A recurring task needs the due date of its first occurrence");
+        }
+        this.recurrence = recurrence;
     }
 
     /**
@@ -61,6 +110,7 @@ public class Task extends AuditableAbstractAggregateRoot<Task> {
         this.fieldId = fieldId;
         this.description = description;
         this.dueDate = dueDate;
+        this.nextDueDate = dueDate;
         return this;
     }
 
@@ -83,6 +133,7 @@ public class Task extends AuditableAbstractAggregateRoot<Task> {
      */
     public Task reschedule(LocalDateTime newDueDate) {
         this.dueDate = newDueDate;
+        this.nextDueDate = newDueDate;
         return this;
     }
 
@@ -119,5 +170,103 @@ public class Task extends AuditableAbstractAggregateRoot<Task> {
     public boolean belongsToField(Long fieldId) {
         return this.fieldId.equals(fieldId);
     }
-}
 
+    public boolean isRecurring() {
+        return recurrence != null;
+    }
+
+    /**
+     * Tells whether the task is due at the given date according to its rule.
+     *
+     * @param occurrenceDate The date to check
+     * @return true for the due date of a one-off task, or any due date of a recurring task's rule
+     */
+    public boolean isOccurrence(LocalDateTime occurrenceDate) {
+        if (dueDate == null || occurrenceDate == null || occurrenceDate.isBefore(dueDate)) {
+            return false;
+        }
+        if (recurrence == null) {
+            return occurrenceDate.equals(dueDate);
+        }
+        if (recurrence.until() != null && occurrenceDate.isAfter(recurrence.until())) {
+            return false;
+        }
+        long days = ChronoUnit.DAYS.between(dueDate, occurrenceDate);
+        return days % recurrence.intervalDays() == 0 && dueDate.plusDays(days).equals(occurrenceDate);
+    }
+
+    /**
+     * Finds the first due date of the rule at or after the given time (exceptions are not applied).
+     *
+     * @param from The earliest due date
+     * @return The due date, or null when the task has no occurrence left at or after it
+     */
+    public LocalDateTime firstOccurrenceFrom(LocalDateTime from) {
+        if (dueDate == null) {
+            return null;
+        }
+        if (!dueDate.isBefore(from)) {
+            return dueDate;
+        }
+        if (recurrence == null) {
+            return null;
+        }
+        long interval = recurrence.intervalDays();
+        LocalDateTime first = dueDate.plusDays(Math.ceilDiv(ChronoUnit.SECONDS.between(dueDate, from), interval * 86_400) * interval);
+        return recurrence.until() == null || !first.isAfter(recurrence.until()) ? first : null;
+    }
+
+    /**
+     * Expands the occurrences due in a window.
+     * The first occurrence of the window is computed directly, so the cost depends on the number of
+     * occurrences in the window and not on how long ago the task started.
+     *
+     * @param from Inclusive start of the window
+     * @param to Exclusive end of the window
+     * @param exceptions Stored exceptions of this task's occurrences (those without a matching occurrence are ignored)
+     * @return The occurrences whose effective due date is in the window (skipped ones left out), by due date
+     */
+    public List<TaskOccurrence> occurrencesBetween(LocalDateTime from, LocalDateTime to, List<TaskOccurrenceException> exceptions) {
+        List<TaskOccurrence> occurrences = new ArrayList<>();
+        if (dueDate == null) {
+            return occurrences;
+        }
+        Map<LocalDateTime, TaskOccurrenceException> exceptionsByDate = new HashMap<>();
+        for (TaskOccurrenceException exception : exceptions) {
+            if (exception.getTaskId().equals(getId()) && isOccurrence(exception.getOccurrenceDate())) {
+                exceptionsByDate.put(exception.getOccurrenceDate(), exception);
+            }
+        }
+
+        // Occurrences of the rule, except the ones that have an exception
+        if (recurrence == null) {
+            if (!dueDate.isBefore(from) && dueDate.isBefore(to) && !exceptionsByDate.containsKey(dueDate)) {
+                occurrences.add(toOccurrence(dueDate, dueDate, TaskOccurrenceStatus.SCHEDULED));
+            }
+        } else {
+            long interval = recurrence.intervalDays();
+            long first = dueDate.isBefore(from) ? Math.ceilDiv(ChronoUnit.SECONDS.between(dueDate, from), interval * 86_400) : 0;
+            for (LocalDateTime date = dueDate.plusDays(first * interval);
+                 date.isBefore(to) && (recurrence.until() == null || !date.isAfter(recurrence.until()));
+                 date = date.plusDays(interval)) {
+                if (!exceptionsByDate.containsKey(date)) {
+                    occurrences.add(toOccurrence(date, date, TaskOccurrenceStatus.SCHEDULED));
+                }
+            }
+        }
+
+        // Exceptions moved into (or kept in) the window
+        for (TaskOccurrenceException exception : exceptionsByDate.values()) {
+            if (exception.getStatus() != TaskOccurrenceStatus.SKIPPED
+                    && !exception.getDueDate().isBefore(from) && exception.getDueDate().isBefore(to)) {
+                occurrences.add(toOccurrence(exception.getOccurrenceDate(), exception.getDueDate(), exception.getStatus()));
+            }
+        }
+        occurrences.sort(Comparator.comparing(TaskOccurrence::dueDate));
+        return occurrences;
+    }
+
+    private TaskOccurrence toOccurrence(LocalDateTime occurrenceDate, LocalDateTime effectiveDueDate, TaskOccurrenceStatus status) {
+        return new TaskOccurrence(getId(), fieldId, description, occurrenceDate, effectiveDueDate, status);
+    }
+}
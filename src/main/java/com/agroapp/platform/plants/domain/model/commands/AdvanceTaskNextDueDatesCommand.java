@@ -0,0 +1,11 @@
+package com.agroapp.platform.plants.domain.model.commands;
+
+import java.time.LocalDateTime;
+
+/**
+ * @param now Time before which occurrences have passed; next due dates are moved to the first occurrence at or after it
+ */
+public record AdvanceTaskNextDueDatesCommand(
+        LocalDateTime now
+) {
+}
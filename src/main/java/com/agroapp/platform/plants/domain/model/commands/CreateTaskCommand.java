@@ -2,10 +2,15 @@ package com.agroapp.platform.plants.domain.model.commands;
 
 import java.time.LocalDateTime;
 
+/**
+ * @param recurrenceIntervalDays Days between occurrences, null for a one-off task
+ * @param recurrenceUntil Last possible due date of a recurring task (nullable)
+ */
 public record CreateTaskCommand(
         Long fieldId,
         String description,
-        LocalDateTime dueDate
+        LocalDateTime dueDate,
+        Integer recurrenceIntervalDays,
+        LocalDateTime recurrenceUntil
 ) {
 }
-
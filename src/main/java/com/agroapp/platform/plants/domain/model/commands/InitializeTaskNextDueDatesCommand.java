@@ -0,0 +1,11 @@
+package com.agroapp.platform.plants.domain.model.commands;
+
+import java.time.LocalDateTime;
+
+/**
+ * @param now Current time; tasks without occurrences at or after it are left without a next due date
+ */
+public record InitializeTaskNextDueDatesCommand(
+        LocalDateTime now
+) {
+}
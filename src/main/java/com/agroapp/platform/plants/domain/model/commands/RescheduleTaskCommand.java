@@ -0,0 +1,10 @@
+package com.agroapp.platform.plants.domain.model.commands;
+
+import java.time.LocalDateTime;
+
+public record RescheduleTaskCommand(
+        Long taskId,
+        LocalDateTime dueDate,
+        Long expectedVersion
+) {
+}
@@ -0,0 +1,9 @@
+package com.agroapp.platform.plants.domain.model.commands;
+
+import com.agroapp.platform.plants.domain.model.valueobjects.CropFieldStatus;
+
+public record UpdateCropFieldStatusCommand(
+        Long cropFieldId,
+        CropFieldStatus status
+) {
+}
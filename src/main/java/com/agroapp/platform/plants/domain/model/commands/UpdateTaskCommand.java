@@ -6,7 +6,8 @@ public record UpdateTaskCommand(
         Long taskId,
         Long fieldId,
         String description,
-        LocalDateTime dueDate
+        LocalDateTime dueDate,
+        Long expectedVersion
 ) {
 }
 
@@ -0,0 +1,17 @@
+package com.agroapp.platform.plants.domain.model.commands;
+
+import com.agroapp.platform.plants.domain.model.valueobjects.TaskOccurrenceStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * @param occurrenceDate Due date of the occurrence according to the task's rule
+ * @param dueDate New effective due date (null keeps the occurrence date)
+ */
+public record UpdateTaskOccurrenceCommand(
+        Long taskId,
+        LocalDateTime occurrenceDate,
+        TaskOccurrenceStatus status,
+        LocalDateTime dueDate
+) {
+}
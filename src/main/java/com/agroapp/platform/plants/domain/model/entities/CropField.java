@@ -1,6 +1,7 @@
 package com.agroapp.platform.plants.domain.model.entities;
 
 import com.agroapp.platform.plants.domain.model.valueobjects.CropFieldStatus;
+import com.agroapp.platform.shared.domain.model.annotations.PublishesChanges;
 import com.agroapp.platform.shared.domain.model.entities.AuditableModel;
 import jakarta.persistence.*;
 import lombok.Getter;
@@ -14,6 +15,8 @@ import java.time.LocalDateTime;
  */
 @Entity
 @Getter
+@PublishesChanges
+@Table(indexes = {@Index(columnList = "fieldId, updatedAt"), @Index(columnList = "updatedAt")})
 public class CropField extends AuditableModel {
 
     @Id
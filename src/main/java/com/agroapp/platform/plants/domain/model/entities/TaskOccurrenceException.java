@@ -0,0 +1,87 @@
+package com.agroapp.platform.plants.domain.model.entities;
+
+import com.agroapp.platform.plants.domain.model.valueobjects.TaskOccurrenceStatus;
+import com.agroapp.platform.shared.domain.model.annotations.PublishesChanges;
+import com.agroapp.platform.shared.domain.model.entities.AuditableModel;
+import jakarta.persistence.*;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * TaskOccurrenceException Entity
+ * Stores the one occurrence of a recurring task that differs from its rule: completed, skipped
+ * or moved to another due date. Occurrences without an exception are never stored.
+ */
+@Entity
+@Getter
+@PublishesChanges
+@Table(
+        uniqueConstraints = @UniqueConstraint(columnNames = {"taskId", "occurrenceDate"}),
+        indexes = @Index(columnList = "dueDate")
+)
+public class TaskOccurrenceException extends AuditableModel {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long taskId;
+
+    @Column(nullable = false)
+    private LocalDateTime occurrenceDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private TaskOccurrenceStatus status;
+
+    @Column(nullable = false)
+    private LocalDateTime dueDate;
+
+    /**
+     * Default constructor required by JPA.
+     */
+    public TaskOccurrenceException() {
+    }
+
+    /**
+     * Creates the exception of an occurrence.
+     *
+     * @param taskId ID of the recurring task
+     * @param occurrenceDate Due date given by the recurrence rule
+     * @param status Status of the occurrence
+     * @param dueDate Effective due date (null keeps the occurrence date)
+     */
+    public TaskOccurrenceException(Long taskId, LocalDateTime occurrenceDate, TaskOccurrenceStatus status, LocalDateTime dueDate) {
+        if (taskId == null || occurrenceDate == null) {
+            throw new IllegalArgumentException("Occurrence exception must have a task id and an occurrence date");
+        }
+        this.taskId = taskId;
+        this.occurrenceDate = occurrenceDate;
+        update(status, dueDate);
+    }
+
+    /**
+     * Changes the status and the effective due date of the occurrence.
+     *
+     * @param status Status of the occurrence
+     * @param dueDate Effective due date (null keeps the occurrence date)
+     * @return The updated exception (fluent interface)
+     */
+    public TaskOccurrenceException update(TaskOccurrenceStatus status, LocalDateTime dueDate) {
+        if (status == null) {
+            throw new IllegalArgumentException("Occurrence status cannot be null");
+        }
+        this.status = status;
+        this.dueDate = dueDate != null ? dueDate : occurrenceDate;
+        return this;
+    }
+
+    /**
+     * Tells whether the occurrence is exactly as its rule defines it, so the exception can be dropped.
+     */
+    public boolean matchesRule() {
+        return status == TaskOccurrenceStatus.SCHEDULED && dueDate.equals(occurrenceDate);
+    }
+}
@@ -0,0 +1,53 @@
+package com.agroapp.platform.plants.domain.model.entities;
+
+import com.agroapp.platform.plants.domain.model.valueobjects.SyncEntityType;
+import com.agroapp.platform.shared.domain.model.entities.AuditableModel;
+import jakarta.persistence.*;
+import lombok.Getter;
+
+/**
+ * Tombstone Entity
+ * Records the deletion of a record that belonged to a field, so offline clients syncing
+ * changes since a cursor learn about it. The creation time is the deletion time.
+ */
+@Entity
+@Getter
+@Table(indexes = {@Index(columnList = "fieldId, createdAt"), @Index(columnList = "createdAt")})
+public class Tombstone extends AuditableModel {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private SyncEntityType entityType;
+
+    @Column(nullable = false)
+    private Long entityId;
+
+    @Column(nullable = false)
+    private Long fieldId;
+
+    /**
+     * Default constructor required by JPA.
+     */
+    public Tombstone() {
+    }
+
+    /**
+     * Creates a tombstone for a deleted record.
+     *
+     * @param entityType Kind of the deleted record
+     * @param entityId ID of the deleted record
+     * @param fieldId ID of the field the record belonged to
+     */
+    public Tombstone(SyncEntityType entityType, Long entityId, Long fieldId) {
+        if (entityType == null || entityId == null || fieldId == null) {
+            throw new IllegalArgumentException("Tombstone must have an entity type, an entity id and a field id");
+        }
+        this.entityType = entityType;
+        this.entityId = entityId;
+        this.fieldId = fieldId;
+    }
+}
@@ -0,0 +1,21 @@
+package com.agroapp.platform.plants.domain.model.events;
+
+import com.agroapp.platform.plants.domain.model.valueobjects.CropFieldStatus;
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * Event triggered when the status of a crop field is set.
+ */
+@Getter
+public class CropFieldStatusChangedEvent extends ApplicationEvent {
+
+    private final Long cropFieldId;
+    private final CropFieldStatus status;
+
+    public CropFieldStatusChangedEvent(Object source, Long cropFieldId, CropFieldStatus status) {
+        super(source);
+        this.cropFieldId = cropFieldId;
+        this.status = status;
+    }
+}
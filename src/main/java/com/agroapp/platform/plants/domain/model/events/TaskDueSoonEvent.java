@@ -0,0 +1,26 @@
+package com.agroapp.platform.plants.domain.model.events;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+import java.time.LocalDateTime;
+
+/**
+ * Event triggered when a task enters the reminder window before its due date.
+ */
+@Getter
+public class TaskDueSoonEvent extends ApplicationEvent {
+
+    private final Long taskId;
+    private final Long fieldId;
+    private final String description;
+    private final LocalDateTime dueDate;
+
+    public TaskDueSoonEvent(Object source, Long taskId, Long fieldId, String description, LocalDateTime dueDate) {
+        super(source);
+        this.taskId = taskId;
+        this.fieldId = fieldId;
+        this.description = description;
+        this.dueDate = dueDate;
+    }
+}
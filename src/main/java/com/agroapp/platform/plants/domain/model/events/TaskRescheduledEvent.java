@@ -0,0 +1,22 @@
+package com.agroapp.platform.plants.domain.model.events;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+import java.time.LocalDateTime;
+
+/**
+ * Event triggered when the due date of a task is changed.
+ */
+@Getter
+public class TaskRescheduledEvent extends ApplicationEvent {
+
+    private final Long taskId;
+    private final LocalDateTime dueDate;
+
+    public TaskRescheduledEvent(Object source, Long taskId, LocalDateTime dueDate) {
+        super(source);
+        this.taskId = taskId;
+        this.dueDate = dueDate;
+    }
+}
@@ -0,0 +1,11 @@
+package com.agroapp.platform.plants.domain.model.projections;
+
+import com.agroapp.platform.plants.domain.model.valueobjects.CropFieldStatus;
+
+import java.util.Date;
+
+/**
+ * Columns written by a CropField status change, returned without loading the entity.
+ */
+public record CropFieldStatusUpdate(Long cropFieldId, CropFieldStatus status, Date updatedAt) {
+}
@@ -0,0 +1,18 @@
+package com.agroapp.platform.plants.domain.model.projections;
+
+import com.agroapp.platform.plants.domain.model.valueobjects.CropFieldStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection of a CropField joined with the ProgressHistory of its field.
+ * Carries only what the crop health evaluation reads.
+ */
+public interface CropHealthInput {
+    Long getId();
+    String getCrop();
+    CropFieldStatus getStatus();
+    LocalDateTime getWatered();
+    LocalDateTime getFertilized();
+    LocalDateTime getPests();
+}
@@ -0,0 +1,27 @@
+package com.agroapp.platform.plants.domain.model.projections;
+
+import com.agroapp.platform.plants.domain.model.valueobjects.CropFieldStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection of a Field joined with its CropField, ProgressHistory and one of its Tasks.
+ * The crop, activity and task columns are null when the field has none.
+ */
+public interface FarmReportRow {
+    Long getFieldId();
+    String getFieldName();
+    String getLocation();
+    String getFieldSize();
+    String getCrop();
+    CropFieldStatus getCropStatus();
+    LocalDateTime getPlantingDate();
+    LocalDateTime getHarvestDate();
+    LocalDateTime getWatered();
+    LocalDateTime getFertilized();
+    LocalDateTime getPests();
+    Long getTaskId();
+    String getTaskDescription();
+    LocalDateTime getTaskDueDate();
+    Integer getTaskRecurrenceIntervalDays();
+}
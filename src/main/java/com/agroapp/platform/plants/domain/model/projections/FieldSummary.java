@@ -0,0 +1,17 @@
+package com.agroapp.platform.plants.domain.model.projections;
+
+import java.util.Date;
+
+/**
+ * Projection of a Field without its image.
+ * Used when a client does not ask for imageUrl, so the LONGTEXT column is never selected.
+ */
+public interface FieldSummary {
+    Long getId();
+    Long getUserId();
+    String getName();
+    String getLocation();
+    String getFieldSize();
+    Date getCreatedAt();
+    Date getUpdatedAt();
+}
@@ -0,0 +1,11 @@
+package com.agroapp.platform.plants.domain.model.projections;
+
+/**
+ * Projection of a Field whose imageUrl still holds an inline Base64 image.
+ * Used by the legacy image migration to read only the columns it needs.
+ */
+public interface LegacyFieldImage {
+    Long getId();
+    Long getUserId();
+    String getImageUrl();
+}
@@ -0,0 +1,10 @@
+package com.agroapp.platform.plants.domain.model.projections;
+
+import java.time.LocalDateTime;
+import java.util.Date;
+
+/**
+ * Columns written by a Task reschedule, returned without loading the aggregate.
+ */
+public record TaskDueDateUpdate(Long taskId, LocalDateTime dueDate, Long version, Date updatedAt) {
+}
@@ -0,0 +1,12 @@
+package com.agroapp.platform.plants.domain.model.queries;
+
+import java.util.Date;
+
+/**
+ * Changes to the fields of a user (and their tasks, crop fields and progress) after a point in time.
+ *
+ * @param userId ID of the user owning the fields
+ * @param since Only changes after this time are returned
+ */
+public record GetChangesSinceQuery(Long userId, Date since) {
+}
@@ -0,0 +1,6 @@
+package com.agroapp.platform.plants.domain.model.queries;
+
+import java.util.List;
+
+public record GetCropFieldsByIdsQuery(List<Long> cropFieldIds) {
+}
@@ -0,0 +1,12 @@
+package com.agroapp.platform.plants.domain.model.queries;
+
+/**
+ * One batch of the report rows of a user's fields: one row per task, or a single row for a field without tasks.
+ * Fields are read in id order, so the next batch starts after the last field id of the previous one.
+ *
+ * @param userId ID of the user owning the fields
+ * @param afterFieldId Only fields with a greater id are included (0 for the first batch)
+ * @param fieldLimit Maximum number of fields in the batch
+ */
+public record GetFarmReportByUserIdQuery(Long userId, Long afterFieldId, int fieldLimit) {
+}
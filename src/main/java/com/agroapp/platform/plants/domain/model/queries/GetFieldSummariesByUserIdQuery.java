@@ -0,0 +1,4 @@
+package com.agroapp.platform.plants.domain.model.queries;
+
+public record GetFieldSummariesByUserIdQuery(Long userId) {
+}
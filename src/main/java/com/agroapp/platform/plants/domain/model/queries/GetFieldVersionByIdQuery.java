@@ -0,0 +1,7 @@
+package com.agroapp.platform.plants.domain.model.queries;
+
+/**
+ * Query to read only the current version of a Field, used to answer conditional requests.
+ */
+public record GetFieldVersionByIdQuery(Long fieldId) {
+}
@@ -0,0 +1,6 @@
+package com.agroapp.platform.plants.domain.model.queries;
+
+import java.util.List;
+
+public record GetProgressHistoriesByFieldIdsQuery(List<Long> fieldIds) {
+}
@@ -0,0 +1,10 @@
+package com.agroapp.platform.plants.domain.model.queries;
+
+import java.time.LocalDateTime;
+
+/**
+ * @param from Inclusive start of the window
+ * @param to Exclusive end of the window
+ */
+public record GetTaskOccurrencesByFieldIdQuery(Long fieldId, LocalDateTime from, LocalDateTime to) {
+}
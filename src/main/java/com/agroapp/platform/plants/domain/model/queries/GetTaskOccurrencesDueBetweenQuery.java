@@ -0,0 +1,13 @@
+package com.agroapp.platform.plants.domain.model.queries;
+
+import java.time.LocalDateTime;
+
+/**
+ * Occurrences of every task due in an upcoming window: occurrences due before the tasks' next due dates
+ * were last advanced are not returned.
+ *
+ * @param from Inclusive start of the window
+ * @param to Exclusive end of the window
+ */
+public record GetTaskOccurrencesDueBetweenQuery(LocalDateTime from, LocalDateTime to) {
+}
@@ -0,0 +1,7 @@
+package com.agroapp.platform.plants.domain.model.queries;
+
+/**
+ * Query to read only the current version of a Task, used to answer conditional requests.
+ */
+public record GetTaskVersionByIdQuery(Long taskId) {
+}
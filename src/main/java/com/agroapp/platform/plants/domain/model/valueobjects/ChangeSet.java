@@ -0,0 +1,31 @@
+package com.agroapp.platform.plants.domain.model.valueobjects;
+
+import com.agroapp.platform.plants.domain.model.aggregates.Field;
+import com.agroapp.platform.plants.domain.model.aggregates.Task;
+import com.agroapp.platform.plants.domain.model.entities.CropField;
+import com.agroapp.platform.plants.domain.model.entities.ProgressHistory;
+import com.agroapp.platform.plants.domain.model.entities.Tombstone;
+
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Records of a user's fields created, updated or deleted after a point in time.
+ *
+ * @param cursor Point in time to ask for the next changes from
+ * @param fullResync Whether this is every record of the user rather than the changes since the requested
+ *                   point in time, which was older than the deletions are kept for
+ * @param fields Created or updated fields
+ * @param tasks Created or updated tasks
+ * @param cropFields Created or updated crop fields
+ * @param progressHistories Created or updated progress histories
+ * @param tombstones Deleted records
+ */
+public record ChangeSet(Date cursor,
+                        boolean fullResync,
+                        List<Field> fields,
+                        List<Task> tasks,
+                        List<CropField> cropFields,
+                        List<ProgressHistory> progressHistories,
+                        List<Tombstone> tombstones) {
+}
@@ -0,0 +1,72 @@
+package com.agroapp.platform.plants.domain.model.valueobjects;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Days a crop can go without each maintenance activity before it needs attention or is critical.
+ * An activity left null inherits the threshold of the defaults it is combined with.
+ *
+ * @param watered Thresholds on the days since the last watering
+ * @param fertilized Thresholds on the days since the last fertilization
+ * @param pests Thresholds on the days since the last pest control
+ */
+public record CropHealthThresholds(ActivityThreshold watered, ActivityThreshold fertilized, ActivityThreshold pests) {
+
+    /**
+     * @param attentionDays Days after which the crop needs attention
+     * @param criticalDays Days after which the crop is critical (not before attentionDays)
+     */
+    public record ActivityThreshold(int attentionDays, int criticalDays) {
+        public ActivityThreshold {
+            if (attentionDays < 1 || criticalDays < attentionDays) {
+                throw new IllegalArgumentException("Thresholds must satisfy 1 <= attentionDays <= criticalDays");
+            }
+        }
+
+        /**
+         * @param lastDone When the activity was last done (null when unknown, which is never alarming)
+         */
+        CropFieldStatus evaluate(LocalDateTime lastDone, LocalDateTime now) {
+            if (lastDone == null) {
+                return CropFieldStatus.Healthy;
+            }
+            long days = ChronoUnit.DAYS.between(lastDone, now);
+            if (days >= criticalDays) {
+                return CropFieldStatus.Critical;
+            }
+            return days >= attentionDays ? CropFieldStatus.Attention : CropFieldStatus.Healthy;
+        }
+    }
+
+    /**
+     * @return These thresholds, with the activities left null taken from defaults
+     */
+    public CropHealthThresholds withDefaults(CropHealthThresholds defaults) {
+        return new CropHealthThresholds(
+                watered != null ? watered : defaults.watered(),
+                fertilized != null ? fertilized : defaults.fertilized(),
+                pests != null ? pests : defaults.pests());
+    }
+
+    /**
+     * Status of a crop given its maintenance history: the worst status over the three activities.
+     * All activities must have a threshold (see {@link #withDefaults}).
+     */
+    public CropFieldStatus evaluate(LocalDateTime lastWatered, LocalDateTime lastFertilized, LocalDateTime lastPestControl,
+                                    LocalDateTime now) {
+        CropFieldStatus status = watered.evaluate(lastWatered, now);
+        if (status == CropFieldStatus.Critical) {
+            return status;
+        }
+        status = worst(status, fertilized.evaluate(lastFertilized, now));
+        if (status == CropFieldStatus.Critical) {
+            return status;
+        }
+        return worst(status, pests.evaluate(lastPestControl, now));
+    }
+
+    private static CropFieldStatus worst(CropFieldStatus a, CropFieldStatus b) {
+        return a.compareTo(b) >= 0 ? a : b;
+    }
+}
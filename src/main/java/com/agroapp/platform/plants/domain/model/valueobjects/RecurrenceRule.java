@@ -0,0 +1,25 @@
+package com.agroapp.platform.plants.domain.model.valueobjects;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+
+import java.time.LocalDateTime;
+
+/**
+ * Recurrence of a task: it is due again every intervalDays days after its first due date,
+ * up to and including until (open-ended when until is null).
+ *
+ * @param intervalDays Days between two occurrences (at least 1)
+ * @param until Last possible due date (nullable)
+ */
+@Embeddable
+public record RecurrenceRule(
+        @Column(name = "recurrenceIntervalDays") Integer intervalDays,
+        @Column(name = "recurrenceUntil") LocalDateTime until
+) {
+    public RecurrenceRule {
+        if (intervalDays == null || intervalDays < 1) {
+            throw new IllegalArgumentException("Recurrence interval must be at least one day");
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.agroapp.platform.plants.domain.model.valueobjects;
+
+/**
+ * Kinds of plants records that can be deleted and are therefore reported as tombstones by the sync endpoint.
+ */
+public enum SyncEntityType {
+    TASK,
+    CROP_FIELD
+}
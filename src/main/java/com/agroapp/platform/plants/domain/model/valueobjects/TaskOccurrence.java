@@ -0,0 +1,23 @@
+package com.agroapp.platform.plants.domain.model.valueobjects;
+
+import java.time.LocalDateTime;
+
+/**
+ * One occurrence of a task, expanded from its recurrence rule (not stored).
+ *
+ * @param taskId ID of the task
+ * @param fieldId ID of the field of the task
+ * @param description Description of the task
+ * @param occurrenceDate Due date given by the recurrence rule, which identifies the occurrence
+ * @param dueDate Effective due date (differs from occurrenceDate when the occurrence was moved)
+ * @param status Status of the occurrence
+ */
+public record TaskOccurrence(
+        Long taskId,
+        Long fieldId,
+        String description,
+        LocalDateTime occurrenceDate,
+        LocalDateTime dueDate,
+        TaskOccurrenceStatus status
+) {
+}
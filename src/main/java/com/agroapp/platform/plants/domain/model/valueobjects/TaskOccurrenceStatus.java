@@ -0,0 +1,7 @@
+package com.agroapp.platform.plants.domain.model.valueobjects;
+
+public enum TaskOccurrenceStatus {
+    SCHEDULED,
+    COMPLETED,
+    SKIPPED
+}
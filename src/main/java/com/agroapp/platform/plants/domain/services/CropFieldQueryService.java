@@ -13,5 +13,6 @@ public interface CropFieldQueryService {
     List<CropField> handle(GetAllCropFieldsQuery query);
     Optional<CropField> handle(GetCropFieldByIdQuery query);
     Optional<CropField> handle(GetCropFieldByFieldIdQuery query);
+    List<CropField> handle(GetCropFieldsByFieldIdsQuery query);
+    List<CropField> handle(GetCropFieldsByIdsQuery query);
 }
-
@@ -1,6 +1,8 @@
 package com.agroapp.platform.plants.domain.services;
 
 import com.agroapp.platform.plants.domain.model.aggregates.Field;
+import com.agroapp.platform.plants.domain.model.projections.FarmReportRow;
+import com.agroapp.platform.plants.domain.model.projections.FieldSummary;
 import com.agroapp.platform.plants.domain.model.queries.*;
 import com.agroapp.platform.plants.domain.model.queries.GetAllFieldsQuery;
 import com.agroapp.platform.plants.domain.model.queries.GetFieldByIdQuery;
@@ -13,5 +15,13 @@ public interface FieldQueryService {
     List<Field> handle(GetAllFieldsQuery query);
     Optional<Field> handle(GetFieldByIdQuery query);
     List<Field> handle(GetFieldsByUserIdQuery query);
+    Optional<FieldSummary> handle(GetFieldSummaryByIdQuery query);
+    List<FieldSummary> handle(GetFieldSummariesByUserIdQuery query);
+    Optional<Long> handle(GetFieldVersionByIdQuery query);
+
+    /**
+     * Reads one batch of report rows in its own short read-only transaction.
+     */
+    List<FarmReportRow> handle(GetFarmReportByUserIdQuery query);
 }
 
@@ -13,5 +13,6 @@ public interface ProgressHistoryQueryService {
     List<ProgressHistory> handle(GetAllProgressHistoriesQuery query);
     Optional<ProgressHistory> handle(GetProgressHistoryByIdQuery query);
     Optional<ProgressHistory> handle(GetProgressHistoryByFieldIdQuery query);
+    List<ProgressHistory> handle(GetProgressHistoriesByFieldIdsQuery query);
+    List<ProgressHistory> handle(GetProgressHistoriesByIdsQuery query);
 }
-
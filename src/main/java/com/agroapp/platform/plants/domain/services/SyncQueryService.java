@@ -0,0 +1,8 @@
+package com.agroapp.platform.plants.domain.services;
+
+import com.agroapp.platform.plants.domain.model.queries.GetChangesSinceQuery;
+import com.agroapp.platform.plants.domain.model.valueobjects.ChangeSet;
+
+public interface SyncQueryService {
+    ChangeSet handle(GetChangesSinceQuery query);
+}
@@ -5,12 +5,18 @@ import com.agroapp.platform.plants.domain.model.commands.*;
 import com.agroapp.platform.plants.domain.model.commands.CreateTaskCommand;
 import com.agroapp.platform.plants.domain.model.commands.DeleteTaskCommand;
 import com.agroapp.platform.plants.domain.model.commands.UpdateTaskCommand;
+import com.agroapp.platform.plants.domain.model.projections.TaskDueDateUpdate;
+import com.agroapp.platform.plants.domain.model.valueobjects.TaskOccurrence;
 
 import java.util.Optional;
 
 public interface TaskCommandService {
     Optional<Task> handle(CreateTaskCommand command);
     Optional<Task> handle(UpdateTaskCommand command);
+    Optional<TaskDueDateUpdate> handle(RescheduleTaskCommand command);
     void handle(DeleteTaskCommand command);
+    Optional<TaskOccurrence> handle(UpdateTaskOccurrenceCommand command);
+    int handle(AdvanceTaskNextDueDatesCommand command);
+    int handle(InitializeTaskNextDueDatesCommand command);
 }
 
@@ -5,6 +5,7 @@ import com.agroapp.platform.plants.domain.model.queries.*;
 import com.agroapp.platform.plants.domain.model.queries.GetAllTasksQuery;
 import com.agroapp.platform.plants.domain.model.queries.GetTaskByIdQuery;
 import com.agroapp.platform.plants.domain.model.queries.GetTasksByFieldIdQuery;
+import com.agroapp.platform.plants.domain.model.valueobjects.TaskOccurrence;
 
 import java.util.List;
 import java.util.Optional;
@@ -13,5 +14,9 @@ public interface TaskQueryService {
     List<Task> handle(GetAllTasksQuery query);
     Optional<Task> handle(GetTaskByIdQuery query);
     List<Task> handle(GetTasksByFieldIdQuery query);
+    Optional<Long> handle(GetTaskVersionByIdQuery query);
+    List<Task> handle(GetTasksByFieldIdsQuery query);
+    List<Task> handle(GetTasksByIdsQuery query);
+    List<TaskOccurrence> handle(GetTaskOccurrencesByFieldIdQuery query);
+    List<TaskOccurrence> handle(GetTaskOccurrencesDueBetweenQuery query);
 }
-
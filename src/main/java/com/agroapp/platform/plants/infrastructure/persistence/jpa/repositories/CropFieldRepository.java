@@ -1,13 +1,74 @@
 package com.agroapp.platform.plants.infrastructure.persistence.jpa.repositories;
 
 import com.agroapp.platform.plants.domain.model.entities.CropField;
+import com.agroapp.platform.plants.domain.model.projections.CropHealthInput;
+import com.agroapp.platform.plants.domain.model.valueobjects.CropFieldStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface CropFieldRepository extends JpaRepository<CropField, Long> {
     Optional<CropField> findByFieldId(Long fieldId);
-}
 
+    /**
+     * Crop fields of several fields in one statement.
+     */
+    List<CropField> findByFieldIdIn(Collection<Long> fieldIds);
+
+    /**
+     * Changes the status of a crop field in a single statement.
+     *
+     * @return number of updated rows (0 when the crop field does not exist)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE CropField c SET c.status = :status, c.updatedAt = :updatedAt WHERE c.id = :id")
+    int updateStatus(@Param("id") Long id, @Param("status") CropFieldStatus status, @Param("updatedAt") Date updatedAt);
+
+    /**
+     * Changes the status of several crop fields in a single statement.
+     * Only rows still in the expected status are written, so a concurrent change is not overwritten
+     * (a crop field without a status counts as Healthy).
+     *
+     * @return number of updated rows
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE CropField c SET c.status = :status, c.updatedAt = :updatedAt WHERE c.id IN :ids " +
+            "AND COALESCE(c.status, com.agroapp.platform.plants.domain.model.valueobjects.CropFieldStatus.Healthy) = :expectedStatus")
+    int updateStatusByIdIn(@Param("ids") Collection<Long> ids, @Param("expectedStatus") CropFieldStatus expectedStatus,
+                           @Param("status") CropFieldStatus status, @Param("updatedAt") Date updatedAt);
+
+    /**
+     * Ids, among the given ones, of the crop fields written by {@link #updateStatusByIdIn} with this status and time.
+     */
+    @Query("SELECT c.id FROM CropField c WHERE c.id IN :ids AND c.status = :status AND c.updatedAt = :updatedAt")
+    List<Long> findIdsUpdatedTo(@Param("ids") Collection<Long> ids, @Param("status") CropFieldStatus status,
+                                @Param("updatedAt") Date updatedAt);
+
+    @Query("SELECT MIN(c.id) FROM CropField c")
+    Optional<Long> findMinId();
+
+    @Query("SELECT MAX(c.id) FROM CropField c")
+    Optional<Long> findMaxId();
+
+    /**
+     * Crop fields in an id range with the maintenance history of their field (primary key range scan,
+     * unique index on ProgressHistory.fieldId). Crop fields whose field has no history are left out.
+     */
+    @Query("SELECT c.id AS id, c.crop AS crop, c.status AS status, p.watered AS watered, p.fertilized AS fertilized, p.pests AS pests " +
+            "FROM CropField c JOIN ProgressHistory p ON p.fieldId = c.fieldId WHERE c.id BETWEEN :fromId AND :toId")
+    List<CropHealthInput> findHealthInputsBetween(@Param("fromId") long fromId, @Param("toId") long toId);
+
+    /**
+     * Crop fields updated after the given time in the fields of a user (index on fieldId, updatedAt).
+     */
+    @Query("SELECT c FROM CropField c JOIN Field f ON f.id = c.fieldId WHERE f.userId = :userId AND c.updatedAt > :since")
+    List<CropField> findByUserIdUpdatedAfter(@Param("userId") Long userId, @Param("since") Date since);
+}
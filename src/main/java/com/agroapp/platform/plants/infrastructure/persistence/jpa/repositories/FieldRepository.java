@@ -1,13 +1,104 @@
 package com.agroapp.platform.plants.infrastructure.persistence.jpa.repositories;
 
 import com.agroapp.platform.plants.domain.model.aggregates.Field;
+import com.agroapp.platform.plants.domain.model.projections.FarmReportRow;
+import com.agroapp.platform.plants.domain.model.projections.FieldSummary;
+import com.agroapp.platform.plants.domain.model.projections.LegacyFieldImage;
+import org.hibernate.jpa.HibernateHints;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.Date;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface FieldRepository extends JpaRepository<Field, Long> {
     List<Field> findByUserId(Long userId);
-}
 
+    /**
+     * Closed interface projections select only the projected columns, leaving out imageUrl.
+     */
+    List<FieldSummary> findSummariesByUserId(Long userId);
+
+    Optional<FieldSummary> findSummaryById(Long id);
+
+    /**
+     * Streams, in id order, the fields after the given id whose imageUrl still holds an inline
+     * Base64 image instead of a file reference. The fetch size hint makes MySQL stream rows one by
+     * one, so a chunk never has more than one image in memory; no other statement may run on the
+     * connection until the stream is closed.
+     *
+     * @param afterId Only fields with a greater id are returned
+     * @param limit Maximum number of fields to return (chunk size)
+     * @return Stream of legacy images, to be closed by the caller
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("SELECT f.id AS id, f.userId AS userId, f.imageUrl AS imageUrl FROM Field f " +
+            "WHERE f.id > :afterId AND f.imageUrl IS NOT NULL " +
+            "AND f.imageUrl NOT LIKE 'http%' AND f.imageUrl NOT LIKE '/uploads/%' " +
+            "ORDER BY f.id")
+    Stream<LegacyFieldImage> streamLegacyImagesAfter(@Param("afterId") Long afterId, Limit limit);
+
+    /**
+     * Ids of a user's fields after the given id, in id order (keyset pagination).
+     *
+     * @param afterId Only fields with a greater id are returned
+     * @param limit Maximum number of ids to return
+     */
+    @Query("SELECT f.id FROM Field f WHERE f.userId = :userId AND f.id > :afterId ORDER BY f.id")
+    List<Long> findIdsByUserIdAfter(@Param("userId") Long userId, @Param("afterId") Long afterId, Limit limit);
+
+    /**
+     * Report rows of the given fields, in field order and by due date within a field.
+     */
+    @Query("SELECT f.id AS fieldId, f.name AS fieldName, f.location AS location, f.fieldSize AS fieldSize, " +
+            "c.crop AS crop, c.status AS cropStatus, c.plantingDate AS plantingDate, c.harvestDate AS harvestDate, " +
+            "p.watered AS watered, p.fertilized AS fertilized, p.pests AS pests, " +
+            "t.id AS taskId, t.description AS taskDescription, t.dueDate AS taskDueDate, " +
+            "t.recurrence.intervalDays AS taskRecurrenceIntervalDays " +
+            "FROM Field f LEFT JOIN CropField c ON c.fieldId = f.id LEFT JOIN ProgressHistory p ON p.fieldId = f.id " +
+            "LEFT JOIN Task t ON t.fieldId = f.id " +
+            "WHERE f.id IN :fieldIds ORDER BY f.id, t.dueDate, t.id")
+    List<FarmReportRow> findFarmReportByFieldIds(@Param("fieldIds") Collection<Long> fieldIds);
+
+    /**
+     * Replaces the image of a field in a single statement, bumping its version and update time.
+     *
+     * @param id ID of the field
+     * @param imageUrl New image reference
+     * @param updatedAt Update timestamp
+     */
+    @Modifying
+    @Query("UPDATE Field f SET f.imageUrl = :imageUrl, f.version = f.version + 1, f.updatedAt = :updatedAt WHERE f.id = :id")
+    void updateImageUrl(@Param("id") Long id, @Param("imageUrl") String imageUrl, @Param("updatedAt") Date updatedAt);
+
+    /**
+     * Reads only the version column, so conditional requests can be answered without loading the aggregate.
+     */
+    @Query("SELECT f.version FROM Field f WHERE f.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    /**
+     * Bumps the version of a field whose derived state (task, crop field) changed,
+     * so its entity tag changes along with the representation clients see.
+     *
+     * @param id ID of the field
+     */
+    @Modifying
+    @Query("UPDATE Field f SET f.version = f.version + 1 WHERE f.id = :id")
+    void incrementVersion(@Param("id") Long id);
+
+    /**
+     * Fields of a user updated after the given time (index on userId, updatedAt).
+     */
+    List<Field> findByUserIdAndUpdatedAtAfter(Long userId, Date since);
+}
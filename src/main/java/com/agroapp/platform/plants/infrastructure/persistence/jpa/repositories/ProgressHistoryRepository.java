@@ -2,12 +2,27 @@ package com.agroapp.platform.plants.infrastructure.persistence.jpa.repositories;
 
 import com.agroapp.platform.plants.domain.model.entities.ProgressHistory;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface ProgressHistoryRepository extends JpaRepository<ProgressHistory, Long> {
     Optional<ProgressHistory> findByFieldId(Long fieldId);
-}
 
+    /**
+     * Progress histories of several fields in one statement.
+     */
+    List<ProgressHistory> findByFieldIdIn(Collection<Long> fieldIds);
+
+    /**
+     * Progress histories updated after the given time in the fields of a user (index on fieldId, updatedAt).
+     */
+    @Query("SELECT p FROM ProgressHistory p JOIN Field f ON f.id = p.fieldId WHERE f.userId = :userId AND p.updatedAt > :since")
+    List<ProgressHistory> findByUserIdUpdatedAfter(@Param("userId") Long userId, @Param("since") Date since);
+}
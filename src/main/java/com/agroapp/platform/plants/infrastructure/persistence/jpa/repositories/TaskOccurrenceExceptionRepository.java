@@ -0,0 +1,44 @@
+package com.agroapp.platform.plants.infrastructure.persistence.jpa.repositories;
+
+import com.agroapp.platform.plants.domain.model.entities.TaskOccurrenceException;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface TaskOccurrenceExceptionRepository extends JpaRepository<TaskOccurrenceException, Long> {
+    Optional<TaskOccurrenceException> findByTaskIdAndOccurrenceDate(Long taskId, LocalDateTime occurrenceDate);
+
+    /**
+     * Exceptions of the given tasks that affect a window: the occurrence was due in it by rule
+     * or is due in it now.
+     *
+     * @param from Inclusive start of the window
+     * @param to Exclusive end of the window
+     */
+    @Query("SELECT e FROM TaskOccurrenceException e WHERE e.taskId IN :taskIds AND (" +
+            "(e.occurrenceDate >= :from AND e.occurrenceDate < :to) OR (e.dueDate >= :from AND e.dueDate < :to))")
+    List<TaskOccurrenceException> findByTaskIdsBetween(@Param("taskIds") Collection<Long> taskIds,
+                                                       @Param("from") LocalDateTime from,
+                                                       @Param("to") LocalDateTime to);
+
+    /**
+     * Ids of the tasks with an occurrence moved into (or kept in) a window (index on dueDate).
+     *
+     * @param from Inclusive start of the window
+     * @param to Exclusive end of the window
+     */
+    @Query("SELECT DISTINCT e.taskId FROM TaskOccurrenceException e WHERE e.dueDate >= :from AND e.dueDate < :to")
+    List<Long> findTaskIdsDueBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Modifying
+    @Query("DELETE FROM TaskOccurrenceException e WHERE e.taskId = :taskId")
+    void deleteByTaskId(@Param("taskId") Long taskId);
+}
@@ -2,12 +2,124 @@ package com.agroapp.platform.plants.infrastructure.persistence.jpa.repositories;
 
 import com.agroapp.platform.plants.domain.model.aggregates.Task;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Date;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface TaskRepository extends JpaRepository<Task, Long> {
     List<Task> findByFieldId(Long fieldId);
-}
 
+    /**
+     * Tasks of several fields in one statement.
+     */
+    List<Task> findByFieldIdIn(Collection<Long> fieldIds);
+
+    /**
+     * Reads only the version column, so conditional requests can be answered without loading the aggregate.
+     */
+    @Query("SELECT t.version FROM Task t WHERE t.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    /**
+     * Reads only the field a task belongs to, so a reassignment can be detected without loading the aggregate.
+     */
+    @Query("SELECT t.fieldId FROM Task t WHERE t.id = :id")
+    Optional<Long> findFieldIdById(@Param("id") Long id);
+
+    /**
+     * Overwrites a task only if it is still at the expected version, in a single statement.
+     *
+     * @return number of updated rows (0 when the task is missing or its version moved on)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Task t SET t.fieldId = :fieldId, t.description = :description, t.dueDate = :dueDate, " +
+            "t.nextDueDate = :dueDate, t.version = t.version + 1, t.updatedAt = :updatedAt " +
+            "WHERE t.id = :id AND t.version = :version")
+    int updateIfVersionMatches(@Param("id") Long id,
+                               @Param("version") Long version,
+                               @Param("fieldId") Long fieldId,
+                               @Param("description") String description,
+                               @Param("dueDate") LocalDateTime dueDate,
+                               @Param("updatedAt") Date updatedAt);
+
+    /**
+     * Changes the due date of a task in a single statement, optionally checking its version.
+     *
+     * @param version Expected version, or null to reschedule unconditionally
+     * @return number of updated rows (0 when the task is missing or its version moved on)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Task t SET t.dueDate = :dueDate, t.nextDueDate = :dueDate, t.version = t.version + 1, " +
+            "t.updatedAt = :updatedAt " +
+            "WHERE t.id = :id AND (:version IS NULL OR t.version = :version)")
+    int updateDueDate(@Param("id") Long id,
+                      @Param("version") Long version,
+                      @Param("dueDate") LocalDateTime dueDate,
+                      @Param("updatedAt") Date updatedAt);
+
+    /**
+     * Bumps the version of a task whose occurrences changed, so syncing clients and entity tags see the change.
+     */
+    @Modifying
+    @Query("UPDATE Task t SET t.version = t.version + 1, t.updatedAt = :updatedAt WHERE t.id = :id")
+    int touch(@Param("id") Long id, @Param("updatedAt") Date updatedAt);
+
+    /**
+     * Tasks whose next due date is before the given time (index on nextDueDate): those with an occurrence due
+     * before it, and those whose passed occurrences have not been skipped over yet.
+     */
+    List<Task> findByNextDueDateBefore(LocalDateTime before);
+
+    /**
+     * Moves the next due date of a task forward, unless its schedule changed since it was read.
+     * The version is not bumped: the next due date is not part of the task's representation.
+     *
+     * @return number of updated rows (0 when the next due date moved on)
+     */
+    @Modifying
+    @Query("UPDATE Task t SET t.nextDueDate = :nextDueDate WHERE t.id = :id AND t.nextDueDate = :previous")
+    int advanceNextDueDate(@Param("id") Long id,
+                           @Param("previous") LocalDateTime previous,
+                           @Param("nextDueDate") LocalDateTime nextDueDate);
+
+    /**
+     * Sets the next due date of the tasks written before it existed that still have occurrences to come.
+     *
+     * @return number of updated rows
+     */
+    @Modifying
+    @Query("UPDATE Task t SET t.nextDueDate = t.dueDate WHERE t.nextDueDate IS NULL AND t.dueDate IS NOT NULL AND " +
+            "(t.dueDate >= :now OR (t.recurrence.intervalDays IS NOT NULL " +
+            "AND (t.recurrence.until IS NULL OR t.recurrence.until >= :now)))")
+    int initializeNextDueDates(@Param("now") LocalDateTime now);
+
+    /**
+     * Tasks updated after the given time in the fields of a user (index on fieldId, updatedAt).
+     */
+    @Query("SELECT t FROM Task t JOIN Field f ON f.id = t.fieldId WHERE f.userId = :userId AND t.updatedAt > :since")
+    List<Task> findByUserIdUpdatedAfter(@Param("userId") Long userId, @Param("since") Date since);
+
+    /**
+     * Tasks of a field that may have an occurrence due in the given window: one-off tasks due in it, recurring
+     * tasks started before its end and not ended before its start, and tasks with an occurrence moved into it.
+     *
+     * @param fieldId Field of the tasks
+     * @param from Inclusive start of the window
+     * @param to Exclusive end of the window
+     */
+    @Query("SELECT t FROM Task t WHERE t.fieldId = :fieldId AND (" +
+            "(t.dueDate < :to AND (t.dueDate >= :from OR (t.recurrence.intervalDays IS NOT NULL " +
+            "AND (t.recurrence.until IS NULL OR t.recurrence.until >= :from)))) " +
+            "OR t.id IN (SELECT e.taskId FROM TaskOccurrenceException e WHERE e.dueDate >= :from AND e.dueDate < :to))")
+    List<Task> findWithOccurrencesBetween(@Param("fieldId") Long fieldId,
+                                          @Param("from") LocalDateTime from,
+                                          @Param("to") LocalDateTime to);
+}
@@ -0,0 +1,30 @@
+package com.agroapp.platform.plants.infrastructure.persistence.jpa.repositories;
+
+import com.agroapp.platform.plants.domain.model.entities.Tombstone;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Date;
+import java.util.List;
+
+@Repository
+public interface TombstoneRepository extends JpaRepository<Tombstone, Long> {
+
+    /**
+     * Deletions recorded after the given time in the fields of a user (index on fieldId, createdAt).
+     */
+    @Query("SELECT t FROM Tombstone t JOIN Field f ON f.id = t.fieldId WHERE f.userId = :userId AND t.createdAt > :since")
+    List<Tombstone> findByUserIdDeletedAfter(@Param("userId") Long userId, @Param("since") Date since);
+
+    /**
+     * Deletes the tombstones recorded before the given time (index on createdAt).
+     *
+     * @return number of deleted rows
+     */
+    @Modifying
+    @Query("DELETE FROM Tombstone t WHERE t.createdAt < :before")
+    int deleteCreatedBefore(@Param("before") Date before);
+}
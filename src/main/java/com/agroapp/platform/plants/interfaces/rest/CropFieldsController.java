@@ -1,10 +1,14 @@
 package com.agroapp.platform.plants.interfaces.rest;
 
 import com.agroapp.platform.plants.domain.model.commands.DeleteCropFieldCommand;
+import com.agroapp.platform.plants.domain.model.entities.CropField;
 import com.agroapp.platform.plants.domain.model.queries.*;
 import com.agroapp.platform.plants.domain.services.*;
 import com.agroapp.platform.plants.interfaces.rest.resources.*;
 import com.agroapp.platform.plants.interfaces.rest.transform.*;
+import com.agroapp.platform.shared.interfaces.rest.resources.BatchResource;
+import com.agroapp.platform.shared.interfaces.rest.transform.BatchResourceAssembler;
+import com.agroapp.platform.shared.interfaces.rest.transform.SparseFieldsetAssembler;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -80,7 +84,7 @@ public class CropFieldsController {
      * GET /api/v1/crop-fields
      */
     @GetMapping
-    public ResponseEntity<List<CropFieldResource>> getAllCropFields() {
+    public ResponseEntity<?> getAllCropFields(@RequestParam(required = false) String fields) {
         var query = new GetAllCropFieldsQuery();
         var cropFields = cropFieldQueryService.handle(query);
 
@@ -88,7 +92,26 @@ public class CropFieldsController {
                 .map(CropFieldResourceFromEntityAssembler::toResourceFromEntity)
                 .collect(Collectors.toList());
 
-        return ResponseEntity.ok(cropFieldResources);
+        return ResponseEntity.ok(SparseFieldsetAssembler.toResponseBody(cropFieldResources, fields));
+    }
+
+    /**
+     * Gets several crop fields by their IDs in one request.
+     * GET /api/v1/crop-fields?ids=1,2,3
+     * Optional sparse fieldset: ?fields=id,...
+     * At most {@link BatchResourceAssembler#MAX_IDS} distinct IDs; the crop fields come back in the requested
+     * order and the IDs without one are listed in missingIds.
+     */
+    @GetMapping(params = "ids")
+    public ResponseEntity<BatchResource> getCropFieldsByIds(@RequestParam List<Long> ids,
+                                                            @RequestParam(required = false) String fields) {
+        var cropFieldIds = BatchResourceAssembler.distinctIds(ids);
+        if (cropFieldIds.size() > BatchResourceAssembler.MAX_IDS) {
+            return ResponseEntity.badRequest().build();
+        }
+        var cropFields = cropFieldQueryService.handle(new GetCropFieldsByIdsQuery(cropFieldIds));
+        return ResponseEntity.ok(BatchResourceAssembler.toResource(cropFieldIds, cropFields, CropField::getId,
+                CropFieldResourceFromEntityAssembler::toResourceFromEntity, fields));
     }
 
     /**
@@ -96,7 +119,7 @@ public class CropFieldsController {
      * GET /api/v1/CropFields/{id}
      */
     @GetMapping("/{id}")
-    public ResponseEntity<CropFieldResource> getCropFieldById(@PathVariable Long id) {
+    public ResponseEntity<?> getCropFieldById(@PathVariable Long id, @RequestParam(required = false) String fields) {
         var query = new GetCropFieldByIdQuery(id);
         var cropField = cropFieldQueryService.handle(query);
 
@@ -105,7 +128,7 @@ public class CropFieldsController {
         }
 
         var cropFieldResource = CropFieldResourceFromEntityAssembler.toResourceFromEntity(cropField.get());
-        return ResponseEntity.ok(cropFieldResource);
+        return ResponseEntity.ok(SparseFieldsetAssembler.toResponseBody(cropFieldResource, fields));
     }
 
     /**
@@ -150,6 +173,46 @@ public class CropFieldsController {
         return ResponseEntity.ok(cropFieldResource);
     }
 
+    /**
+     * Changes only the status of a CropField.
+     * PATCH /api/v1/crop-fields/{id}/status
+     */
+    @Operation(
+            summary = "Change the status of a CropField",
+            description = "Updates only the status column with a single statement and returns the written fields. " +
+                    "Status must be one of: Healthy, Attention, Critical."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Status successfully changed",
+                    content = @Content(schema = @Schema(implementation = CropFieldStatusResource.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid request - status is required"
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "CropField not found"
+            )
+    })
+    @PatchMapping("/{id}/status")
+    public ResponseEntity<CropFieldStatusResource> updateCropFieldStatus(@PathVariable Long id, @RequestBody UpdateCropFieldStatusResource resource) {
+        if (resource.status() == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        var command = UpdateCropFieldStatusCommandFromResourceAssembler.toCommandFromResource(id, resource);
+
+        var update = cropFieldCommandService.handle(command);
+        if (update.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+
+        var statusResource = CropFieldStatusResourceFromProjectionAssembler.toResourceFromProjection(update.get());
+        return ResponseEntity.ok(statusResource);
+    }
+
     /**
      * Deletes a CropField by its ID.
      * DELETE /api/v1/crop-fields/{id}
@@ -180,7 +243,7 @@ public class CropFieldsController {
      * GET /api/v1/crop-fields/field/{fieldId}
      */
     @GetMapping("/field/{fieldId}")
-    public ResponseEntity<CropFieldResource> getCropFieldByFieldId(@PathVariable Long fieldId) {
+    public ResponseEntity<?> getCropFieldByFieldId(@PathVariable Long fieldId, @RequestParam(required = false) String fields) {
         var query = new GetCropFieldByFieldIdQuery(fieldId);
         var cropField = cropFieldQueryService.handle(query);
 
@@ -189,6 +252,6 @@ public class CropFieldsController {
         }
 
         var cropFieldResource = CropFieldResourceFromEntityAssembler.toResourceFromEntity(cropField.get());
-        return ResponseEntity.ok(cropFieldResource);
+        return ResponseEntity.ok(SparseFieldsetAssembler.toResponseBody(cropFieldResource, fields));
     }
 }
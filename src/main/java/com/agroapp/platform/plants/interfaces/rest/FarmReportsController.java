@@ -0,0 +1,92 @@
+package com.agroapp.platform.plants.interfaces.rest;
+
+import com.agroapp.platform.plants.domain.model.projections.FarmReportRow;
+import com.agroapp.platform.plants.domain.model.queries.GetFarmReportByUserIdQuery;
+import com.agroapp.platform.plants.domain.services.FieldQueryService;
+import com.agroapp.platform.plants.interfaces.rest.transform.FarmReportRowAssembler;
+import com.agroapp.platform.shared.infrastructure.export.CsvTabularWriter;
+import com.agroapp.platform.shared.infrastructure.export.TabularWriter;
+import com.agroapp.platform.shared.infrastructure.export.XlsxTabularWriter;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * REST Controller for the farm report of a user: every field with its crop, crop status,
+ * last activity dates and tasks, as CSV or XLSX.
+ * Fields are read in batches by keyset, each batch in its own short read-only transaction, and written to
+ * the response between batches: memory use does not depend on the size of the farm, and a client reading
+ * slowly holds no database connection while it reads.
+ * The report is written on the request thread.
+ */
+@RestController
+@RequestMapping("/api/v1/users")
+@Tag(name = "Farm Reports", description = "Export of a user's fields, crop status and tasks")
+public class FarmReportsController {
+
+    private static final String CSV_CONTENT_TYPE = "text/csv;charset=UTF-8";
+    private static final String XLSX_CONTENT_TYPE = "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet";
+    private static final int FIELDS_PER_BATCH = 200;
+
+    private final FieldQueryService fieldQueryService;
+
+    public FarmReportsController(FieldQueryService fieldQueryService) {
+        this.fieldQueryService = fieldQueryService;
+    }
+
+    /**
+     * Downloads the farm report of a user as CSV.
+     * GET /api/v1/users/{userId}/report.csv
+     */
+    @GetMapping("/{userId}/report.csv")
+    @Operation(summary = "Download the farm report as CSV", description = "One line per task (or per field without tasks) with the field, " +
+            "its crop and crop status, and the last watering, fertilization and pest control. UTF-8 with a byte order mark.")
+    public void getCsvReport(@PathVariable Long userId, HttpServletResponse response) throws IOException {
+        prepare(response, CSV_CONTENT_TYPE, "farm-report-" + userId + ".csv");
+        writeReport(userId, new CsvTabularWriter(response.getOutputStream()));
+    }
+
+    /**
+     * Downloads the farm report of a user as an Excel workbook.
+     * GET /api/v1/users/{userId}/report.xlsx
+     */
+    @GetMapping("/{userId}/report.xlsx")
+    @Operation(summary = "Download the farm report as XLSX", description = "Same content as the CSV report in a single worksheet, " +
+            "with date cells for the dates.")
+    public void getXlsxReport(@PathVariable Long userId, HttpServletResponse response) throws IOException {
+        prepare(response, XLSX_CONTENT_TYPE, "farm-report-" + userId + ".xlsx");
+        writeReport(userId, new XlsxTabularWriter(response.getOutputStream(), "Farm report"));
+    }
+
+    private static void prepare(HttpServletResponse response, String contentType, String filename) {
+        response.setContentType(contentType);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noStore().getHeaderValue());
+    }
+
+    private void writeReport(Long userId, TabularWriter writer) throws IOException {
+        writer.writeHeader(FarmReportRowAssembler.COLUMNS);
+        // The client gets the headers and the first bytes before the query runs
+        writer.flush();
+        long afterFieldId = 0L;
+        List<FarmReportRow> rows;
+        while (!(rows = fieldQueryService.handle(new GetFarmReportByUserIdQuery(userId, afterFieldId, FIELDS_PER_BATCH))).isEmpty()) {
+            for (FarmReportRow row : rows) {
+                writer.writeRow(FarmReportRowAssembler.toValues(row));
+            }
+            afterFieldId = rows.getLast().getFieldId();
+        }
+        // Only a complete report is terminated; after a failure the download is left truncated
+        writer.close();
+    }
+}
@@ -1,15 +1,27 @@
 package com.agroapp.platform.plants.interfaces.rest;
 
+import com.agroapp.platform.plants.domain.model.aggregates.Task;
+import com.agroapp.platform.plants.domain.model.entities.CropField;
+import com.agroapp.platform.plants.domain.model.entities.ProgressHistory;
 import com.agroapp.platform.plants.domain.model.queries.*;
 import com.agroapp.platform.plants.domain.services.*;
 import com.agroapp.platform.plants.interfaces.rest.resources.*;
 import com.agroapp.platform.plants.interfaces.rest.transform.*;
+import com.agroapp.platform.shared.interfaces.rest.transform.ExpansionAssembler;
+import com.agroapp.platform.shared.interfaces.rest.transform.SparseFieldsetAssembler;
+import com.agroapp.platform.shared.interfaces.rest.transform.EntityTagAssembler;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -75,60 +87,189 @@ public class FieldsController {
     /**
      * Gets all Fields by user ID.
      * GET /api/v1/Fields/user/{userId}
+     * Optional sparse fieldset: ?fields=id,name,taskIds
+     * Optional embedded relations: ?expand=progressHistory,cropField,tasks
+     * When imageUrl is not requested the fields are read through a projection that never selects the image column.
+     * Related ids and embedded resources are loaded with one query per relation for all fields of the user.
      */
     @GetMapping("/user/{userId}")
-    public ResponseEntity<List<FieldResource>> getFieldsByUserId(@PathVariable Long userId) {
-        var query = new GetFieldsByUserIdQuery(userId);
-        var fields = fieldQueryService.handle(query);
-
-        var fieldResources = fields.stream()
-                .map(field -> {
-                    // Resolve related data for each field
-                    var progressHistory = progressHistoryQueryService.handle(new GetProgressHistoryByFieldIdQuery(field.getId()));
-                    var cropField = cropFieldQueryService.handle(new GetCropFieldByFieldIdQuery(field.getId()));
-                    var tasks = taskQueryService.handle(new GetTasksByFieldIdQuery(field.getId()));
-
-                    // Transform using Assembler
-                    return FieldResourceFromEntityAssembler.toResourceFromEntity(
+    public ResponseEntity<?> getFieldsByUserId(@PathVariable Long userId,
+                                               @RequestParam(required = false) String fields,
+                                               @RequestParam(required = false) String expand) {
+        var fieldset = SparseFieldsetAssembler.parseFields(fields);
+        var expansions = ExpansionAssembler.parseExpand(expand);
+
+        List<FieldResource> fieldResources;
+        FieldRelations relations;
+        if (SparseFieldsetAssembler.isRequested(fieldset, "imageUrl")) {
+            var fieldEntities = fieldQueryService.handle(new GetFieldsByUserIdQuery(userId));
+            relations = loadRelations(fieldEntities.stream().map(field -> field.getId()).toList(), fieldset, expansions);
+            fieldResources = fieldEntities.stream()
+                    .map(field -> FieldResourceFromEntityAssembler.toResourceFromEntity(
+                            field,
+                            relations.progressHistoryId(field.getId()),
+                            relations.cropFieldId(field.getId()),
+                            relations.taskIds(field.getId())))
+                    .collect(Collectors.toList());
+        } else {
+            var fieldSummaries = fieldQueryService.handle(new GetFieldSummariesByUserIdQuery(userId));
+            relations = loadRelations(fieldSummaries.stream().map(field -> field.getId()).toList(), fieldset, expansions);
+            fieldResources = fieldSummaries.stream()
+                    .map(field -> FieldResourceFromEntityAssembler.toResourceFromProjection(
                             field,
-                            progressHistory.map(ph -> ph.getId()).orElse(null),
-                            cropField.map(cf -> cf.getId()).orElse(null),
-                            tasks.stream().map(task -> task.getId()).collect(Collectors.toList())
-                    );
-                })
-                .collect(Collectors.toList());
-
-        return ResponseEntity.ok(fieldResources);
+                            relations.progressHistoryId(field.getId()),
+                            relations.cropFieldId(field.getId()),
+                            relations.taskIds(field.getId())))
+                    .collect(Collectors.toList());
+        }
+
+        if (!expansions.isEmpty()) {
+            return ResponseEntity.ok(fieldResources.stream()
+                    .map(fieldResource -> ExpansionAssembler.toExpandedResource(fieldResource, fieldset,
+                            relations.embedded(fieldResource.id(), expansions)))
+                    .toList());
+        }
+        if (fieldset.isEmpty()) {
+            return ResponseEntity.ok(fieldResources);
+        }
+        return ResponseEntity.ok(SparseFieldsetAssembler.toSparseResources(fieldResources, fieldset));
     }
 
     /**
      * Gets a Field by its ID.
      * GET /api/v1/fields/{id}
+     * Optional sparse fieldset: ?fields=id,name,taskIds
+     * Optional embedded relations: ?expand=progressHistory,cropField,tasks
+     * Sends ETag "{id}-{version}" and answers 304 when If-None-Match still matches.
+     * Adding, moving or removing tasks and crop fields bumps the field version too.
+     * Expanded responses are sent without ETag: edits of the embedded resources do not bump the field version.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<FieldResource> getFieldById(@PathVariable Long id) {
-        var query = new GetFieldByIdQuery(id);
-        var field = fieldQueryService.handle(query);
+    public ResponseEntity<?> getFieldById(@PathVariable Long id,
+                                          @RequestParam(required = false) String fields,
+                                          @RequestParam(required = false) String expand,
+                                          WebRequest webRequest) {
+        var expansions = ExpansionAssembler.parseExpand(expand);
+        if (expansions.isEmpty()) {
+            var version = fieldQueryService.handle(new GetFieldVersionByIdQuery(id));
+            if (version.isEmpty()) {
+                return ResponseEntity.notFound().build();
+            }
+            // Answer 304 from the version column alone when the client copy is current
+            if (webRequest.checkNotModified(EntityTagAssembler.toEntityTag(id, version.get()))) {
+                return null;
+            }
+        }
 
-        if (field.isEmpty()) {
+        var fieldset = SparseFieldsetAssembler.parseFields(fields);
+        var relations = loadRelations(List.of(id), fieldset, expansions);
+
+        Optional<FieldResource> fieldResource;
+        if (SparseFieldsetAssembler.isRequested(fieldset, "imageUrl")) {
+            fieldResource = fieldQueryService.handle(new GetFieldByIdQuery(id))
+                    .map(field -> FieldResourceFromEntityAssembler.toResourceFromEntity(
+                            field,
+                            relations.progressHistoryId(field.getId()),
+                            relations.cropFieldId(field.getId()),
+                            relations.taskIds(field.getId())));
+        } else {
+            fieldResource = fieldQueryService.handle(new GetFieldSummaryByIdQuery(id))
+                    .map(field -> FieldResourceFromEntityAssembler.toResourceFromProjection(
+                            field,
+                            relations.progressHistoryId(field.getId()),
+                            relations.cropFieldId(field.getId()),
+                            relations.taskIds(field.getId())));
+        }
+
+        if (fieldResource.isEmpty()) {
             return ResponseEntity.notFound().build();
         }
+        if (!expansions.isEmpty()) {
+            return ResponseEntity.ok(ExpansionAssembler.toExpandedResource(fieldResource.get(), fieldset,
+                    relations.embedded(id, expansions)));
+        }
+        if (fieldset.isEmpty()) {
+            return ResponseEntity.ok(fieldResource.get());
+        }
+        return ResponseEntity.ok(SparseFieldsetAssembler.toSparseResource(fieldResource.get(), fieldset));
+    }
 
-        // Resolve related data
-        var fieldEntity = field.get();
-        var progressHistory = progressHistoryQueryService.handle(new GetProgressHistoryByFieldIdQuery(fieldEntity.getId()));
-        var cropField = cropFieldQueryService.handle(new GetCropFieldByFieldIdQuery(fieldEntity.getId()));
-        var tasks = taskQueryService.handle(new GetTasksByFieldIdQuery(fieldEntity.getId()));
+    /**
+     * Loads the relations of the given fields that the response needs, with one query per relation.
+     * A relation is loaded when its id is part of the fieldset or when it is embedded.
+     */
+    private FieldRelations loadRelations(List<Long> fieldIds, Set<String> fieldset, Set<String> expansions) {
+        Map<Long, ProgressHistory> progressHistories = null;
+        if (SparseFieldsetAssembler.isRequested(fieldset, "progressHistoryId")
+                || ExpansionAssembler.isExpanded(expansions, "progressHistory")) {
+            progressHistories = progressHistoryQueryService.handle(new GetProgressHistoriesByFieldIdsQuery(fieldIds)).stream()
+                    .collect(Collectors.toMap(ProgressHistory::getFieldId, Function.identity(), (first, second) -> first));
+        }
+        Map<Long, CropField> cropFields = null;
+        if (SparseFieldsetAssembler.isRequested(fieldset, "cropFieldId")
+                || ExpansionAssembler.isExpanded(expansions, "cropField")) {
+            cropFields = cropFieldQueryService.handle(new GetCropFieldsByFieldIdsQuery(fieldIds)).stream()
+                    .collect(Collectors.toMap(CropField::getFieldId, Function.identity(), (first, second) -> first));
+        }
+        Map<Long, List<Task>> tasks = null;
+        if (SparseFieldsetAssembler.isRequested(fieldset, "taskIds")
+                || ExpansionAssembler.isExpanded(expansions, "tasks")) {
+            tasks = taskQueryService.handle(new GetTasksByFieldIdsQuery(fieldIds)).stream()
+                    .collect(Collectors.groupingBy(Task::getFieldId));
+        }
+        return new FieldRelations(fieldset, progressHistories, cropFields, tasks);
+    }
 
-        // Transform using Assembler
-        var fieldResource = FieldResourceFromEntityAssembler.toResourceFromEntity(
-                fieldEntity,
-                progressHistory.map(ph -> ph.getId()).orElse(null),
-                cropField.map(cf -> cf.getId()).orElse(null),
-                tasks.stream().map(task -> task.getId()).collect(Collectors.toList())
-        );
+    /**
+     * Relations of the fields of a response, by field ID (null maps were not loaded).
+     */
+    private record FieldRelations(Set<String> fieldset,
+                                  Map<Long, ProgressHistory> progressHistories,
+                                  Map<Long, CropField> cropFields,
+                                  Map<Long, List<Task>> tasks) {
+
+        Long progressHistoryId(Long fieldId) {
+            if (!SparseFieldsetAssembler.isRequested(fieldset, "progressHistoryId")) {
+                return null;
+            }
+            var progressHistory = progressHistories.get(fieldId);
+            return progressHistory != null ? progressHistory.getId() : null;
+        }
+
+        Long cropFieldId(Long fieldId) {
+            if (!SparseFieldsetAssembler.isRequested(fieldset, "cropFieldId")) {
+                return null;
+            }
+            var cropField = cropFields.get(fieldId);
+            return cropField != null ? cropField.getId() : null;
+        }
+
+        List<Long> taskIds(Long fieldId) {
+            if (!SparseFieldsetAssembler.isRequested(fieldset, "taskIds")) {
+                return null;
+            }
+            return tasks.getOrDefault(fieldId, List.of()).stream()
+                    .map(task -> task.getId()).collect(Collectors.toList());
+        }
 
-        return ResponseEntity.ok(fieldResource);
+        Map<String, Object> embedded(Long fieldId, Set<String> expansions) {
+            Map<String, Object> embedded = new LinkedHashMap<>();
+            if (ExpansionAssembler.isExpanded(expansions, "progressHistory")) {
+                var progressHistory = progressHistories.get(fieldId);
+                embedded.put("progressHistory", progressHistory != null
+                        ? ProgressHistoryResourceFromEntityAssembler.toResourceFromEntity(progressHistory) : null);
+            }
+            if (ExpansionAssembler.isExpanded(expansions, "cropField")) {
+                var cropField = cropFields.get(fieldId);
+                embedded.put("cropField", cropField != null
+                        ? CropFieldResourceFromEntityAssembler.toResourceFromEntity(cropField) : null);
+            }
+            if (ExpansionAssembler.isExpanded(expansions, "tasks")) {
+                embedded.put("tasks", tasks.getOrDefault(fieldId, List.of()).stream()
+                        .map(TaskResourceFromEntityAssembler::toResourceFromEntity)
+                        .toList());
+            }
+            return embedded;
+        }
     }
 }
-
@@ -1,9 +1,13 @@
 package com.agroapp.platform.plants.interfaces.rest;
 
+import com.agroapp.platform.plants.domain.model.entities.ProgressHistory;
 import com.agroapp.platform.plants.domain.model.queries.*;
 import com.agroapp.platform.plants.domain.services.*;
 import com.agroapp.platform.plants.interfaces.rest.resources.*;
 import com.agroapp.platform.plants.interfaces.rest.transform.*;
+import com.agroapp.platform.shared.interfaces.rest.resources.BatchResource;
+import com.agroapp.platform.shared.interfaces.rest.transform.BatchResourceAssembler;
+import com.agroapp.platform.shared.interfaces.rest.transform.SparseFieldsetAssembler;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -37,7 +41,7 @@ public class ProgressHistoryController {
      * GET /api/v1/progress
      */
     @GetMapping
-    public ResponseEntity<List<ProgressHistoryResource>> getAllProgressHistories() {
+    public ResponseEntity<?> getAllProgressHistories(@RequestParam(required = false) String fields) {
         var query = new GetAllProgressHistoriesQuery();
         var progressHistories = progressHistoryQueryService.handle(query);
 
@@ -45,7 +49,26 @@ public class ProgressHistoryController {
                 .map(ProgressHistoryResourceFromEntityAssembler::toResourceFromEntity)
                 .collect(Collectors.toList());
 
-        return ResponseEntity.ok(progressHistoryResources);
+        return ResponseEntity.ok(SparseFieldsetAssembler.toResponseBody(progressHistoryResources, fields));
+    }
+
+    /**
+     * Gets several progress histories by their IDs in one request.
+     * GET /api/v1/progress?ids=1,2,3
+     * Optional sparse fieldset: ?fields=id,...
+     * At most {@link BatchResourceAssembler#MAX_IDS} distinct IDs; the progress histories come back in the requested
+     * order and the IDs without one are listed in missingIds.
+     */
+    @GetMapping(params = "ids")
+    public ResponseEntity<BatchResource> getProgressHistoriesByIds(@RequestParam List<Long> ids,
+                                                                   @RequestParam(required = false) String fields) {
+        var progressHistoryIds = BatchResourceAssembler.distinctIds(ids);
+        if (progressHistoryIds.size() > BatchResourceAssembler.MAX_IDS) {
+            return ResponseEntity.badRequest().build();
+        }
+        var progressHistories = progressHistoryQueryService.handle(new GetProgressHistoriesByIdsQuery(progressHistoryIds));
+        return ResponseEntity.ok(BatchResourceAssembler.toResource(progressHistoryIds, progressHistories, ProgressHistory::getId,
+                ProgressHistoryResourceFromEntityAssembler::toResourceFromEntity, fields));
     }
 
     /**
@@ -73,7 +96,7 @@ public class ProgressHistoryController {
      * GET /api/v1/progress/{id}
      */
     @GetMapping("/{id}")
-    public ResponseEntity<ProgressHistoryResource> getProgressHistoryById(@PathVariable Long id) {
+    public ResponseEntity<?> getProgressHistoryById(@PathVariable Long id, @RequestParam(required = false) String fields) {
         var query = new GetProgressHistoryByIdQuery(id);
         var progressHistory = progressHistoryQueryService.handle(query);
 
@@ -82,7 +105,7 @@ public class ProgressHistoryController {
         }
 
         var progressHistoryResource = ProgressHistoryResourceFromEntityAssembler.toResourceFromEntity(progressHistory.get());
-        return ResponseEntity.ok(progressHistoryResource);
+        return ResponseEntity.ok(SparseFieldsetAssembler.toResponseBody(progressHistoryResource, fields));
     }
 
     /**
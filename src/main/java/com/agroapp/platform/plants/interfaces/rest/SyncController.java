@@ -0,0 +1,59 @@
+package com.agroapp.platform.plants.interfaces.rest;
+
+import com.agroapp.platform.plants.domain.model.queries.GetChangesSinceQuery;
+import com.agroapp.platform.plants.domain.services.SyncQueryService;
+import com.agroapp.platform.plants.interfaces.rest.resources.SyncResource;
+import com.agroapp.platform.plants.interfaces.rest.transform.SyncResourceFromChangeSetAssembler;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Instant;
+import java.util.Date;
+
+/**
+ * REST Controller for delta synchronization of offline-first clients.
+ * A client keeps the cursor of its last sync and only downloads what changed after it,
+ * instead of reloading fields, tasks, crop fields and progress in full.
+ */
+@RestController
+@RequestMapping("/api/v1/sync")
+@Tag(name = "Sync", description = "Delta synchronization of a user's plants records")
+public class SyncController {
+
+    private final SyncQueryService syncQueryService;
+
+    public SyncController(SyncQueryService syncQueryService) {
+        this.syncQueryService = syncQueryService;
+    }
+
+    /**
+     * Gets the changes of a user's fields since a cursor.
+     * GET /api/v1/sync?userId={userId}&since={cursor}
+     *
+     * @param userId ID of the user owning the fields
+     * @param since Cursor returned by the previous sync (ISO-8601 instant); omitted for a full sync
+     * @return The created, updated and deleted records and the cursor for the next sync
+     */
+    @GetMapping
+    @Operation(summary = "Get changes since a cursor", description = "Returns the fields, tasks, crop fields and progress histories of the user " +
+            "created or updated after the cursor, and the records deleted after it. Omit 'since' for a full sync. " +
+            "Records changed shortly before the returned cursor may be sent again on the next sync. " +
+            "A cursor older than the deletions are kept for gets every record, with fullResync set.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Changes and the cursor for the next sync"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor")
+    })
+    public ResponseEntity<SyncResource> getChanges(@RequestParam Long userId,
+                                                   @RequestParam(required = false) Instant since) {
+        var query = new GetChangesSinceQuery(userId, since != null ? Date.from(since) : null);
+        var changeSet = syncQueryService.handle(query);
+        return ResponseEntity.ok(SyncResourceFromChangeSetAssembler.toResourceFromChangeSet(changeSet));
+    }
+}
@@ -1,16 +1,29 @@
 package com.agroapp.platform.plants.interfaces.rest;
 
+import com.agroapp.platform.plants.domain.model.aggregates.Task;
 import com.agroapp.platform.plants.domain.model.commands.DeleteTaskCommand;
+import com.agroapp.platform.plants.domain.model.projections.TaskDueDateUpdate;
+import com.agroapp.platform.plants.domain.model.valueobjects.TaskOccurrence;
 import com.agroapp.platform.plants.domain.model.queries.*;
 import com.agroapp.platform.plants.domain.services.*;
 import com.agroapp.platform.plants.interfaces.rest.resources.*;
 import com.agroapp.platform.plants.interfaces.rest.transform.*;
+import com.agroapp.platform.shared.domain.exceptions.VersionConflictException;
+import com.agroapp.platform.shared.interfaces.rest.transform.EntityTagAssembler;
+import com.agroapp.platform.shared.interfaces.rest.resources.BatchResource;
+import com.agroapp.platform.shared.interfaces.rest.transform.BatchResourceAssembler;
+import com.agroapp.platform.shared.interfaces.rest.transform.SparseFieldsetAssembler;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
@@ -23,6 +36,8 @@ import java.util.stream.Collectors;
 @Tag(name = "Tasks", description = "Task Management Endpoints")
 public class TasksController {
 
+    private static final int MAX_OCCURRENCE_WINDOW_DAYS = 366;
+
     private final TaskCommandService taskCommandService;
     private final TaskQueryService taskQueryService;
 
@@ -37,7 +52,7 @@ public class TasksController {
      * GET /api/Tasks
      */
     @GetMapping
-    public ResponseEntity<List<TaskResource>> getAllTasks() {
+    public ResponseEntity<?> getAllTasks(@RequestParam(required = false) String fields) {
         var query = new GetAllTasksQuery();
         var tasks = taskQueryService.handle(query);
 
@@ -45,12 +60,33 @@ public class TasksController {
                 .map(TaskResourceFromEntityAssembler::toResourceFromEntity)
                 .collect(Collectors.toList());
 
-        return ResponseEntity.ok(taskResources);
+        return ResponseEntity.ok(SparseFieldsetAssembler.toResponseBody(taskResources, fields));
+    }
+
+    /**
+     * Gets several tasks by their IDs in one request.
+     * GET /api/v1/tasks?ids=1,2,3
+     * Optional sparse fieldset: ?fields=id,...
+     * At most {@link BatchResourceAssembler#MAX_IDS} distinct IDs; the tasks come back in the requested
+     * order and the IDs without one are listed in missingIds.
+     */
+    @GetMapping(params = "ids")
+    public ResponseEntity<BatchResource> getTasksByIds(@RequestParam List<Long> ids,
+                                                       @RequestParam(required = false) String fields) {
+        var taskIds = BatchResourceAssembler.distinctIds(ids);
+        if (taskIds.size() > BatchResourceAssembler.MAX_IDS) {
+            return ResponseEntity.badRequest().build();
+        }
+        var tasks = taskQueryService.handle(new GetTasksByIdsQuery(taskIds));
+        return ResponseEntity.ok(BatchResourceAssembler.toResource(taskIds, tasks, Task::getId,
+                TaskResourceFromEntityAssembler::toResourceFromEntity, fields));
     }
 
     /**
      * Creates a new task.
      * POST /api/Tasks
+     * With recurrenceIntervalDays the task recurs every that many days from its due date
+     * (until recurrenceUntil, when given); its occurrences are read from /field/{fieldId}/occurrences.
      */
     @PostMapping
     public ResponseEntity<TaskResource> createTask(@RequestBody CreateTaskResource resource) {
@@ -58,7 +94,12 @@ public class TasksController {
         var command = CreateTaskCommandFromResourceAssembler.toCommandFromResource(resource);
 
         // Execute command through service
-        var task = taskCommandService.handle(command);
+        Optional<Task> task;
+        try {
+            task = taskCommandService.handle(command);
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.badRequest().build();
+        }
         if (task.isEmpty()) {
             return ResponseEntity.badRequest().build();
         }
@@ -71,9 +112,21 @@ public class TasksController {
     /**
      * Gets a task by its ID.
      * GET /api/Tasks/{id}
+     * Sends ETag "{id}-{version}" and answers 304 when If-None-Match still matches.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<TaskResource> getTaskById(@PathVariable Long id) {
+    public ResponseEntity<?> getTaskById(@PathVariable Long id,
+                                         @RequestParam(required = false) String fields,
+                                         WebRequest webRequest) {
+        var version = taskQueryService.handle(new GetTaskVersionByIdQuery(id));
+        if (version.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        // Answer 304 from the version column alone when the client copy is current
+        if (webRequest.checkNotModified(EntityTagAssembler.toEntityTag(id, version.get()))) {
+            return null;
+        }
+
         var query = new GetTaskByIdQuery(id);
         var task = taskQueryService.handle(query);
 
@@ -82,27 +135,66 @@ public class TasksController {
         }
 
         var taskResource = TaskResourceFromEntityAssembler.toResourceFromEntity(task.get());
-        return ResponseEntity.ok(taskResource);
+        return ResponseEntity.ok(SparseFieldsetAssembler.toResponseBody(taskResource, fields));
     }
 
     /**
      * Updates an existing task.
      * PUT /api/Tasks/{id}
+     * With If-Match: "{id}-{version}" the update only applies if the task has not changed since (412 otherwise).
      */
     @PutMapping("/{id}")
-    public ResponseEntity<TaskResource> updateTask(@PathVariable Long id, @RequestBody EditTaskResource resource) {
+    public ResponseEntity<TaskResource> updateTask(@PathVariable Long id,
+                                                   @RequestBody EditTaskResource resource,
+                                                   @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         // Transform Resource to Command using Assembler
-        var command = UpdateTaskCommandFromResourceAssembler.toCommandFromResource(id, resource);
+        var command = UpdateTaskCommandFromResourceAssembler.toCommandFromResource(id, resource,
+                EntityTagAssembler.toExpectedVersion(ifMatch, id));
 
         // Execute command through service
-        var task = taskCommandService.handle(command);
+        Optional<Task> task;
+        try {
+            task = taskCommandService.handle(command);
+        } catch (VersionConflictException ex) {
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+        }
         if (task.isEmpty()) {
             return ResponseEntity.badRequest().build();
         }
 
         // Transform Entity to Resource using Assembler
         var taskResource = TaskResourceFromEntityAssembler.toResourceFromEntity(task.get());
-        return ResponseEntity.ok(taskResource);
+        return ResponseEntity.ok()
+                .eTag(EntityTagAssembler.toEntityTag(task.get().getId(), task.get().getVersion()))
+                .body(taskResource);
+    }
+
+    /**
+     * Reschedules a task, changing only its due date.
+     * PATCH /api/v1/tasks/{id}/due-date
+     * With If-Match: "{id}-{version}" the change only applies if the task has not changed since (412 otherwise).
+     */
+    @PatchMapping("/{id}/due-date")
+    public ResponseEntity<TaskDueDateResource> rescheduleTask(@PathVariable Long id,
+                                                              @RequestBody RescheduleTaskResource resource,
+                                                              @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        var command = RescheduleTaskCommandFromResourceAssembler.toCommandFromResource(id, resource,
+                EntityTagAssembler.toExpectedVersion(ifMatch, id));
+
+        Optional<TaskDueDateUpdate> update;
+        try {
+            update = taskCommandService.handle(command);
+        } catch (VersionConflictException ex) {
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+        }
+        if (update.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+
+        var dueDateResource = TaskDueDateResourceFromProjectionAssembler.toResourceFromProjection(update.get());
+        return ResponseEntity.ok()
+                .eTag(EntityTagAssembler.toEntityTag(id, update.get().version()))
+                .body(dueDateResource);
     }
 
     /**
@@ -121,7 +213,7 @@ public class TasksController {
      * GET /api/v1/tasks/field/{fieldId}
      */
     @GetMapping("/field/{fieldId}")
-    public ResponseEntity<List<TaskResource>> getTasksByFieldId(@PathVariable Long fieldId) {
+    public ResponseEntity<?> getTasksByFieldId(@PathVariable Long fieldId, @RequestParam(required = false) String fields) {
         var query = new GetTasksByFieldIdQuery(fieldId);
         var tasks = taskQueryService.handle(query);
 
@@ -129,7 +221,58 @@ public class TasksController {
                 .map(TaskResourceFromEntityAssembler::toResourceFromEntity)
                 .collect(Collectors.toList());
 
-        return ResponseEntity.ok(taskResources);
+        return ResponseEntity.ok(SparseFieldsetAssembler.toResponseBody(taskResources, fields));
     }
-}
 
+    /**
+     * Gets the occurrences of the tasks of a Field due in a window.
+     * GET /api/v1/tasks/field/{fieldId}/occurrences?from=2025-03-01T00:00:00&to=2025-04-01T00:00:00
+     * Recurring tasks are expanded for the window only; skipped occurrences are left out.
+     * The window (from inclusive, to exclusive) spans at most {@value #MAX_OCCURRENCE_WINDOW_DAYS} days.
+     */
+    @GetMapping("/field/{fieldId}/occurrences")
+    public ResponseEntity<List<TaskOccurrenceResource>> getTaskOccurrencesByFieldId(
+            @PathVariable Long fieldId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        if (!from.isBefore(to) || from.plusDays(MAX_OCCURRENCE_WINDOW_DAYS).isBefore(to)) {
+            return ResponseEntity.badRequest().build();
+        }
+        var occurrences = taskQueryService.handle(new GetTaskOccurrencesByFieldIdQuery(fieldId, from, to));
+
+        var occurrenceResources = occurrences.stream()
+                .map(TaskOccurrenceResourceFromValueObjectAssembler::toResourceFromValueObject)
+                .toList();
+
+        return ResponseEntity.ok(occurrenceResources);
+    }
+
+    /**
+     * Completes, skips or moves one occurrence of a task.
+     * PUT /api/v1/tasks/{id}/occurrences/{occurrenceDate}
+     * The occurrence is identified by its due date according to the task's rule; only the change is stored.
+     * Answers 400 when the task has no occurrence at that date.
+     */
+    @PutMapping("/{id}/occurrences/{occurrenceDate}")
+    public ResponseEntity<TaskOccurrenceResource> updateTaskOccurrence(
+            @PathVariable Long id,
+            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime occurrenceDate,
+            @RequestBody UpdateTaskOccurrenceResource resource) {
+        if (resource.status() == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        var command = UpdateTaskOccurrenceCommandFromResourceAssembler.toCommandFromResource(id, occurrenceDate, resource);
+
+        Optional<TaskOccurrence> occurrence;
+        try {
+            occurrence = taskCommandService.handle(command);
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.badRequest().build();
+        }
+        if (occurrence.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+
+        return ResponseEntity.ok(TaskOccurrenceResourceFromValueObjectAssembler.toResourceFromValueObject(occurrence.get()));
+    }
+}
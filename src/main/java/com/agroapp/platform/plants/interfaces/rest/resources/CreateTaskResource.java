@@ -5,7 +5,9 @@ import java.time.LocalDateTime;
 public record CreateTaskResource(
         Long fieldId,
         String description,
-        LocalDateTime dueDate
+        LocalDateTime dueDate,
+        Integer recurrenceIntervalDays,
+        LocalDateTime recurrenceUntil
 ) {
 }
 
@@ -0,0 +1,12 @@
+package com.agroapp.platform.plants.interfaces.rest.resources;
+
+import com.agroapp.platform.plants.domain.model.valueobjects.CropFieldStatus;
+
+import java.time.LocalDateTime;
+
+public record CropFieldStatusResource(
+        Long id,
+        CropFieldStatus status,
+        LocalDateTime updatedAt
+) {
+}
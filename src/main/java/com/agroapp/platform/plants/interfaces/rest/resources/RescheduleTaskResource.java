@@ -0,0 +1,8 @@
+package com.agroapp.platform.plants.interfaces.rest.resources;
+
+import java.time.LocalDateTime;
+
+public record RescheduleTaskResource(
+        LocalDateTime dueDate
+) {
+}
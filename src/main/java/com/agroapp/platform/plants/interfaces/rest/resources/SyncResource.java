@@ -0,0 +1,21 @@
+package com.agroapp.platform.plants.interfaces.rest.resources;
+
+import java.util.List;
+
+/**
+ * Changes of a user's plants records since a cursor.
+ * Fields are sent without their derived relationship ids (progressHistoryId, cropFieldId, taskIds):
+ * the related records carry their fieldId. Clients apply the deletions before the upserts.
+ * With fullResync the cursor was older than the deletions are kept for: the response holds every record
+ * of the user and clients drop the records they have that it does not list.
+ */
+public record SyncResource(
+        String cursor,
+        boolean fullResync,
+        List<FieldResource> fields,
+        List<TaskResource> tasks,
+        List<CropFieldResource> cropFields,
+        List<ProgressHistoryResource> progressHistories,
+        List<TombstoneResource> deleted
+) {
+}
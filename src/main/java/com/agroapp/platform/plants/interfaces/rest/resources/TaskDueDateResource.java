@@ -0,0 +1,10 @@
+package com.agroapp.platform.plants.interfaces.rest.resources;
+
+import java.time.LocalDateTime;
+
+public record TaskDueDateResource(
+        Long id,
+        LocalDateTime dueDate,
+        LocalDateTime updatedAt
+) {
+}
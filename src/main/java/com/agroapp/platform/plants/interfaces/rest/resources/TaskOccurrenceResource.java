@@ -0,0 +1,15 @@
+package com.agroapp.platform.plants.interfaces.rest.resources;
+
+import com.agroapp.platform.plants.domain.model.valueobjects.TaskOccurrenceStatus;
+
+import java.time.LocalDateTime;
+
+public record TaskOccurrenceResource(
+        Long taskId,
+        Long fieldId,
+        String description,
+        LocalDateTime occurrenceDate,
+        LocalDateTime dueDate,
+        TaskOccurrenceStatus status
+) {
+}
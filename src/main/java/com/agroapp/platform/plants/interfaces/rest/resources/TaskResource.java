@@ -7,6 +7,8 @@ public record TaskResource(
         Long fieldId,
         String description,
         LocalDateTime dueDate,
+        Integer recurrenceIntervalDays,
+        LocalDateTime recurrenceUntil,
         LocalDateTime createdDate,
         LocalDateTime updatedDate
 ) {
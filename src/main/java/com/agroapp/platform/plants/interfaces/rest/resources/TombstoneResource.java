@@ -0,0 +1,16 @@
+package com.agroapp.platform.plants.interfaces.rest.resources;
+
+import com.agroapp.platform.plants.domain.model.valueobjects.SyncEntityType;
+
+import java.time.LocalDateTime;
+
+/**
+ * A deleted record, as reported by the sync endpoint.
+ */
+public record TombstoneResource(
+        SyncEntityType type,
+        Long id,
+        Long fieldId,
+        LocalDateTime deletedDate
+) {
+}
@@ -0,0 +1,8 @@
+package com.agroapp.platform.plants.interfaces.rest.resources;
+
+import com.agroapp.platform.plants.domain.model.valueobjects.CropFieldStatus;
+
+public record UpdateCropFieldStatusResource(
+        CropFieldStatus status
+) {
+}
@@ -0,0 +1,11 @@
+package com.agroapp.platform.plants.interfaces.rest.resources;
+
+import com.agroapp.platform.plants.domain.model.valueobjects.TaskOccurrenceStatus;
+
+import java.time.LocalDateTime;
+
+public record UpdateTaskOccurrenceResource(
+        TaskOccurrenceStatus status,
+        LocalDateTime dueDate
+) {
+}
@@ -20,7 +20,9 @@ public class CreateTaskCommandFromResourceAssembler {
         return new CreateTaskCommand(
                 resource.fieldId(),
                 resource.description(),
-                resource.dueDate()
+                resource.dueDate(),
+                resource.recurrenceIntervalDays(),
+                resource.recurrenceUntil()
         );
     }
 }
@@ -0,0 +1,25 @@
+package com.agroapp.platform.plants.interfaces.rest.transform;
+
+import com.agroapp.platform.plants.domain.model.projections.CropFieldStatusUpdate;
+import com.agroapp.platform.plants.interfaces.rest.resources.CropFieldStatusResource;
+
+/**
+ * Assembler class to transform a CropFieldStatusUpdate into a CropFieldStatusResource.
+ * Pure transformation, no business logic.
+ */
+public class CropFieldStatusResourceFromProjectionAssembler {
+
+    /**
+     * Transforms the result of a status change into a CropFieldStatusResource.
+     *
+     * @param update The columns written by the status change
+     * @return CropFieldStatusResource for REST API response
+     */
+    public static CropFieldStatusResource toResourceFromProjection(CropFieldStatusUpdate update) {
+        return new CropFieldStatusResource(
+                update.cropFieldId(),
+                update.status(),
+                update.updatedAt().toInstant().atZone(java.time.ZoneId.systemDefault()).toLocalDateTime()
+        );
+    }
+}
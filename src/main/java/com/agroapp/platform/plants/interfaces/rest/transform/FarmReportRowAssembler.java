@@ -0,0 +1,46 @@
+package com.agroapp.platform.plants.interfaces.rest.transform;
+
+import com.agroapp.platform.plants.domain.model.projections.FarmReportRow;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Assembler class to transform a FarmReportRow into the cells of a report line.
+ * Pure transformation, no business logic.
+ */
+public class FarmReportRowAssembler {
+
+    /**
+     * Column names, in the order of {@link #toValues}.
+     */
+    public static final List<String> COLUMNS = List.of(
+            "Field ID", "Field", "Location", "Size",
+            "Crop", "Crop status", "Planting date", "Harvest date",
+            "Last watered", "Last fertilized", "Last pest control",
+            "Task ID", "Task", "Task due date", "Task repeats every (days)");
+
+    /**
+     * @return The cells of the row; absent values are null
+     */
+    public static List<Object> toValues(FarmReportRow row) {
+        // Arrays.asList accepts the null cells List.of would reject
+        return Arrays.asList(
+                row.getFieldId(),
+                row.getFieldName(),
+                row.getLocation(),
+                row.getFieldSize(),
+                row.getCrop(),
+                row.getCropStatus(),
+                row.getPlantingDate(),
+                row.getHarvestDate(),
+                row.getWatered(),
+                row.getFertilized(),
+                row.getPests(),
+                row.getTaskId(),
+                row.getTaskDescription(),
+                row.getTaskDueDate(),
+                row.getTaskRecurrenceIntervalDays()
+        );
+    }
+}
@@ -1,6 +1,7 @@
 package com.agroapp.platform.plants.interfaces.rest.transform;
 
 import com.agroapp.platform.plants.domain.model.aggregates.Field;
+import com.agroapp.platform.plants.domain.model.projections.FieldSummary;
 import com.agroapp.platform.plants.interfaces.rest.resources.FieldResource;
 
 import java.util.List;
@@ -40,5 +41,32 @@ public class FieldResourceFromEntityAssembler {
                 field.getUpdatedAt() != null ? field.getUpdatedAt().toInstant().atZone(java.time.ZoneId.systemDefault()).toLocalDateTime() : null
         );
     }
-}
 
+    /**
+     * Transforms a FieldSummary projection into a FieldResource without image.
+     *
+     * @param field The Field projection (imageUrl is not loaded)
+     * @param progressHistoryId The associated ProgressHistory ID (nullable)
+     * @param cropFieldId The associated CropField ID (nullable)
+     * @param taskIds List of associated Task IDs (nullable when not requested)
+     * @return FieldResource for REST API response
+     */
+    public static FieldResource toResourceFromProjection(FieldSummary field,
+                                                         Long progressHistoryId,
+                                                         Long cropFieldId,
+                                                         List<Long> taskIds) {
+        return new FieldResource(
+                field.getId(),
+                field.getUserId(),
+                null,
+                field.getName(),
+                field.getLocation(),
+                field.getFieldSize(),
+                progressHistoryId,
+                cropFieldId,
+                taskIds,
+                field.getCreatedAt() != null ? field.getCreatedAt().toInstant().atZone(java.time.ZoneId.systemDefault()).toLocalDateTime() : null,
+                field.getUpdatedAt() != null ? field.getUpdatedAt().toInstant().atZone(java.time.ZoneId.systemDefault()).toLocalDateTime() : null
+        );
+    }
+}
@@ -0,0 +1,28 @@
+package com.agroapp.platform.plants.interfaces.rest.transform;
+
+import com.agroapp.platform.plants.domain.model.commands.RescheduleTaskCommand;
+import com.agroapp.platform.plants.interfaces.rest.resources.RescheduleTaskResource;
+
+/**
+ * Assembler class to transform RescheduleTaskResource (DTO) to RescheduleTaskCommand.
+ * Follows the pattern: [Command]CommandFromResourceAssembler
+ * Pure transformation for partial update operations.
+ */
+public class RescheduleTaskCommandFromResourceAssembler {
+
+    /**
+     * Transforms a RescheduleTaskResource into a RescheduleTaskCommand.
+     *
+     * @param taskId The ID of the task to reschedule (from path parameter)
+     * @param resource The incoming REST resource with the new due date
+     * @param expectedVersion Version the client based its change on (from If-Match), or null
+     * @return RescheduleTaskCommand to be processed by the domain layer
+     */
+    public static RescheduleTaskCommand toCommandFromResource(Long taskId, RescheduleTaskResource resource, Long expectedVersion) {
+        return new RescheduleTaskCommand(
+                taskId,
+                resource.dueDate(),
+                expectedVersion
+        );
+    }
+}
@@ -0,0 +1,42 @@
+package com.agroapp.platform.plants.interfaces.rest.transform;
+
+import com.agroapp.platform.plants.domain.model.entities.Tombstone;
+import com.agroapp.platform.plants.domain.model.valueobjects.ChangeSet;
+import com.agroapp.platform.plants.interfaces.rest.resources.SyncResource;
+import com.agroapp.platform.plants.interfaces.rest.resources.TombstoneResource;
+
+/**
+ * Assembler class to transform a ChangeSet into a SyncResource (DTO).
+ * Pure transformation, no business logic.
+ */
+public class SyncResourceFromChangeSetAssembler {
+
+    /**
+     * Transforms a ChangeSet into a SyncResource.
+     *
+     * @param changeSet The changes since the requested cursor
+     * @return SyncResource for REST API response
+     */
+    public static SyncResource toResourceFromChangeSet(ChangeSet changeSet) {
+        return new SyncResource(
+                changeSet.cursor().toInstant().toString(),
+                changeSet.fullResync(),
+                changeSet.fields().stream()
+                        .map(field -> FieldResourceFromEntityAssembler.toResourceFromEntity(field, null, null, null))
+                        .toList(),
+                changeSet.tasks().stream().map(TaskResourceFromEntityAssembler::toResourceFromEntity).toList(),
+                changeSet.cropFields().stream().map(CropFieldResourceFromEntityAssembler::toResourceFromEntity).toList(),
+                changeSet.progressHistories().stream().map(ProgressHistoryResourceFromEntityAssembler::toResourceFromEntity).toList(),
+                changeSet.tombstones().stream().map(SyncResourceFromChangeSetAssembler::toResourceFromTombstone).toList()
+        );
+    }
+
+    private static TombstoneResource toResourceFromTombstone(Tombstone tombstone) {
+        return new TombstoneResource(
+                tombstone.getEntityType(),
+                tombstone.getEntityId(),
+                tombstone.getFieldId(),
+                tombstone.getCreatedAt() != null ? tombstone.getCreatedAt().toInstant().atZone(java.time.ZoneId.systemDefault()).toLocalDateTime() : null
+        );
+    }
+}
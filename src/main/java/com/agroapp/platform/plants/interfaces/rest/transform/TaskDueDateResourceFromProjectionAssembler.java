@@ -0,0 +1,25 @@
+package com.agroapp.platform.plants.interfaces.rest.transform;
+
+import com.agroapp.platform.plants.domain.model.projections.TaskDueDateUpdate;
+import com.agroapp.platform.plants.interfaces.rest.resources.TaskDueDateResource;
+
+/**
+ * Assembler class to transform a TaskDueDateUpdate into a TaskDueDateResource.
+ * Pure transformation, no business logic.
+ */
+public class TaskDueDateResourceFromProjectionAssembler {
+
+    /**
+     * Transforms the result of a reschedule into a TaskDueDateResource.
+     *
+     * @param update The columns written by the reschedule
+     * @return TaskDueDateResource for REST API response
+     */
+    public static TaskDueDateResource toResourceFromProjection(TaskDueDateUpdate update) {
+        return new TaskDueDateResource(
+                update.taskId(),
+                update.dueDate(),
+                update.updatedAt().toInstant().atZone(java.time.ZoneId.systemDefault()).toLocalDateTime()
+        );
+    }
+}
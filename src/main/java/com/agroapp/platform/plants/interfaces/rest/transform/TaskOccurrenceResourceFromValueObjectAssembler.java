@@ -0,0 +1,28 @@
+package com.agroapp.platform.plants.interfaces.rest.transform;
+
+import com.agroapp.platform.plants.domain.model.valueobjects.TaskOccurrence;
+import com.agroapp.platform.plants.interfaces.rest.resources.TaskOccurrenceResource;
+
+/**
+ * Assembler class to transform an expanded TaskOccurrence into a TaskOccurrenceResource.
+ * Pure transformation, no business logic.
+ */
+public class TaskOccurrenceResourceFromValueObjectAssembler {
+
+    /**
+     * Transforms a TaskOccurrence into a TaskOccurrenceResource.
+     *
+     * @param occurrence The occurrence
+     * @return TaskOccurrenceResource for REST API response
+     */
+    public static TaskOccurrenceResource toResourceFromValueObject(TaskOccurrence occurrence) {
+        return new TaskOccurrenceResource(
+                occurrence.taskId(),
+                occurrence.fieldId(),
+                occurrence.description(),
+                occurrence.occurrenceDate(),
+                occurrence.dueDate(),
+                occurrence.status()
+        );
+    }
+}
@@ -22,6 +22,8 @@ public class TaskResourceFromEntityAssembler {
                 task.getFieldId(),
                 task.getDescription(),
                 task.getDueDate(),
+                task.getRecurrence() != null ? task.getRecurrence().intervalDays() : null,
+                task.getRecurrence() != null ? task.getRecurrence().until() : null,
                 task.getCreatedAt() != null ? task.getCreatedAt().toInstant().atZone(java.time.ZoneId.systemDefault()).toLocalDateTime() : null,
                 task.getUpdatedAt() != null ? task.getUpdatedAt().toInstant().atZone(java.time.ZoneId.systemDefault()).toLocalDateTime() : null
         );
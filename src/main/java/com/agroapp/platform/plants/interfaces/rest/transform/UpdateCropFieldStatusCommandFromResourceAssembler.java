@@ -0,0 +1,26 @@
+package com.agroapp.platform.plants.interfaces.rest.transform;
+
+import com.agroapp.platform.plants.domain.model.commands.UpdateCropFieldStatusCommand;
+import com.agroapp.platform.plants.interfaces.rest.resources.UpdateCropFieldStatusResource;
+
+/**
+ * Assembler class to transform UpdateCropFieldStatusResource (DTO) to UpdateCropFieldStatusCommand.
+ * Follows the pattern: [Command]CommandFromResourceAssembler
+ * Pure transformation for partial update operations.
+ */
+public class UpdateCropFieldStatusCommandFromResourceAssembler {
+
+    /**
+     * Transforms an UpdateCropFieldStatusResource into an UpdateCropFieldStatusCommand.
+     *
+     * @param cropFieldId The ID of the crop field to update (from path parameter)
+     * @param resource The incoming REST resource with the new status
+     * @return UpdateCropFieldStatusCommand to be processed by the domain layer
+     */
+    public static UpdateCropFieldStatusCommand toCommandFromResource(Long cropFieldId, UpdateCropFieldStatusResource resource) {
+        return new UpdateCropFieldStatusCommand(
+                cropFieldId,
+                resource.status()
+        );
+    }
+}
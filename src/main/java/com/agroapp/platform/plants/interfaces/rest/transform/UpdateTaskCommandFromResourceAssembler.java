@@ -15,14 +15,16 @@ public class UpdateTaskCommandFromResourceAssembler {
      *
      * @param taskId The ID of the task to update (from path parameter)
      * @param resource The incoming REST resource with update data
+     * @param expectedVersion Version the client based its changes on (from If-Match), or null
      * @return UpdateTaskCommand to be processed by the domain layer
      */
-    public static UpdateTaskCommand toCommandFromResource(Long taskId, EditTaskResource resource) {
+    public static UpdateTaskCommand toCommandFromResource(Long taskId, EditTaskResource resource, Long expectedVersion) {
         return new UpdateTaskCommand(
                 taskId,
                 resource.fieldId(),
                 resource.description(),
-                resource.dueDate()
+                resource.dueDate(),
+                expectedVersion
         );
     }
 }
@@ -0,0 +1,32 @@
+package com.agroapp.platform.plants.interfaces.rest.transform;
+
+import com.agroapp.platform.plants.domain.model.commands.UpdateTaskOccurrenceCommand;
+import com.agroapp.platform.plants.interfaces.rest.resources.UpdateTaskOccurrenceResource;
+
+import java.time.LocalDateTime;
+
+/**
+ * Assembler class to transform UpdateTaskOccurrenceResource (DTO) to UpdateTaskOccurrenceCommand.
+ * Follows the pattern: [Command]CommandFromResourceAssembler
+ * Pure transformation for write operations.
+ */
+public class UpdateTaskOccurrenceCommandFromResourceAssembler {
+
+    /**
+     * Transforms an UpdateTaskOccurrenceResource into an UpdateTaskOccurrenceCommand.
+     *
+     * @param taskId The ID of the task (from path parameter)
+     * @param occurrenceDate The rule date of the occurrence (from path parameter)
+     * @param resource The incoming REST resource
+     * @return UpdateTaskOccurrenceCommand to be processed by the domain layer
+     */
+    public static UpdateTaskOccurrenceCommand toCommandFromResource(Long taskId, LocalDateTime occurrenceDate,
+                                                                    UpdateTaskOccurrenceResource resource) {
+        return new UpdateTaskOccurrenceCommand(
+                taskId,
+                occurrenceDate,
+                resource.status(),
+                resource.dueDate()
+        );
+    }
+}
@@ -0,0 +1,25 @@
+package com.agroapp.platform.shared.domain.exceptions;
+
+/**
+ * Thrown when a conditional write (If-Match) targets an aggregate whose version has moved on.
+ * Controllers translate it into 412 Precondition Failed.
+ */
+public class VersionConflictException extends RuntimeException {
+
+    private final Long aggregateId;
+    private final Long expectedVersion;
+
+    public VersionConflictException(String aggregateName, Long aggregateId, Long expectedVersion) {
+        super(aggregateName + " " + aggregateId + " is no longer at version " + expectedVersion);
+        this.aggregateId = aggregateId;
+        this.expectedVersion = expectedVersion;
+    }
+
+    public Long getAggregateId() {
+        return aggregateId;
+    }
+
+    public Long getExpectedVersion() {
+        return expectedVersion;
+    }
+}
@@ -0,0 +1,22 @@
+package com.agroapp.platform.shared.domain.model.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks an entity whose inserts, updates and deletes are recorded in the outbox, in the same transaction
+ * as the change, and then relayed to the change sinks.
+ */
+@Documented
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface PublishesChanges {
+
+    /**
+     * Properties never written to the outbox (e.g. credentials).
+     */
+    String[] exclude() default {};
+}
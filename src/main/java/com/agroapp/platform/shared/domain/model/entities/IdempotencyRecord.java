@@ -0,0 +1,97 @@
+package com.agroapp.platform.shared.domain.model.entities;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+
+import java.util.Date;
+
+/**
+ * IdempotencyRecord Entity
+ * Remembers the response to a request sent with an Idempotency-Key header, so a retry of the request
+ * gets the same response instead of running the command again. The record is created, without a
+ * response, when the first request starts; it is completed with the response when that request ends.
+ */
+@Entity
+@Getter
+@Table(indexes = @Index(columnList = "expiresAt"))
+public class IdempotencyRecord extends AuditableModel {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * Hex encoded SHA-256 digest of the caller, method, path and Idempotency-Key of the request.
+     */
+    @Column(nullable = false, unique = true, length = 64)
+    private String requestKey;
+
+    /**
+     * Hex encoded SHA-256 digest of the request body, to detect a key reused for a different request.
+     */
+    @Column(nullable = false, length = 64)
+    private String requestHash;
+
+    /**
+     * Status of the response, or null while the first request is still running.
+     */
+    private Integer statusCode;
+
+    /**
+     * Replayed response headers, one "name: value" per line.
+     */
+    @Column(length = 2000)
+    private String headers;
+
+    @Lob
+    private byte[] body;
+
+    /**
+     * When the record may be deleted; for a running request, when it is considered abandoned.
+     */
+    @Column(nullable = false)
+    private Date expiresAt;
+
+    /**
+     * Default constructor required by JPA.
+     */
+    public IdempotencyRecord() {
+    }
+
+    /**
+     * Creates the record of a request that is starting.
+     *
+     * @param requestKey Digest of the caller, method, path and key
+     * @param requestHash Digest of the body
+     * @param expiresAt When the request is considered abandoned if it has not completed
+     */
+    public IdempotencyRecord(String requestKey, String requestHash, Date expiresAt) {
+        if (requestKey == null || requestHash == null || expiresAt == null) {
+            throw new IllegalArgumentException("IdempotencyRecord must have a request key, a request hash and an expiry");
+        }
+        this.requestKey = requestKey;
+        this.requestHash = requestHash;
+        this.expiresAt = expiresAt;
+    }
+
+    /**
+     * Stores the response of the request.
+     *
+     * @return The updated IdempotencyRecord instance (fluent interface)
+     */
+    public IdempotencyRecord complete(int statusCode, String headers, byte[] body, Date expiresAt) {
+        this.statusCode = statusCode;
+        this.headers = headers;
+        this.body = body;
+        this.expiresAt = expiresAt;
+        return this;
+    }
+
+    public boolean isCompleted() {
+        return statusCode != null;
+    }
+
+    public boolean isExpired(Date now) {
+        return expiresAt.before(now);
+    }
+}
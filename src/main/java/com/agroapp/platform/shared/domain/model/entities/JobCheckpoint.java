@@ -0,0 +1,63 @@
+package com.agroapp.platform.shared.domain.model.entities;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+
+/**
+ * JobCheckpoint Entity
+ * Records how far a resumable background job has progressed, so a restart
+ * picks up after the last committed chunk instead of starting over.
+ */
+@Entity
+@Getter
+public class JobCheckpoint extends AuditableModel {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true)
+    private String jobName;
+
+    /**
+     * Highest row id the job has fully processed.
+     */
+    @Column(nullable = false)
+    private Long lastProcessedId;
+
+    @Column(nullable = false)
+    private long processedCount;
+
+    /**
+     * Default constructor required by JPA.
+     */
+    public JobCheckpoint() {
+    }
+
+    /**
+     * Creates a checkpoint for a job that has not processed anything yet.
+     *
+     * @param jobName Unique name of the job
+     */
+    public JobCheckpoint(String jobName) {
+        if (jobName == null || jobName.isBlank()) {
+            throw new IllegalArgumentException("JobCheckpoint must have a job name");
+        }
+        this.jobName = jobName;
+        this.lastProcessedId = 0L;
+        this.processedCount = 0L;
+    }
+
+    /**
+     * Moves the checkpoint past a processed chunk.
+     *
+     * @param lastProcessedId Highest row id of the chunk
+     * @param processed Number of rows processed in the chunk
+     * @return The updated JobCheckpoint instance (fluent interface)
+     */
+    public JobCheckpoint advance(Long lastProcessedId, long processed) {
+        this.lastProcessedId = lastProcessedId;
+        this.processedCount += processed;
+        return this;
+    }
+}
@@ -0,0 +1,54 @@
+package com.agroapp.platform.shared.domain.model.entities;
+
+import com.agroapp.platform.shared.domain.model.valueobjects.ChangeType;
+import jakarta.persistence.*;
+import lombok.Getter;
+
+import java.util.Date;
+
+/**
+ * OutboxMessage Entity
+ * Records a change to an entity marked with @PublishesChanges. It is written in the transaction of the
+ * change (by OutboxRecorder, on the connection of that transaction), so a change is never published
+ * without having been committed nor committed without being published. The relay delivers undelivered
+ * messages in id order and then sets their delivery time.
+ * The payload is a JSON object: the full state for CREATED and DELETED, and the written properties
+ * (plus the version, when known) for UPDATED.
+ */
+@Entity
+@Getter
+@Table(indexes = @Index(columnList = "deliveredAt, id"))
+public class OutboxMessage extends AuditableModel {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * Simple class name of the changed entity (e.g. CropField).
+     */
+    @Column(nullable = false, length = 60)
+    private String aggregateType;
+
+    @Column(nullable = false)
+    private Long aggregateId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private ChangeType changeType;
+
+    @Lob
+    @Column(nullable = false, columnDefinition = "LONGTEXT")
+    private String payload;
+
+    /**
+     * When the message was handed to every sink, or null while it is pending.
+     */
+    private Date deliveredAt;
+
+    /**
+     * Default constructor required by JPA.
+     */
+    public OutboxMessage() {
+    }
+}
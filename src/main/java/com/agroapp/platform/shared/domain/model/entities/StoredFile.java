@@ -0,0 +1,99 @@
+package com.agroapp.platform.shared.domain.model.entities;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * StoredFile Entity
+ * Catalogue entry describing a file kept by the file storage service.
+ * Lets listings be answered from an indexed table instead of scanning the uploads directory.
+ */
+@Entity
+@Getter
+@Table(indexes = {
+        @Index(columnList = "ownerId, createdAt"),
+        @Index(columnList = "contentType")
+})
+public class StoredFile extends AuditableModel {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * Name of the file inside the uploads directory (UUID based, never reused).
+     */
+    @Column(nullable = false, unique = true)
+    private String filename;
+
+    private String originalFilename;
+
+    private String contentType;
+
+    @Column(nullable = false)
+    private long size;
+
+    /**
+     * Hex encoded SHA-256 digest of the file content.
+     */
+    @Column(length = 64)
+    private String sha256;
+
+    private Long ownerId;
+
+    /**
+     * Comma separated widths (in pixels) of the precomputed image renditions, e.g. "200,480,1080".
+     * Null until the rendition pipeline has processed the file.
+     */
+    private String renditionWidths;
+
+    /**
+     * Compact BlurHash placeholder clients can paint while the image loads.
+     */
+    @Column(length = 64)
+    private String placeholderHash;
+
+    /**
+     * Default constructor required by JPA.
+     */
+    public StoredFile() {
+    }
+
+    /**
+     * Creates a new catalogue entry.
+     *
+     * @param filename Name of the stored file (required)
+     * @param originalFilename Name of the file as uploaded by the client
+     * @param contentType MIME type of the file
+     * @param size Size of the file in bytes
+     * @param sha256 Hex encoded SHA-256 digest of the content
+     * @param ownerId ID of the user who uploaded the file (optional)
+     */
+    public StoredFile(String filename, String originalFilename, String contentType, long size, String sha256, Long ownerId) {
+        if (filename == null || filename.isBlank()) {
+            throw new IllegalArgumentException("StoredFile must have a filename");
+        }
+        this.filename = filename;
+        this.originalFilename = originalFilename;
+        this.contentType = contentType;
+        this.size = size;
+        this.sha256 = sha256;
+        this.ownerId = ownerId;
+    }
+
+    /**
+     * Records the renditions produced for this image.
+     *
+     * @param widths Widths of the renditions that were written, in ascending order
+     * @param placeholderHash BlurHash placeholder of the image
+     * @return The updated StoredFile instance (fluent interface)
+     */
+    public StoredFile recordRenditions(List<Integer> widths, String placeholderHash) {
+        this.renditionWidths = widths.stream().map(String::valueOf).collect(Collectors.joining(","));
+        this.placeholderHash = placeholderHash;
+        return this;
+    }
+}
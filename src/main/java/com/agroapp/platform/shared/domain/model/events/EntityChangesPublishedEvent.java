@@ -0,0 +1,23 @@
+package com.agroapp.platform.shared.domain.model.events;
+
+import com.agroapp.platform.shared.domain.model.entities.OutboxMessage;
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+import java.util.List;
+
+/**
+ * Event triggered by the outbox relay for every batch of committed entity changes, in outbox order.
+ * Listeners run in the relay transaction: a listener that throws makes the batch be delivered again,
+ * so listeners must tolerate seeing a message more than once (the message id identifies it).
+ */
+@Getter
+public class EntityChangesPublishedEvent extends ApplicationEvent {
+
+    private final List<OutboxMessage> messages;
+
+    public EntityChangesPublishedEvent(Object source, List<OutboxMessage> messages) {
+        super(source);
+        this.messages = messages;
+    }
+}
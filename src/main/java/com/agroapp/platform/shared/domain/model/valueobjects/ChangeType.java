@@ -0,0 +1,10 @@
+package com.agroapp.platform.shared.domain.model.valueobjects;
+
+/**
+ * Kind of change recorded in the outbox.
+ */
+public enum ChangeType {
+    CREATED,
+    UPDATED,
+    DELETED
+}
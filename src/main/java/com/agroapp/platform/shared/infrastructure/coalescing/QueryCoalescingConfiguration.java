@@ -0,0 +1,73 @@
+package com.agroapp.platform.shared.infrastructure.coalescing;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.aop.framework.Advised;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Configuration of query coalescing (see {@link QueryCoalescingInterceptor}).
+ * The query types to coalesce are listed in query-coalescing.query-types (simple names of the
+ * query records); the handle methods taking one of them are coalesced. A caller waits for the shared
+ * execution at most query-coalescing.max-wait (5 seconds by default).
+ */
+@Configuration
+public class QueryCoalescingConfiguration {
+
+    private static final Duration DEFAULT_MAX_WAIT = Duration.ofSeconds(5);
+
+    /**
+     * Adds the coalescing advice to the query services, ahead of their transactional advice,
+     * so concurrent callers share one transaction instead of each opening their own.
+     * Static so it is registered before the services are created.
+     *
+     * @return BeanPostProcessor advising query services
+     */
+    @Bean
+    public static BeanPostProcessor queryCoalescingPostProcessor(Environment environment,
+                                                                 ObjectProvider<MeterRegistry> meterRegistry) {
+        Set<String> queryTypes = Binder.get(environment)
+                .bind("query-coalescing.query-types", Bindable.setOf(String.class))
+                .orElse(Set.of());
+        Duration maxWait = Binder.get(environment)
+                .bind("query-coalescing.max-wait", Duration.class)
+                .orElse(DEFAULT_MAX_WAIT);
+        var interceptor = new QueryCoalescingInterceptor(queryTypes, maxWait, meterRegistry);
+        var advisor = new DefaultPointcutAdvisor(new StaticMethodMatcherPointcut() {
+            @Override
+            public boolean matches(Method method, Class<?> targetClass) {
+                return "handle".equals(method.getName()) && method.getParameterCount() == 1
+                        && interceptor.coalesces(method.getParameterTypes()[0]);
+            }
+        }, interceptor);
+
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (queryTypes.isEmpty() || !AopUtils.canApply(advisor, AopUtils.getTargetClass(bean))) {
+                    return bean;
+                }
+                if (bean instanceof Advised advised && !advised.isFrozen()) {
+                    advised.addAdvisor(0, advisor);
+                    return bean;
+                }
+                var proxyFactory = new ProxyFactory(bean);
+                proxyFactory.addAdvisor(advisor);
+                return proxyFactory.getProxy();
+            }
+        };
+    }
+}
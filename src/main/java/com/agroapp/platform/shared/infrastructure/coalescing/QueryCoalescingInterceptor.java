@@ -0,0 +1,96 @@
+package com.agroapp.platform.shared.infrastructure.coalescing;
+
+import com.agroapp.platform.shared.infrastructure.persistence.routing.ReadWriteRoutingDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Coalesces concurrent identical calls of query service handle(query) methods
+ * (applied to the configured query types by {@link QueryCoalescingConfiguration}):
+ * calls with an equal query record share one in-flight execution and its result.
+ * Only callers outside a transaction are coalesced
+ * (a caller inside one may depend on its own uncommitted writes).
+ * Callers pinned to the primary database never share a call with callers reading from the replica.
+ * A caller waits for the shared execution at most query-coalescing.max-wait, then runs the query itself.
+ * Publishes {@code queries.coalesced} (calls answered by another caller's execution) and
+ * {@code queries.executed} (executions of coalescable queries), both tagged with the query type.
+ */
+public class QueryCoalescingInterceptor implements MethodInterceptor {
+
+    private final Set<String> queryTypes;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final SingleFlight singleFlight;
+    private final Map<Class<?>, Counter> coalescedCounters = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Counter> executedCounters = new ConcurrentHashMap<>();
+
+    /**
+     * Key of a coalesced call.
+     */
+    private record CallKey(Object query, boolean pinnedToPrimary) {
+    }
+
+    /**
+     * @param queryTypes Simple names of the query records to coalesce
+     * @param maxWait Longest time a caller waits for the shared execution
+     * @param meterRegistry Registry the counters are published to (resolved on first use)
+     */
+    public QueryCoalescingInterceptor(Set<String> queryTypes, Duration maxWait, ObjectProvider<MeterRegistry> meterRegistry) {
+        this.queryTypes = queryTypes;
+        this.singleFlight = new SingleFlight(maxWait);
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * @param queryType Type of the query argument of a handle method
+     * @return Whether calls with this query type are coalesced
+     */
+    public boolean coalesces(Class<?> queryType) {
+        return queryTypes.contains(queryType.getSimpleName());
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Object query = invocation.getArguments()[0];
+        if (query == null || TransactionSynchronizationManager.isActualTransactionActive()) {
+            return invocation.proceed();
+        }
+
+        Class<?> queryType = query.getClass();
+        var key = new CallKey(query, ReadWriteRoutingDataSource.isPinnedToPrimary());
+        var result = singleFlight.execute(key, () -> {
+            counter(executedCounters, "queries.executed", "Executions of coalescable queries", queryType).increment();
+            return proceed(invocation);
+        });
+        if (result.shared()) {
+            counter(coalescedCounters, "queries.coalesced", "Queries answered by a concurrent identical query", queryType).increment();
+        }
+        return result.value();
+    }
+
+    private static Object proceed(MethodInvocation invocation) {
+        try {
+            return invocation.proceed();
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            // handle methods declare no checked exceptions
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Counter counter(Map<Class<?>, Counter> counters, String name, String description, Class<?> queryType) {
+        return counters.computeIfAbsent(queryType, type -> Counter.builder(name)
+                .description(description)
+                .tag("query", type.getSimpleName())
+                .register(meterRegistry.getObject()));
+    }
+}
@@ -0,0 +1,89 @@
+package com.agroapp.platform.shared.infrastructure.coalescing;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Runs at most one call per key at a time: callers arriving while a call for the same key is in
+ * flight wait for it and get its result (or its exception) instead of starting their own.
+ * Nothing is cached; once the call completes, the next caller starts a new one.
+ * A caller waits at most maxWait for a call in flight, then runs the call itself.
+ */
+public class SingleFlight {
+
+    private final ConcurrentHashMap<Object, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Duration maxWait;
+
+    /**
+     * @param maxWait Longest time a caller waits for the call in flight before running its own
+     */
+    public SingleFlight(Duration maxWait) {
+        this.maxWait = maxWait;
+    }
+
+    /**
+     * Result of {@link #execute}.
+     *
+     * @param value Value returned by the call
+     * @param shared Whether the value came from a call started by another caller
+     */
+    public record Result(Object value, boolean shared) {
+    }
+
+    /**
+     * @param key Identity of the call (must implement equals and hashCode)
+     * @param call The call, run on the caller's thread when no call for the key is in flight
+     * @return The value of the call
+     */
+    public Result execute(Object key, Supplier<Object> call) {
+        var ownCall = new CompletableFuture<Object>();
+        var runningCall = inFlight.putIfAbsent(key, ownCall);
+        if (runningCall != null) {
+            try {
+                return new Result(await(runningCall), true);
+            } catch (TimeoutException e) {
+                return new Result(call.get(), false);
+            }
+        }
+
+        try {
+            Object value = call.get();
+            inFlight.remove(key, ownCall);
+            ownCall.complete(value);
+            return new Result(value, false);
+        } catch (RuntimeException | Error e) {
+            inFlight.remove(key, ownCall);
+            ownCall.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private Object await(CompletableFuture<Object> call) throws TimeoutException {
+        try {
+            return call.get(maxWait.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a call in flight", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * @return Number of calls currently in flight
+     */
+    public int size() {
+        return inFlight.size();
+    }
+}
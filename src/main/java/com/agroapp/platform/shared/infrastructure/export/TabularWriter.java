@@ -0,0 +1,31 @@
+package com.agroapp.platform.shared.infrastructure.export;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Writes a table row by row to an output stream, without holding the rows in memory.
+ * Values may be null, strings, numbers, enums or LocalDate/LocalDateTime.
+ */
+public interface TabularWriter extends AutoCloseable {
+
+    /**
+     * Writes the column names; formats that can tell them apart from data rows do so.
+     */
+    default void writeHeader(List<String> names) throws IOException {
+        writeRow(names);
+    }
+
+    void writeRow(List<?> values) throws IOException;
+
+    /**
+     * Sends what has been written so far to the client.
+     */
+    void flush() throws IOException;
+
+    /**
+     * Completes the document; the underlying stream is left open.
+     */
+    @Override
+    void close() throws IOException;
+}
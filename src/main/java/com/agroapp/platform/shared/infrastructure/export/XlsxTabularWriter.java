@@ -0,0 +1,189 @@
+package com.agroapp.platform.shared.infrastructure.export;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Streaming writer of a single-sheet XLSX workbook (Office Open XML).
+ * The fixed parts of the package are written first, then the worksheet XML is written row by row
+ * into its zip entry, so memory use does not depend on the number of rows. Strings are written
+ * inline rather than through a shared strings table, which would have to be held until the end.
+ * Numbers are numeric cells and dates are date cells; the header row is bold.
+ */
+public class XlsxTabularWriter implements TabularWriter {
+
+    private static final String XML_DECLARATION = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n";
+    private static final String MAIN_NAMESPACE = "http://schemas.openxmlformats.org/spreadsheetml/2006/main";
+    private static final String RELATIONSHIPS_NAMESPACE = "http://schemas.openxmlformats.org/package/2006/relationships";
+    private static final String DOCUMENT_RELATIONSHIPS = "http://schemas.openxmlformats.org/officeDocument/2006/relationships";
+
+    /**
+     * Indexes of the cell formats declared in styles.xml.
+     */
+    private static final int DATE_TIME_STYLE = 1;
+    private static final int DATE_STYLE = 2;
+    private static final int HEADER_STYLE = 3;
+
+    /**
+     * Day 0 of spreadsheet serial dates (as used by Excel for dates after February 1900).
+     */
+    private static final LocalDate SERIAL_DATE_EPOCH = LocalDate.of(1899, 12, 30);
+    private static final double SECONDS_PER_DAY = 86_400d;
+
+    private final ZipOutputStream zip;
+    private final Writer writer;
+    private long rowNumber;
+
+    /**
+     * @param sheetName Name of the worksheet (at most 31 characters, no []:*?/\)
+     */
+    public XlsxTabularWriter(OutputStream outputStream, String sheetName) throws IOException {
+        this.zip = new ZipOutputStream(outputStream, StandardCharsets.UTF_8);
+        this.writer = new BufferedWriter(new OutputStreamWriter(zip, StandardCharsets.UTF_8));
+
+        writeEntry("[Content_Types].xml",
+                "<Types xmlns=\"http://schemas.openxmlformats.org/package/2006/content-types\">" +
+                "<Default Extension=\"rels\" ContentType=\"application/vnd.openxmlformats-package.relationships+xml\"/>" +
+                "<Default Extension=\"xml\" ContentType=\"application/xml\"/>" +
+                "<Override PartName=\"/xl/workbook.xml\" ContentType=\"application/vnd.openxmlformats-officedocument.spreadsheetml.sheet.main+xml\"/>" +
+                "<Override PartName=\"/xl/worksheets/sheet1.xml\" ContentType=\"application/vnd.openxmlformats-officedocument.spreadsheetml.worksheet+xml\"/>" +
+                "<Override PartName=\"/xl/styles.xml\" ContentType=\"application/vnd.openxmlformats-officedocument.spreadsheetml.styles+xml\"/>" +
+                "</Types>");
+        writeEntry("_rels/.rels",
+                "<Relationships xmlns=\"" + RELATIONSHIPS_NAMESPACE + "\">" +
+                "<Relationship Id=\"rId1\" Type=\"" + DOCUMENT_RELATIONSHIPS + "/officeDocument\" Target=\"xl/workbook.xml\"/>" +
+                "</Relationships>");
+        writeEntry("xl/workbook.xml",
+                "<workbook xmlns=\"" + MAIN_NAMESPACE + "\" xmlns:r=\"" + DOCUMENT_RELATIONSHIPS + "\">" +
+                "<sheets><sheet name=\"" + escape(sheetName) + "\" sheetId=\"1\" r:id=\"rId1\"/></sheets>" +
+                "</workbook>");
+        writeEntry("xl/_rels/workbook.xml.rels",
+                "<Relationships xmlns=\"" + RELATIONSHIPS_NAMESPACE + "\">" +
+                "<Relationship Id=\"rId1\" Type=\"" + DOCUMENT_RELATIONSHIPS + "/worksheet\" Target=\"worksheets/sheet1.xml\"/>" +
+                "<Relationship Id=\"rId2\" Type=\"" + DOCUMENT_RELATIONSHIPS + "/styles\" Target=\"styles.xml\"/>" +
+                "</Relationships>");
+        // Cell formats: 0 general, 1 date and time (built-in format 22), 2 date (built-in format 14), 3 bold
+        writeEntry("xl/styles.xml",
+                "<styleSheet xmlns=\"" + MAIN_NAMESPACE + "\">" +
+                "<fonts count=\"2\"><font><sz val=\"11\"/><name val=\"Calibri\"/></font>" +
+                "<font><b/><sz val=\"11\"/><name val=\"Calibri\"/></font></fonts>" +
+                "<fills count=\"2\"><fill><patternFill patternType=\"none\"/></fill><fill><patternFill patternType=\"gray125\"/></fill></fills>" +
+                "<borders count=\"1\"><border><left/><right/><top/><bottom/><diagonal/></border></borders>" +
+                "<cellStyleXfs count=\"1\"><xf numFmtId=\"0\" fontId=\"0\" fillId=\"0\" borderId=\"0\"/></cellStyleXfs>" +
+                "<cellXfs count=\"4\">" +
+                "<xf numFmtId=\"0\" fontId=\"0\" fillId=\"0\" borderId=\"0\" xfId=\"0\"/>" +
+                "<xf numFmtId=\"22\" fontId=\"0\" fillId=\"0\" borderId=\"0\" xfId=\"0\" applyNumberFormat=\"1\"/>" +
+                "<xf numFmtId=\"14\" fontId=\"0\" fillId=\"0\" borderId=\"0\" xfId=\"0\" applyNumberFormat=\"1\"/>" +
+                "<xf numFmtId=\"0\" fontId=\"1\" fillId=\"0\" borderId=\"0\" xfId=\"0\" applyFont=\"1\"/>" +
+                "</cellXfs></styleSheet>");
+
+        zip.putNextEntry(new ZipEntry("xl/worksheets/sheet1.xml"));
+        writer.write(XML_DECLARATION);
+        writer.write("<worksheet xmlns=\"" + MAIN_NAMESPACE + "\"><sheetData>");
+    }
+
+    @Override
+    public void writeHeader(List<String> names) throws IOException {
+        writeRow(names, HEADER_STYLE);
+    }
+
+    @Override
+    public void writeRow(List<?> values) throws IOException {
+        writeRow(values, 0);
+    }
+
+    private void writeRow(List<?> values, int textStyle) throws IOException {
+        writer.write("<row r=\"");
+        writer.write(Long.toString(++rowNumber));
+        writer.write("\">");
+        for (Object value : values) {
+            switch (value) {
+                case null -> writer.write("<c/>");
+                case Number number -> writeNumber(number.toString(), 0);
+                case LocalDateTime dateTime -> writeNumber(Double.toString(toSerialDate(dateTime)), DATE_TIME_STYLE);
+                case LocalDate date -> writeNumber(Long.toString(ChronoUnit.DAYS.between(SERIAL_DATE_EPOCH, date)), DATE_STYLE);
+                default -> writeText(value.toString(), textStyle);
+            }
+        }
+        writer.write("</row>");
+    }
+
+    private void writeNumber(String number, int style) throws IOException {
+        writer.write(style == 0 ? "<c><v>" : "<c s=\"" + style + "\"><v>");
+        writer.write(number);
+        writer.write("</v></c>");
+    }
+
+    private void writeText(String text, int style) throws IOException {
+        writer.write(style == 0 ? "<c t=\"inlineStr\">" : "<c t=\"inlineStr\" s=\"" + style + "\">");
+        writer.write("<is><t xml:space=\"preserve\">");
+        writer.write(escape(text));
+        writer.write("</t></is></c>");
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+        zip.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.write("</sheetData></worksheet>");
+        writer.flush();
+        zip.closeEntry();
+        // finish() completes the archive without closing the response stream
+        zip.finish();
+    }
+
+    private void writeEntry(String name, String xml) throws IOException {
+        zip.putNextEntry(new ZipEntry(name));
+        writer.write(XML_DECLARATION);
+        writer.write(xml);
+        writer.flush();
+        zip.closeEntry();
+    }
+
+    private static double toSerialDate(LocalDateTime dateTime) {
+        return ChronoUnit.DAYS.between(SERIAL_DATE_EPOCH, dateTime.toLocalDate())
+                + dateTime.toLocalTime().toSecondOfDay() / SECONDS_PER_DAY;
+    }
+
+    /**
+     * Escapes markup characters and drops the characters XML 1.0 does not allow.
+     */
+    private static String escape(String text) {
+        StringBuilder escaped = null;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            String replacement = switch (c) {
+                case '<' -> "&lt;";
+                case '>' -> "&gt;";
+                case '&' -> "&amp;";
+                case '"' -> "&quot;";
+                default -> (c < 0x20 && c != '\t' && c != '\n' && c != '\r') || c == '\uFFFE' || c == '\uFFFF' ? "" : null;
+            };
+            if (replacement != null && escaped == null) {
+                escaped = new StringBuilder(text.length() + 16).append(text, 0, i);
+            }
+            if (escaped != null) {
+                if (replacement != null) {
+                    escaped.append(replacement);
+                } else {
+                    escaped.append(c);
+                }
+            }
+        }
+        return escaped != null ? escaped.toString() : text;
+    }
+}
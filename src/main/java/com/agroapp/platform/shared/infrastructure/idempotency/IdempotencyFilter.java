@@ -0,0 +1,269 @@
+package com.agroapp.platform.shared.infrastructure.idempotency;
+
+import com.agroapp.platform.shared.infrastructure.idempotency.IdempotencyStore.Acquired;
+import com.agroapp.platform.shared.infrastructure.idempotency.IdempotencyStore.InProgress;
+import com.agroapp.platform.shared.infrastructure.idempotency.IdempotencyStore.Replay;
+import com.agroapp.platform.shared.infrastructure.idempotency.IdempotencyStore.StoredResponse;
+import com.agroapp.platform.shared.infrastructure.web.ClientIpResolver;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.security.autoconfigure.web.servlet.SecurityFilterProperties;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.UrlPathHelper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Makes retried POST requests safe on the configured paths (idempotency.paths): a request sent with an
+ * Idempotency-Key header runs once, and every retry with the same key gets the first response back, marked
+ * with {@code Idempotent-Replayed: true}, without running the command again. A retry sent while the first
+ * request is still running waits for its response; if it cannot (the first request runs on another instance
+ * or takes longer than idempotency.lock-timeout) it gets 409 with Retry-After. A key reused with a different
+ * body gets 422. Responses with a 5xx status are not kept, so the retry runs the request again.
+ * Keys are scoped to their caller: the filter runs inside the security filter chain and the authenticated
+ * principal is part of the key, so two callers using the same key never get each other's response.
+ * Requests answered without running are counted in {@code http.server.requests.idempotent} by outcome.
+ */
+@Component
+@Order(SecurityFilterProperties.DEFAULT_FILTER_ORDER + 5)
+@EnableConfigurationProperties(IdempotencyProperties.class)
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    private static final int MAX_KEY_LENGTH = 255;
+
+    /**
+     * Response headers kept with the body; the others are specific to the first response.
+     */
+    private static final List<String> STORED_HEADERS = List.of(
+            HttpHeaders.CONTENT_TYPE, HttpHeaders.LOCATION, HttpHeaders.ETAG, HttpHeaders.LAST_MODIFIED);
+
+    private final IdempotencyStore idempotencyStore;
+    private final boolean enabled;
+    private final Set<String> paths;
+    private final Counter replayed;
+    private final Counter inProgress;
+    private final Counter mismatched;
+
+    public IdempotencyFilter(IdempotencyStore idempotencyStore, IdempotencyProperties properties, MeterRegistry meterRegistry) {
+        this.idempotencyStore = idempotencyStore;
+        this.enabled = properties.enabled();
+        this.paths = properties.paths() == null ? Set.of() : new HashSet<>(properties.paths());
+        this.replayed = outcomeCounter(meterRegistry, "replayed");
+        this.inProgress = outcomeCounter(meterRegistry, "in_progress");
+        this.mismatched = outcomeCounter(meterRegistry, "mismatched");
+    }
+
+    private static Counter outcomeCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("http.server.requests.idempotent")
+                .description("Idempotency-Key requests answered without running the request")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled
+                || !"POST".equals(request.getMethod())
+                || request.getHeader(IDEMPOTENCY_KEY_HEADER) == null
+                || !paths.contains(UrlPathHelper.defaultInstance.getPathWithinApplication(request));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String key = request.getHeader(IDEMPOTENCY_KEY_HEADER);
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            reject(response, HttpStatus.BAD_REQUEST, "Idempotency-Key must have 1 to " + MAX_KEY_LENGTH + " characters");
+            return;
+        }
+
+        // The body is read up front: it identifies the request, and the handler reads it from memory
+        byte[] body = request.getInputStream().readAllBytes();
+        String requestKey = sha256(String.join("\n", caller(request), request.getMethod(),
+                UrlPathHelper.defaultInstance.getPathWithinApplication(request), key).getBytes(StandardCharsets.UTF_8));
+        String requestHash = sha256(body);
+
+        switch (idempotencyStore.claim(requestKey, requestHash)) {
+            case Replay replay when !replay.response().requestHash().equals(requestHash) -> {
+                mismatched.increment();
+                reject(response, HttpStatus.UNPROCESSABLE_CONTENT, "Idempotency-Key was already used for a different request");
+            }
+            case Replay replay -> {
+                replayed.increment();
+                replay(response, replay.response());
+            }
+            case InProgress ignored -> {
+                inProgress.increment();
+                response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+                reject(response, HttpStatus.CONFLICT, "A request with this Idempotency-Key is in progress, retry later");
+            }
+            case Acquired acquired -> run(new CachedBodyRequest(request, body), response, filterChain, acquired);
+        }
+    }
+
+    /**
+     * Identifies the caller a key belongs to: the authenticated principal or, for anonymous requests
+     * (the API still admits them), the bearer token they carry, or else their IP address.
+     */
+    private static String caller(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated() && !(authentication instanceof AnonymousAuthenticationToken)) {
+            return "principal:" + authentication.getName();
+        }
+        String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (authorization != null && !authorization.isBlank()) {
+            return "authorization:" + authorization;
+        }
+        return "ip:" + ClientIpResolver.resolve(request);
+    }
+
+    private void run(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain, Acquired acquired)
+            throws ServletException, IOException {
+        var cachingResponse = new ContentCachingResponseWrapper(response);
+        boolean completed = false;
+        try {
+            filterChain.doFilter(request, cachingResponse);
+            if (cachingResponse.getStatus() < 500) {
+                idempotencyStore.complete(acquired, cachingResponse.getStatus(), storedHeaders(cachingResponse),
+                        cachingResponse.getContentAsByteArray());
+                completed = true;
+            }
+        } finally {
+            if (!completed) {
+                idempotencyStore.release(acquired);
+            }
+        }
+        cachingResponse.copyBodyToResponse();
+    }
+
+    private static String storedHeaders(HttpServletResponse response) {
+        StringBuilder headers = new StringBuilder();
+        for (String name : STORED_HEADERS) {
+            String value = HttpHeaders.CONTENT_TYPE.equals(name) ? response.getContentType() : response.getHeader(name);
+            if (value != null) {
+                headers.append(name).append(": ").append(value).append('\n');
+            }
+        }
+        return headers.toString();
+    }
+
+    private static void replay(HttpServletResponse response, StoredResponse storedResponse) throws IOException {
+        response.setStatus(storedResponse.statusCode());
+        if (storedResponse.headers() != null) {
+            for (String line : storedResponse.headers().split("\n")) {
+                int separator = line.indexOf(": ");
+                if (separator > 0) {
+                    response.setHeader(line.substring(0, separator), line.substring(separator + 2));
+                }
+            }
+        }
+        response.setHeader(REPLAYED_HEADER, "true");
+        response.setContentLength(storedResponse.body().length);
+        response.getOutputStream().write(storedResponse.body());
+    }
+
+    private static void reject(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+        response.getWriter().write(message);
+    }
+
+    private static String sha256(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+
+    /**
+     * Request whose body was already read, served again from memory.
+     */
+    private static class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            var input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) {
+                    return input.read(buffer, offset, length);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    throw new UnsupportedOperationException("Asynchronous reads are not supported");
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            Charset charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+            return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+        }
+
+        @Override
+        public int getContentLength() {
+            return body.length;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return body.length;
+        }
+    }
+}
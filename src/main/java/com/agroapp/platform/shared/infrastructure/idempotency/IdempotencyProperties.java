@@ -0,0 +1,25 @@
+package com.agroapp.platform.shared.infrastructure.idempotency;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Idempotency-Key settings (idempotency.*).
+ *
+ * @param enabled Whether the Idempotency-Key header is honoured at all
+ * @param paths Request paths whose POST requests accept the header (exact match on the decoded path)
+ * @param ttl How long the response to a key is replayed
+ * @param lockTimeout How long a duplicate waits for the first request, and after which a first request
+ *                    that never completed (e.g. its node stopped) no longer blocks its key
+ * @param cacheCapacity Responses kept in memory; older ones are read back from the database
+ */
+@ConfigurationProperties("idempotency")
+public record IdempotencyProperties(@DefaultValue("true") boolean enabled,
+                                    List<String> paths,
+                                    @DefaultValue("PT24H") Duration ttl,
+                                    @DefaultValue("PT30S") Duration lockTimeout,
+                                    @DefaultValue("10000") int cacheCapacity) {
+}
@@ -0,0 +1,227 @@
+package com.agroapp.platform.shared.infrastructure.idempotency;
+
+import com.agroapp.platform.shared.domain.model.entities.IdempotencyRecord;
+import com.agroapp.platform.shared.infrastructure.persistence.jpa.repositories.IdempotencyRecordRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Keeps the responses to requests sent with an Idempotency-Key, in two tiers: a bounded in-memory LRU of
+ * recent responses, and the idempotency_records table, which is shared by every instance and survives
+ * restarts. The first request for a key claims it with a database row; duplicates arriving on the same
+ * instance while it runs wait for its response, and duplicates arriving on another instance are told it is
+ * still in progress. A response is kept for idempotency.ttl and expired rows are deleted periodically.
+ * The in-memory tier size is published as {@code idempotency.cache.size}.
+ */
+@Component
+public class IdempotencyStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(IdempotencyStore.class);
+
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration ttl;
+    private final Duration lockTimeout;
+    private final Map<String, StoredResponse> recentResponses;
+    private final Map<String, CompletableFuture<StoredResponse>> runningRequests = new ConcurrentHashMap<>();
+
+    public IdempotencyStore(IdempotencyRecordRepository idempotencyRecordRepository,
+                            TransactionTemplate transactionTemplate,
+                            IdempotencyProperties properties,
+                            MeterRegistry meterRegistry) {
+        this.idempotencyRecordRepository = idempotencyRecordRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.ttl = properties.ttl();
+        this.lockTimeout = properties.lockTimeout();
+        int capacity = properties.cacheCapacity();
+        this.recentResponses = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, StoredResponse> eldest) {
+                return size() > capacity;
+            }
+        });
+        Gauge.builder("idempotency.cache.size", recentResponses, Map::size)
+                .description("Responses to Idempotency-Key requests kept in memory")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Claims a key for a request, or returns the response of the request that claimed it first.
+     * If that request is running on this instance, waits for it for at most the lock timeout.
+     *
+     * @param requestKey Digest of the caller, method, path and key
+     * @param requestHash Digest of the request body
+     */
+    public Claim claim(String requestKey, String requestHash) {
+        StoredResponse recent = recentResponse(requestKey);
+        if (recent != null) {
+            return new Replay(recent);
+        }
+
+        var execution = new CompletableFuture<StoredResponse>();
+        CompletableFuture<StoredResponse> running = runningRequests.putIfAbsent(requestKey, execution);
+        if (running != null) {
+            return awaitResponse(running);
+        }
+
+        Claim claim;
+        try {
+            claim = transactionTemplate.execute(status -> claimRecord(requestKey, requestHash, execution));
+        } catch (DataIntegrityViolationException ex) {
+            // Another instance inserted the key between the read and the insert
+            claim = new InProgress();
+        } catch (RuntimeException ex) {
+            finish(requestKey, execution, null);
+            throw ex;
+        }
+        if (claim instanceof Replay replay) {
+            recentResponses.put(requestKey, replay.response());
+            finish(requestKey, execution, replay.response());
+        } else if (claim instanceof InProgress) {
+            finish(requestKey, execution, null);
+        }
+        return claim;
+    }
+
+    private Claim claimRecord(String requestKey, String requestHash, CompletableFuture<StoredResponse> execution) {
+        Date now = new Date();
+        Optional<IdempotencyRecord> existing = idempotencyRecordRepository.findByRequestKey(requestKey);
+        if (existing.isPresent()) {
+            IdempotencyRecord record = existing.get();
+            if (!record.isExpired(now)) {
+                return record.isCompleted() ? new Replay(toStoredResponse(record)) : new InProgress();
+            }
+            idempotencyRecordRepository.delete(record);
+            idempotencyRecordRepository.flush();
+        }
+        var record = new IdempotencyRecord(requestKey, requestHash, new Date(now.getTime() + lockTimeout.toMillis()));
+        return new Acquired(requestKey, requestHash, idempotencyRecordRepository.saveAndFlush(record).getId(), execution);
+    }
+
+    /**
+     * Stores the response of a claimed request and hands it to the duplicates waiting for it.
+     */
+    public void complete(Acquired acquired, int statusCode, String headers, byte[] body) {
+        Date expiresAt = new Date(System.currentTimeMillis() + ttl.toMillis());
+        var response = new StoredResponse(acquired.requestHash(), statusCode, headers, body, expiresAt.getTime());
+        try {
+            transactionTemplate.executeWithoutResult(status -> idempotencyRecordRepository.findById(acquired.recordId())
+                    .ifPresent(record -> record.complete(statusCode, headers, body, expiresAt)));
+        } catch (RuntimeException ex) {
+            // The response is still replayed from memory; the key is released when the claim expires
+            logger.warn("Could not store the response of an idempotent request: {}", ex.getMessage());
+        }
+        recentResponses.put(acquired.requestKey(), response);
+        finish(acquired.requestKey(), acquired.execution(), response);
+    }
+
+    /**
+     * Gives up a claimed key without a response (the request failed), so a retry runs the request again.
+     * Duplicates waiting for it are told it is in progress and retry.
+     */
+    public void release(Acquired acquired) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> idempotencyRecordRepository.deleteById(acquired.recordId()));
+        } catch (RuntimeException ex) {
+            logger.warn("Could not release an idempotency key, it is released when its claim expires: {}", ex.getMessage());
+        }
+        finish(acquired.requestKey(), acquired.execution(), null);
+    }
+
+    /**
+     * Deletes the expired records.
+     */
+    @Scheduled(initialDelayString = "${idempotency.cleanup-initial-delay:PT5M}", fixedDelayString = "${idempotency.cleanup-delay:PT1H}")
+    public void deleteExpired() {
+        try {
+            Integer deleted = transactionTemplate.execute(status -> idempotencyRecordRepository.deleteExpired(new Date()));
+            logger.info("Deleted {} expired idempotency records", deleted);
+        } catch (RuntimeException ex) {
+            logger.error("Idempotency record cleanup failed, it will be retried: {}", ex.getMessage());
+        }
+    }
+
+    private StoredResponse recentResponse(String requestKey) {
+        StoredResponse response = recentResponses.get(requestKey);
+        if (response != null && response.expiresAt() < System.currentTimeMillis()) {
+            recentResponses.remove(requestKey);
+            return null;
+        }
+        return response;
+    }
+
+    private Claim awaitResponse(CompletableFuture<StoredResponse> running) {
+        try {
+            StoredResponse response = running.get(lockTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            return response != null ? new Replay(response) : new InProgress();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return new InProgress();
+        } catch (ExecutionException | TimeoutException ex) {
+            return new InProgress();
+        }
+    }
+
+    private void finish(String requestKey, CompletableFuture<StoredResponse> execution, StoredResponse response) {
+        runningRequests.remove(requestKey, execution);
+        execution.complete(response);
+    }
+
+    private static StoredResponse toStoredResponse(IdempotencyRecord record) {
+        return new StoredResponse(record.getRequestHash(), record.getStatusCode(), record.getHeaders(),
+                record.getBody() != null ? record.getBody() : new byte[0], record.getExpiresAt().getTime());
+    }
+
+    /**
+     * Response to a request, as replayed to its duplicates.
+     *
+     * @param requestHash Digest of the body of the request that produced it
+     * @param headers Replayed headers, one "name: value" per line
+     * @param expiresAt Epoch millis after which it is no longer replayed
+     */
+    public record StoredResponse(String requestHash, int statusCode, String headers, byte[] body, long expiresAt) {
+    }
+
+    /**
+     * Outcome of claiming a key.
+     */
+    public sealed interface Claim permits Acquired, Replay, InProgress {
+    }
+
+    /**
+     * The key is claimed: the request runs and then completes or releases the claim.
+     */
+    public record Acquired(String requestKey, String requestHash, Long recordId,
+                           CompletableFuture<StoredResponse> execution) implements Claim {
+    }
+
+    /**
+     * The key was used before: its response is replayed.
+     */
+    public record Replay(StoredResponse response) implements Claim {
+    }
+
+    /**
+     * The first request for the key is still running elsewhere, or did not complete in time.
+     */
+    public record InProgress() implements Claim {
+    }
+}
@@ -0,0 +1,93 @@
+package com.agroapp.platform.shared.infrastructure.observability;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.framework.autoproxy.AbstractBeanFactoryAwareAdvisingPostProcessor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+
+/**
+ * Times every {@code handle(...)} call of the application services, i.e. the beans implementing a
+ * {@code *CommandService} or {@code *QueryService} interface of any bounded context.
+ * Each call is recorded in the {@code application.handler} timer, which provides throughput,
+ * latency percentiles and a histogram, tagged with:
+ * <ul>
+ *     <li>{@code service}: the service interface, e.g. TaskCommandService;</li>
+ *     <li>{@code type}: the command or query, e.g. CreateTaskCommand;</li>
+ *     <li>{@code outcome}: success or error, plus {@code exception} with the exception class.</li>
+ * </ul>
+ * Already proxied services (e.g. @Transactional) get the interceptor added to their existing proxy.
+ */
+@Component
+public class HandlerMetricsPostProcessor extends AbstractBeanFactoryAwareAdvisingPostProcessor {
+
+    static final String METRIC_NAME = "application.handler";
+
+    public HandlerMetricsPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        // The registry is resolved on first use: post processors are created before regular beans
+        MethodInterceptor interceptor = invocation -> {
+            Method method = invocation.getMethod();
+            Timer.Sample sample = Timer.start();
+            String outcome = "success";
+            String exception = "none";
+            try {
+                return invocation.proceed();
+            } catch (Throwable ex) {
+                outcome = "error";
+                exception = ex.getClass().getSimpleName();
+                throw ex;
+            } finally {
+                sample.stop(Timer.builder(METRIC_NAME)
+                        .description("Execution time of command and query handlers")
+                        .tag("service", serviceName(method))
+                        .tag("type", method.getParameterTypes()[0].getSimpleName())
+                        .tag("outcome", outcome)
+                        .tag("exception", exception)
+                        .publishPercentiles(0.5, 0.95, 0.99)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry.getObject()));
+            }
+        };
+        this.advisor = new DefaultPointcutAdvisor(new HandlerPointcut(), interceptor);
+        // Run before other advisors so the measured time includes transaction handling
+        setBeforeExistingAdvisors(true);
+    }
+
+    private static String serviceName(Method method) {
+        Class<?> declaringClass = method.getDeclaringClass();
+        if (isServiceInterface(declaringClass)) {
+            return declaringClass.getSimpleName();
+        }
+        return Arrays.stream(declaringClass.getInterfaces())
+                .filter(HandlerMetricsPostProcessor::isServiceInterface)
+                .map(Class::getSimpleName)
+                .findFirst()
+                .orElse(declaringClass.getSimpleName());
+    }
+
+    private static boolean isServiceInterface(Class<?> type) {
+        return type.isInterface()
+                && (type.getSimpleName().endsWith("CommandService") || type.getSimpleName().endsWith("QueryService"));
+    }
+
+    /**
+     * Matches single-argument handle methods of classes implementing a command or query service interface.
+     */
+    private static final class HandlerPointcut extends StaticMethodMatcherPointcut {
+
+        HandlerPointcut() {
+            setClassFilter(type -> Arrays.stream(type.getInterfaces()).anyMatch(HandlerMetricsPostProcessor::isServiceInterface));
+        }
+
+        @Override
+        public boolean matches(Method method, Class<?> targetClass) {
+            return "handle".equals(method.getName()) && method.getParameterCount() == 1;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.agroapp.platform.shared.infrastructure.observability;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+
+/**
+ * Configuration for SQL statement observability.
+ * Wraps the application DataSource so every statement is timed per request
+ * (replaces spring.jpa.show-sql, which printed each statement synchronously to stdout).
+ */
+@Configuration
+public class SqlObservabilityConfiguration {
+
+    /**
+     * Wraps DataSource beans in a {@link SqlTimingDataSource}.
+     * Delegating DataSources (e.g. the read/write routing proxy) are skipped: the pools they delegate to
+     * are wrapped already, and wrapping both would count every statement twice.
+     * Static so it is registered before the DataSource bean is created.
+     *
+     * @return BeanPostProcessor wrapping DataSource beans
+     */
+    @Bean
+    public static BeanPostProcessor sqlTimingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof DelegatingDataSource)) {
+                    return new SqlTimingDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,71 @@
+package com.agroapp.platform.shared.infrastructure.observability;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * JDBC statements executed while handling one HTTP request.
+ * Bound to the request thread by {@link SqlStatementStatsFilter} and fed by {@link SqlTimingDataSource};
+ * statements run outside a request (scheduled jobs, startup) are not recorded.
+ */
+public final class SqlStatementStats {
+
+    /**
+     * Number of slowest statements kept per request.
+     */
+    static final int SLOWEST_KEPT = 3;
+
+    private static final ThreadLocal<SqlStatementStats> CURRENT = new ThreadLocal<>();
+
+    private int statementCount;
+    private long totalNanos;
+    private final List<SlowStatement> slowest = new ArrayList<>(SLOWEST_KEPT + 1);
+
+    /**
+     * A statement and how long its execution took.
+     */
+    public record SlowStatement(String sql, long nanos) {
+    }
+
+    static SqlStatementStats begin() {
+        var stats = new SqlStatementStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * @return the statistics of the request being handled by this thread, or null outside a request
+     */
+    public static SqlStatementStats current() {
+        return CURRENT.get();
+    }
+
+    void record(String sql, long nanos) {
+        statementCount++;
+        totalNanos += nanos;
+        if (slowest.size() < SLOWEST_KEPT || nanos > slowest.get(slowest.size() - 1).nanos()) {
+            slowest.add(new SlowStatement(sql, nanos));
+            slowest.sort(Comparator.comparingLong(SlowStatement::nanos).reversed());
+            if (slowest.size() > SLOWEST_KEPT) {
+                slowest.remove(SLOWEST_KEPT);
+            }
+        }
+    }
+
+    public int getStatementCount() {
+        return statementCount;
+    }
+
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    public List<SlowStatement> getSlowest() {
+        return List.copyOf(slowest);
+    }
+}
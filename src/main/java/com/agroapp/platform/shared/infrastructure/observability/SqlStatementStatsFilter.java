@@ -0,0 +1,99 @@
+package com.agroapp.platform.shared.infrastructure.observability;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Collects the JDBC statements of every HTTP request and publishes them:
+ * <ul>
+ *     <li>Micrometer metrics per endpoint: {@code http.server.requests.sql.statements} (statement count)
+ *     and {@code http.server.requests.sql.time} (total JDBC time), both with percentile histograms;</li>
+ *     <li>a sampled log of slow requests (JDBC time or statement count above a threshold)
+ *     listing the slowest statements.</li>
+ * </ul>
+ * Runs before the security filters so token and user lookups are included.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class SqlStatementStatsFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(SqlStatementStatsFilter.class);
+
+    private final MeterRegistry meterRegistry;
+    private final Duration slowRequestThreshold;
+    private final int statementCountThreshold;
+    private final double slowLogSampleRate;
+
+    public SqlStatementStatsFilter(MeterRegistry meterRegistry,
+                                   @Value("${observability.sql.slow-request-threshold:PT0.5S}") Duration slowRequestThreshold,
+                                   @Value("${observability.sql.statement-count-threshold:30}") int statementCountThreshold,
+                                   @Value("${observability.sql.slow-log-sample-rate:0.1}") double slowLogSampleRate) {
+        this.meterRegistry = meterRegistry;
+        this.slowRequestThreshold = slowRequestThreshold;
+        this.statementCountThreshold = statementCountThreshold;
+        this.slowLogSampleRate = slowLogSampleRate;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        var stats = SqlStatementStats.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            SqlStatementStats.end();
+            publish(request, response, stats);
+        }
+    }
+
+    private void publish(HttpServletRequest request, HttpServletResponse response, SqlStatementStats stats) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        // Unmatched requests share one tag, so arbitrary paths cannot blow up the metric cardinality
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+
+        DistributionSummary.builder("http.server.requests.sql.statements")
+                .description("JDBC statements executed per HTTP request")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(stats.getStatementCount());
+        Timer.builder("http.server.requests.sql.time")
+                .description("Total JDBC execution time per HTTP request")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(stats.getTotalNanos(), TimeUnit.NANOSECONDS);
+
+        boolean slow = stats.getTotalNanos() >= slowRequestThreshold.toNanos()
+                || stats.getStatementCount() >= statementCountThreshold;
+        if (slow && logger.isWarnEnabled() && ThreadLocalRandom.current().nextDouble() < slowLogSampleRate) {
+            logger.warn("{} {} -> {}: {} SQL statements, {} ms JDBC time; slowest: {}",
+                    request.getMethod(), uri, response.getStatus(), stats.getStatementCount(),
+                    TimeUnit.NANOSECONDS.toMillis(stats.getTotalNanos()),
+                    stats.getSlowest().stream()
+                            .map(statement -> TimeUnit.NANOSECONDS.toMillis(statement.nanos()) + " ms " + statement.sql())
+                            .collect(Collectors.joining(" | ")));
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.agroapp.platform.shared.infrastructure.observability;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Adds the SQL statistics of the request as response headers, just before the body is written.
+ * Meant for development and staging (observability.sql.response-headers=true), never production:
+ * <ul>
+ *     <li>{@code X-Sql-Statement-Count}: JDBC statements executed so far;</li>
+ *     <li>{@code X-Sql-Time-Ms}: total JDBC execution time;</li>
+ *     <li>{@code X-Sql-Slowest-Ms}: execution time of the slowest statement.</li>
+ * </ul>
+ */
+@ControllerAdvice
+@ConditionalOnProperty(name = "observability.sql.response-headers", havingValue = "true")
+public class SqlStatementStatsHeaderAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        var stats = SqlStatementStats.current();
+        if (stats != null) {
+            var headers = response.getHeaders();
+            headers.set("X-Sql-Statement-Count", String.valueOf(stats.getStatementCount()));
+            headers.set("X-Sql-Time-Ms", String.valueOf(TimeUnit.NANOSECONDS.toMillis(stats.getTotalNanos())));
+            stats.getSlowest().stream().findFirst().ifPresent(slowest ->
+                    headers.set("X-Sql-Slowest-Ms", String.valueOf(TimeUnit.NANOSECONDS.toMillis(slowest.nanos()))));
+        }
+        return body;
+    }
+}
@@ -0,0 +1,26 @@
+package com.agroapp.platform.shared.infrastructure.outbox;
+
+import com.agroapp.platform.shared.domain.model.entities.OutboxMessage;
+import com.agroapp.platform.shared.domain.model.events.EntityChangesPublishedEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Sink that hands every batch to the in-process listeners of EntityChangesPublishedEvent.
+ */
+@Component
+public class ApplicationEventOutboxSink implements OutboxSink {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public ApplicationEventOutboxSink(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    public void publish(List<OutboxMessage> messages) {
+        eventPublisher.publishEvent(new EntityChangesPublishedEvent(this, messages));
+    }
+}
@@ -0,0 +1,62 @@
+package com.agroapp.platform.shared.infrastructure.outbox;
+
+import com.agroapp.platform.shared.domain.model.entities.OutboxMessage;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Sink that appends every message to a file, one JSON object per line:
+ * {"id":..,"aggregateType":..,"aggregateId":..,"changeType":..,"occurredAt":..,"payload":{..}}.
+ * The file is opened for every batch and synced before the batch counts as delivered, so it can be
+ * rotated externally by moving it away. Enabled with outbox.file.enabled.
+ */
+@Component
+@ConditionalOnProperty(prefix = "outbox.file", name = "enabled", havingValue = "true")
+public class FileOutboxSink implements OutboxSink {
+
+    private final Path path;
+
+    public FileOutboxSink(OutboxProperties properties) {
+        this.path = properties.file().path();
+    }
+
+    @Override
+    public void publish(List<OutboxMessage> messages) {
+        StringBuilder lines = new StringBuilder(messages.size() * 256);
+        for (OutboxMessage message : messages) {
+            lines.append("{\"id\":").append(message.getId())
+                    .append(",\"aggregateType\":\"").append(message.getAggregateType())
+                    .append("\",\"aggregateId\":").append(message.getAggregateId())
+                    .append(",\"changeType\":\"").append(message.getChangeType())
+                    .append("\",\"occurredAt\":\"").append(message.getCreatedAt().toInstant())
+                    .append("\",\"payload\":").append(message.getPayload())
+                    .append("}\n");
+        }
+        try {
+            Path parent = path.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+                ByteBuffer buffer = StandardCharsets.UTF_8.encode(lines.toString());
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(false);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not append outbox messages to " + path, ex);
+        }
+    }
+}
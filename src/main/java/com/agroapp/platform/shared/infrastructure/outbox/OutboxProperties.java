@@ -0,0 +1,30 @@
+package com.agroapp.platform.shared.infrastructure.outbox;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Outbox relay settings (outbox.*).
+ *
+ * @param enabled Whether pending messages are relayed at all (changes are recorded either way)
+ * @param batchSize Messages claimed, delivered and marked in one transaction
+ * @param retention How long delivered messages are kept before they are deleted
+ * @param file File log sink
+ */
+@ConfigurationProperties("outbox")
+public record OutboxProperties(@DefaultValue("true") boolean enabled,
+                               @DefaultValue("500") int batchSize,
+                               @DefaultValue("P7D") Duration retention,
+                               @DefaultValue FileSink file) {
+
+    /**
+     * @param enabled Whether messages are appended to the file
+     * @param path File the messages are appended to, one JSON object per line
+     */
+    public record FileSink(@DefaultValue("false") boolean enabled,
+                           @DefaultValue("outbox/changes.jsonl") Path path) {
+    }
+}
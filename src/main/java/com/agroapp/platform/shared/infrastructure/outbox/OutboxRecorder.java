@@ -0,0 +1,228 @@
+package com.agroapp.platform.shared.infrastructure.outbox;
+
+import com.agroapp.platform.shared.domain.model.annotations.PublishesChanges;
+import com.agroapp.platform.shared.domain.model.valueobjects.ChangeType;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.action.spi.AfterTransactionCompletionProcess;
+import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.Type;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Records the changes to entities marked with @PublishesChanges as outbox messages, in the transaction
+ * of the change.
+ * Inserts, updates and deletes done through the persistence context are picked up by Hibernate event
+ * listeners; changes written by bulk UPDATE statements bypass them and are recorded by the caller with
+ * {@link #recordUpdate}. The messages of a transaction are collected in memory and written with one JDBC
+ * batch on its connection right before it commits, after the final flush, so they commit or roll back
+ * together with the change. Within an entity the outbox order is the commit order, since the rows of a
+ * change are written while the transaction still holds the lock on the changed row.
+ */
+@Component
+public class OutboxRecorder implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+
+    private static final String INSERT_MESSAGE = "INSERT INTO outbox_messages " +
+            "(aggregate_type, aggregate_id, change_type, payload, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final EntityManager entityManager;
+    private final JsonMapper jsonMapper;
+
+    /**
+     * Properties left out of the payload, by entity class; classes without @PublishesChanges are absent.
+     */
+    private final Map<Class<?>, Set<String>> excludedProperties = new HashMap<>();
+    private final Map<SessionImplementor, PendingMessages> pendingBySession = new ConcurrentHashMap<>();
+
+    public OutboxRecorder(EntityManagerFactory entityManagerFactory, EntityManager entityManager, JsonMapper jsonMapper) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.entityManager = entityManager;
+        this.jsonMapper = jsonMapper;
+    }
+
+    @PostConstruct
+    public void register() {
+        SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        sessionFactory.getMappingMetamodel().forEachEntityDescriptor(persister -> {
+            PublishesChanges annotation = persister.getMappedClass().getAnnotation(PublishesChanges.class);
+            if (annotation != null) {
+                excludedProperties.put(persister.getMappedClass(), Set.of(annotation.exclude()));
+            }
+        });
+        EventListenerRegistry listenerRegistry = sessionFactory.getEventListenerRegistry();
+        listenerRegistry.appendListeners(EventType.POST_INSERT, this);
+        listenerRegistry.appendListeners(EventType.POST_UPDATE, this);
+        listenerRegistry.appendListeners(EventType.POST_DELETE, this);
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        Set<String> excluded = excludedProperties.get(event.getPersister().getMappedClass());
+        if (excluded != null) {
+            record(event.getSession(), event.getPersister(), event.getId(), ChangeType.CREATED,
+                    toPayload(event.getId(), event.getPersister(), event.getState(), null, excluded));
+        }
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        Set<String> excluded = excludedProperties.get(event.getPersister().getMappedClass());
+        if (excluded != null) {
+            record(event.getSession(), event.getPersister(), event.getId(), ChangeType.UPDATED,
+                    toPayload(event.getId(), event.getPersister(), event.getState(), event.getDirtyProperties(), excluded));
+        }
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        Set<String> excluded = excludedProperties.get(event.getPersister().getMappedClass());
+        if (excluded != null) {
+            record(event.getSession(), event.getPersister(), event.getId(), ChangeType.DELETED,
+                    toPayload(event.getId(), event.getPersister(), event.getDeletedState(), null, excluded));
+        }
+    }
+
+    /**
+     * Records an update written without going through the persistence context (a bulk UPDATE).
+     * Must be called in the transaction of the update.
+     *
+     * @param entityClass Class of the updated entity, marked with @PublishesChanges
+     * @param id ID of the updated row
+     * @param properties Written properties by name (null values allowed)
+     * @throws IllegalArgumentException if the class is not marked with @PublishesChanges
+     * @throws IllegalStateException if no transaction is active
+     */
+    public void recordUpdate(Class<?> entityClass, Long id, Map<String, ?> properties) {
+        Set<String> excluded = excludedProperties.get(entityClass);
+        if (excluded == null) {
+            throw new IllegalArgumentException(entityClass.getSimpleName() + " is not marked with @PublishesChanges");
+        }
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Changes to " + entityClass.getSimpleName() + " can only be recorded in a transaction");
+        }
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("id", id);
+        properties.forEach((name, value) -> {
+            if (!excluded.contains(name)) {
+                payload.put(name, value);
+            }
+        });
+        SessionImplementor session = entityManager.unwrap(SessionImplementor.class);
+        pendingMessages(session).add(new PendingMessage(entityClass.getSimpleName(), id, ChangeType.UPDATED,
+                jsonMapper.writeValueAsString(payload), new Timestamp(System.currentTimeMillis())));
+    }
+
+    private void record(SessionImplementor session, EntityPersister persister, Object id,
+                        ChangeType changeType, Map<String, Object> payload) {
+        pendingMessages(session).add(new PendingMessage(persister.getMappedClass().getSimpleName(), (Long) id, changeType,
+                jsonMapper.writeValueAsString(payload), new Timestamp(System.currentTimeMillis())));
+    }
+
+    /**
+     * Builds the payload from the entity state: every property, or only the dirty ones and the version.
+     * Collections and associations are left out; the entities recorded reference each other by id.
+     */
+    private static Map<String, Object> toPayload(Object id, EntityPersister persister, Object[] state,
+                                                 int[] dirtyProperties, Set<String> excluded) {
+        String[] names = persister.getPropertyNames();
+        Type[] types = persister.getPropertyTypes();
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("id", id);
+        if (dirtyProperties == null) {
+            for (int i = 0; i < names.length; i++) {
+                putProperty(payload, names[i], types[i], state[i], excluded);
+            }
+        } else {
+            for (int i : dirtyProperties) {
+                putProperty(payload, names[i], types[i], state[i], excluded);
+            }
+            if (persister.isVersioned()) {
+                int version = persister.getVersionProperty();
+                payload.put(names[version], state[version]);
+            }
+        }
+        return payload;
+    }
+
+    private static void putProperty(Map<String, Object> payload, String name, Type type, Object value, Set<String> excluded) {
+        if (!excluded.contains(name) && !type.isCollectionType() && !type.isEntityType()) {
+            payload.put(name, value);
+        }
+    }
+
+    private PendingMessages pendingMessages(SessionImplementor session) {
+        return pendingBySession.computeIfAbsent(session, key -> {
+            var pending = new PendingMessages();
+            key.getActionQueue().registerProcess((BeforeTransactionCompletionProcess) pending);
+            key.getActionQueue().registerProcess((AfterTransactionCompletionProcess) pending);
+            return pending;
+        });
+    }
+
+    private record PendingMessage(String aggregateType, Long aggregateId, ChangeType changeType,
+                                  String payload, Timestamp recordedAt) {
+    }
+
+    /**
+     * Messages recorded in the current transaction of a session.
+     * Written before the commit; dropped when the transaction ends without reaching it.
+     */
+    private final class PendingMessages implements BeforeTransactionCompletionProcess, AfterTransactionCompletionProcess {
+
+        private final List<PendingMessage> messages = new ArrayList<>();
+
+        void add(PendingMessage message) {
+            messages.add(message);
+        }
+
+        @Override
+        public void doBeforeTransactionCompletion(SessionImplementor session) {
+            pendingBySession.remove(session);
+            session.doWork(connection -> {
+                try (PreparedStatement statement = connection.prepareStatement(INSERT_MESSAGE)) {
+                    for (PendingMessage message : messages) {
+                        statement.setString(1, message.aggregateType());
+                        statement.setLong(2, message.aggregateId());
+                        statement.setString(3, message.changeType().name());
+                        statement.setString(4, message.payload());
+                        statement.setTimestamp(5, message.recordedAt());
+                        statement.setTimestamp(6, message.recordedAt());
+                        statement.addBatch();
+                    }
+                    statement.executeBatch();
+                }
+            });
+        }
+
+        @Override
+        public void doAfterTransactionCompletion(boolean success, SharedSessionContractImplementor session) {
+            pendingBySession.remove(session);
+        }
+    }
+}
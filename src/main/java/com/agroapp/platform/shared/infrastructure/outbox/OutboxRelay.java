@@ -0,0 +1,113 @@
+package com.agroapp.platform.shared.infrastructure.outbox;
+
+import com.agroapp.platform.shared.domain.model.entities.OutboxMessage;
+import com.agroapp.platform.shared.infrastructure.persistence.jpa.repositories.OutboxMessageRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Background job that relays the outbox to the sinks.
+ * Each batch is claimed with SELECT ... FOR UPDATE SKIP LOCKED, handed to every sink in id order and marked
+ * delivered, all in one transaction: a batch a sink fails on stays pending and is retried, in the same order,
+ * on the next run, so delivery is at least once. With several instances every instance claims different
+ * messages; consumers that need the order of one entity across instances should compare its version.
+ * Messages delivered longer ago than outbox.retention are deleted periodically.
+ * Delivered messages are counted in {@code outbox.messages.delivered}, failed batches in
+ * {@code outbox.relay.failures}, and every batch is timed in {@code outbox.relay.batch}.
+ */
+@Component
+@EnableConfigurationProperties(OutboxProperties.class)
+public class OutboxRelay {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private final OutboxMessageRepository outboxMessageRepository;
+    private final List<OutboxSink> sinks;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+    private final Duration retention;
+    private final Counter messagesDelivered;
+    private final Counter relayFailures;
+    private final Timer batchTimer;
+
+    public OutboxRelay(OutboxMessageRepository outboxMessageRepository,
+                       List<OutboxSink> sinks,
+                       TransactionTemplate transactionTemplate,
+                       OutboxProperties properties,
+                       MeterRegistry meterRegistry) {
+        this.outboxMessageRepository = outboxMessageRepository;
+        this.sinks = sinks;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = properties.enabled();
+        this.batchSize = properties.batchSize();
+        this.retention = properties.retention();
+        this.messagesDelivered = Counter.builder("outbox.messages.delivered")
+                .description("Outbox messages delivered to every sink")
+                .register(meterRegistry);
+        this.relayFailures = Counter.builder("outbox.relay.failures")
+                .description("Outbox batches a sink failed on")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("outbox.relay.batch")
+                .description("Time to claim, deliver and mark a batch of outbox messages")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Relays batches until the outbox has no pending messages left.
+     */
+    @Scheduled(initialDelayString = "${outbox.initial-delay:PT5S}", fixedDelayString = "${outbox.delay:PT1S}")
+    public void relay() {
+        if (!enabled) {
+            return;
+        }
+        int relayed;
+        do {
+            try {
+                relayed = batchTimer.record(() -> transactionTemplate.execute(status -> relayBatch()));
+            } catch (RuntimeException ex) {
+                relayFailures.increment();
+                logger.error("Outbox relay failed, the batch will be retried: {}", ex.getMessage());
+                return;
+            }
+        } while (relayed == batchSize);
+    }
+
+    private int relayBatch() {
+        List<OutboxMessage> batch = outboxMessageRepository.claimPending(batchSize);
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        for (OutboxSink sink : sinks) {
+            sink.publish(batch);
+        }
+        outboxMessageRepository.markDelivered(batch.stream().map(OutboxMessage::getId).toList(), new Date());
+        messagesDelivered.increment(batch.size());
+        return batch.size();
+    }
+
+    /**
+     * Deletes the messages delivered longer ago than the retention.
+     */
+    @Scheduled(initialDelayString = "${outbox.cleanup-initial-delay:PT10M}", fixedDelayString = "${outbox.cleanup-delay:PT1H}")
+    public void deleteDelivered() {
+        Date before = new Date(System.currentTimeMillis() - retention.toMillis());
+        try {
+            Integer deleted = transactionTemplate.execute(status -> outboxMessageRepository.deleteDeliveredBefore(before));
+            logger.info("Deleted {} outbox messages delivered before {}", deleted, before);
+        } catch (RuntimeException ex) {
+            logger.error("Outbox cleanup failed, it will be retried: {}", ex.getMessage());
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.agroapp.platform.shared.infrastructure.outbox;
+
+import com.agroapp.platform.shared.domain.model.entities.OutboxMessage;
+
+import java.util.List;
+
+/**
+ * Destination of the changes relayed from the outbox.
+ * Every bean implementing it receives every batch; delivery is at least once, so a sink may be given
+ * a message again after a failure (its id identifies it).
+ */
+public interface OutboxSink {
+
+    /**
+     * Delivers a batch of messages, ordered by id.
+     * Returning normally means the batch is delivered; throwing leaves it pending for the next attempt.
+     *
+     * @param messages Messages of the batch
+     */
+    void publish(List<OutboxMessage> messages);
+}
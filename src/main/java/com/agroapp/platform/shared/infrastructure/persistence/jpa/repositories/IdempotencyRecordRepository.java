@@ -0,0 +1,25 @@
+package com.agroapp.platform.shared.infrastructure.persistence.jpa.repositories;
+
+import com.agroapp.platform.shared.domain.model.entities.IdempotencyRecord;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Date;
+import java.util.Optional;
+
+@Repository
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, Long> {
+    Optional<IdempotencyRecord> findByRequestKey(String requestKey);
+
+    /**
+     * Deletes the records expired before the given time (index on expires_at).
+     *
+     * @return number of deleted rows
+     */
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.expiresAt < :now")
+    int deleteExpired(@Param("now") Date now);
+}
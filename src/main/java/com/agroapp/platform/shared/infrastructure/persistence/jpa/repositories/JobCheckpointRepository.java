@@ -0,0 +1,12 @@
+package com.agroapp.platform.shared.infrastructure.persistence.jpa.repositories;
+
+import com.agroapp.platform.shared.domain.model.entities.JobCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface JobCheckpointRepository extends JpaRepository<JobCheckpoint, Long> {
+    Optional<JobCheckpoint> findByJobName(String jobName);
+}
@@ -0,0 +1,38 @@
+package com.agroapp.platform.shared.infrastructure.persistence.jpa.repositories;
+
+import com.agroapp.platform.shared.domain.model.entities.OutboxMessage;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+
+@Repository
+public interface OutboxMessageRepository extends JpaRepository<OutboxMessage, Long> {
+
+    /**
+     * Claims the oldest pending messages (index on delivered_at, id).
+     * The rows stay locked until the calling transaction ends; rows already claimed by another relay
+     * are skipped instead of waited for, so several instances can relay at the same time.
+     */
+    @Query(value = "SELECT * FROM outbox_messages WHERE delivered_at IS NULL ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<OutboxMessage> claimPending(@Param("limit") int limit);
+
+    @Modifying
+    @Query("UPDATE OutboxMessage m SET m.deliveredAt = :deliveredAt WHERE m.id IN :ids")
+    int markDelivered(@Param("ids") Collection<Long> ids, @Param("deliveredAt") Date deliveredAt);
+
+    /**
+     * Deletes the messages delivered before the given time.
+     *
+     * @return number of deleted rows
+     */
+    @Modifying
+    @Query("DELETE FROM OutboxMessage m WHERE m.deliveredAt < :before")
+    int deleteDeliveredBefore(@Param("before") Date before);
+}
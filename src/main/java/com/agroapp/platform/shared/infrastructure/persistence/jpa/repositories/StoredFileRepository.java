@@ -0,0 +1,47 @@
+package com.agroapp.platform.shared.infrastructure.persistence.jpa.repositories;
+
+import com.agroapp.platform.shared.domain.model.entities.StoredFile;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface StoredFileRepository extends JpaRepository<StoredFile, Long> {
+
+    Optional<StoredFile> findByFilename(String filename);
+
+    /**
+     * Pages through the catalogue, optionally filtered by owner and content type prefix (e.g. "image/").
+     *
+     * @param ownerId owner to filter by, or null for every owner
+     * @param contentTypePrefix content type prefix to filter by, or null for every type
+     * @param pageable page request
+     * @return the requested page of catalogue entries
+     */
+    @Query("SELECT s FROM StoredFile s " +
+            "WHERE (:ownerId IS NULL OR s.ownerId = :ownerId) " +
+            "AND (:contentTypePrefix IS NULL OR s.contentType LIKE CONCAT(:contentTypePrefix, '%'))")
+    Page<StoredFile> search(@Param("ownerId") Long ownerId,
+                            @Param("contentTypePrefix") String contentTypePrefix,
+                            Pageable pageable);
+
+    /**
+     * Returns which of the given filenames are already catalogued.
+     * Used by the consistency repair to check directory entries in batches.
+     */
+    @Query("SELECT s.filename FROM StoredFile s WHERE s.filename IN :filenames")
+    List<String> findCataloguedFilenames(@Param("filenames") Collection<String> filenames);
+
+    /**
+     * Returns the next batch of catalogue entries after the given id, in id order.
+     */
+    List<StoredFile> findByIdGreaterThanOrderByIdAsc(Long afterId, Limit limit);
+}
@@ -0,0 +1,47 @@
+package com.agroapp.platform.shared.infrastructure.persistence.routing;
+
+import com.agroapp.platform.shared.infrastructure.web.ClientIpResolver;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Set;
+
+/**
+ * Keeps a client's reads on the primary while they may not be replicated yet:
+ * for the whole of a mutating request (reads after the write in the same request)
+ * and for the read-your-writes window after it. Clients are identified by IP address.
+ */
+@Component
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    private static final Set<String> SAFE_METHODS = Set.of("GET", "HEAD", "OPTIONS", "TRACE");
+
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    public ReadYourWritesFilter(ReadYourWritesTracker readYourWritesTracker) {
+        this.readYourWritesTracker = readYourWritesTracker;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String client = ClientIpResolver.resolve(request);
+        boolean write = !SAFE_METHODS.contains(request.getMethod());
+        if (write || readYourWritesTracker.isWithinWindow(client)) {
+            ReadWriteRoutingDataSource.pinToPrimary();
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReadWriteRoutingDataSource.release();
+            if (write) {
+                readYourWritesTracker.recordWrite(client);
+            }
+        }
+    }
+}
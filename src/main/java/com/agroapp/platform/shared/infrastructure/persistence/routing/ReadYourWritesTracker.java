@@ -0,0 +1,49 @@
+package com.agroapp.platform.shared.infrastructure.persistence.routing;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers which clients wrote recently, so their reads keep going to the primary
+ * until the replica has caught up with their own writes.
+ */
+@Component
+public class ReadYourWritesTracker {
+
+    private final long windowNanos;
+
+    /**
+     * Client key to the System.nanoTime() at which its window closes.
+     */
+    private final ConcurrentHashMap<String, Long> windows = new ConcurrentHashMap<>();
+
+    /**
+     * @param window How long after a write the client keeps reading from the primary
+     *               (should exceed the usual replication lag)
+     */
+    public ReadYourWritesTracker(@Value("${datasource.replica.read-your-writes-window:PT5S}") Duration window) {
+        this.windowNanos = window.toNanos();
+    }
+
+    public void recordWrite(String client) {
+        windows.put(client, System.nanoTime() + windowNanos);
+    }
+
+    public boolean isWithinWindow(String client) {
+        Long closesAt = windows.get(client);
+        return closesAt != null && closesAt - System.nanoTime() > 0;
+    }
+
+    /**
+     * Drops closed windows so the map only holds clients that wrote recently.
+     */
+    @Scheduled(fixedDelayString = "PT1M")
+    public void evictClosedWindows() {
+        long now = System.nanoTime();
+        windows.values().removeIf(closesAt -> closesAt - now <= 0);
+    }
+}
@@ -0,0 +1,147 @@
+package com.agroapp.platform.shared.infrastructure.ratelimiting;
+
+import com.agroapp.platform.shared.infrastructure.web.ClientIpResolver;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.NumberUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UrlPathHelper;
+
+import java.io.IOException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Rate limits the public endpoints that are expensive to serve (sign-in and sign-up hash passwords
+ * and geolocate the client, uploads write up to 10 MB), so a single client cannot saturate the node.
+ * Every endpoint group (rate-limiting.groups.*) has token buckets per client IP and, when the group
+ * names a user id parameter, per user id (parsed, so differently spelled ids share a bucket); a request
+ * needs a token from each of its buckets.
+ * Paths are matched once decoded and normalized, as the handler mapping sees them, so an encoded variant
+ * of a path cannot bypass its group.
+ * Rejected requests get 429 with Retry-After and are counted in {@code http.server.requests.rate.limited}.
+ * Runs first, so rejected requests cost neither a database statement nor a multipart read.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 5)
+@EnableConfigurationProperties(RateLimitingProperties.class)
+public class RateLimitingFilter extends OncePerRequestFilter {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final boolean enabled;
+    private final Map<String, EndpointGroup> groupsByPath = new HashMap<>();
+    private final Map<String, EndpointGroup> groups = new HashMap<>();
+
+    public RateLimitingFilter(RateLimitingProperties properties, MeterRegistry meterRegistry) {
+        this.enabled = properties.enabled();
+        if (properties.groups() == null) {
+            return;
+        }
+        properties.groups().forEach((name, settings) -> {
+            var limiter = new TokenBucketRateLimiter(settings.capacity(), settings.refillInterval());
+            var rejected = Counter.builder("http.server.requests.rate.limited")
+                    .description("Requests rejected by the rate limiter")
+                    .tag("group", name)
+                    .register(meterRegistry);
+            Gauge.builder("rate.limiting.keys", limiter, TokenBucketRateLimiter::size)
+                    .description("Clients and users currently tracked by the rate limiter")
+                    .tag("group", name)
+                    .register(meterRegistry);
+            var group = new EndpointGroup(limiter, settings.userParameter(), rejected);
+            groups.put(name, group);
+            if (settings.paths() != null) {
+                settings.paths().forEach(path -> groupsByPath.put(path, group));
+            }
+        });
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        // CORS preflights do not reach the endpoint and must not use up tokens
+        return !enabled || groupsByPath.isEmpty() || "OPTIONS".equals(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        EndpointGroup group = groupsByPath.get(UrlPathHelper.defaultInstance.getPathWithinApplication(request));
+        if (group == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long waitNanos = group.limiter().tryAcquire(ClientIpResolver.resolve(request));
+        if (waitNanos == 0 && group.userParameter() != null) {
+            // Read from the query string: getParameter() would parse a multipart body before the request is allowed
+            Long userId = userId(request.getQueryString(), group.userParameter());
+            if (userId != null) {
+                waitNanos = group.limiter().tryAcquire("user:" + userId);
+            }
+        }
+
+        if (waitNanos > 0) {
+            group.rejected().increment();
+            reject(response, waitNanos);
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private static void reject(HttpServletResponse response, long waitNanos) throws IOException {
+        long retryAfterSeconds = (waitNanos + NANOS_PER_SECOND - 1) / NANOS_PER_SECOND;
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+        response.getWriter().write("Too many requests, retry in " + retryAfterSeconds + " s");
+    }
+
+    /**
+     * Reads the user id parameter as the handler binds it: the first occurrence, decoded and parsed as a number,
+     * so every spelling of an id (42, 042, 4%32) shares one bucket.
+     *
+     * @return The user id, or null when absent or not a number (the request is then limited by IP only)
+     */
+    static Long userId(String queryString, String name) {
+        if (queryString == null) {
+            return null;
+        }
+        try {
+            for (String pair : queryString.split("&")) {
+                int separator = pair.indexOf('=');
+                if (separator > 0 && name.equals(URLDecoder.decode(pair.substring(0, separator), StandardCharsets.UTF_8))) {
+                    return NumberUtils.parseNumber(URLDecoder.decode(pair.substring(separator + 1), StandardCharsets.UTF_8), Long.class);
+                }
+            }
+        } catch (IllegalArgumentException ex) {
+            // Malformed escape or not a number
+        }
+        return null;
+    }
+
+    /**
+     * Drops the buckets of clients that have been idle long enough for them to be full again.
+     */
+    @Scheduled(fixedDelayString = "${rate-limiting.idle-eviction-interval:PT1M}")
+    public void evictIdleBuckets() {
+        groups.values().forEach(group -> group.limiter().evictIdle());
+    }
+
+    private record EndpointGroup(TokenBucketRateLimiter limiter, String userParameter, Counter rejected) {
+    }
+}
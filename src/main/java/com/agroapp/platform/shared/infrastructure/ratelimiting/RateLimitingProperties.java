@@ -0,0 +1,32 @@
+package com.agroapp.platform.shared.infrastructure.ratelimiting;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Rate limiting settings (rate-limiting.*).
+ *
+ * @param enabled Whether requests are rate limited at all
+ * @param groups Endpoint groups by name; each group has its own buckets
+ */
+@ConfigurationProperties("rate-limiting")
+public record RateLimitingProperties(@DefaultValue("true") boolean enabled,
+                                     Map<String, Group> groups) {
+
+    /**
+     * @param paths Request paths of the group (exact match on the decoded path)
+     * @param capacity Requests a client may send in a burst
+     * @param refillInterval Time after which a client may send one more request
+     * @param userParameter Query parameter holding the user id, which gets a bucket of its own
+     *                      in addition to the client IP (optional)
+     */
+    public record Group(List<String> paths,
+                        @DefaultValue("10") int capacity,
+                        @DefaultValue("PT6S") Duration refillInterval,
+                        String userParameter) {
+    }
+}
@@ -0,0 +1,80 @@
+package com.agroapp.platform.shared.infrastructure.ratelimiting;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token buckets for any number of keys (client IPs, user ids), all with the same capacity and refill rate.
+ * Each bucket is stored as a single timestamp (the generic cell rate algorithm): the time at which it
+ * would be full again. A check is one map lookup and one compare-and-set, so buckets are updated
+ * without locks and different keys never contend.
+ * Buckets that are full again hold no information and are dropped by {@link #evictIdle()}.
+ */
+public class TokenBucketRateLimiter {
+
+    private final long refillIntervalNanos;
+    private final long burstToleranceNanos;
+
+    /**
+     * Key to the System.nanoTime() at which its bucket is full again.
+     */
+    private final ConcurrentHashMap<String, AtomicLong> fullAt = new ConcurrentHashMap<>();
+
+    /**
+     * @param capacity Maximum number of tokens (requests allowed in a burst)
+     * @param refillInterval Time it takes to add one token back
+     */
+    public TokenBucketRateLimiter(int capacity, Duration refillInterval) {
+        if (capacity < 1 || refillInterval.isNegative() || refillInterval.isZero()) {
+            throw new IllegalArgumentException("Capacity and refill interval must be positive");
+        }
+        this.refillIntervalNanos = refillInterval.toNanos();
+        this.burstToleranceNanos = (capacity - 1) * refillIntervalNanos;
+    }
+
+    /**
+     * Takes a token from the bucket of the given key.
+     *
+     * @param key Client key
+     * @return 0 when a token was taken, otherwise the nanoseconds until the next token is available
+     */
+    public long tryAcquire(String key) {
+        return tryAcquire(key, System.nanoTime());
+    }
+
+    long tryAcquire(String key, long now) {
+        AtomicLong bucket = fullAt.get(key);
+        if (bucket == null) {
+            bucket = fullAt.computeIfAbsent(key, k -> new AtomicLong(now));
+        }
+        while (true) {
+            long current = bucket.get();
+            long fullAtOrNow = current - now > 0 ? current : now;
+            long wait = fullAtOrNow - now - burstToleranceNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (bucket.compareAndSet(current, fullAtOrNow + refillIntervalNanos)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Drops the buckets that are full again, so only recently active keys are kept.
+     * A check racing with the eviction of its key may be lost, which at worst lets one extra request
+     * through for a client that was idle anyway.
+     */
+    public void evictIdle() {
+        long now = System.nanoTime();
+        fullAt.values().removeIf(bucket -> bucket.get() - now <= 0);
+    }
+
+    /**
+     * @return Number of keys currently tracked
+     */
+    public int size() {
+        return fullAt.size();
+    }
+}
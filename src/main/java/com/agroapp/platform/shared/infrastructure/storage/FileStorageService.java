@@ -1,33 +1,73 @@
 package com.agroapp.platform.shared.infrastructure.storage;
 
+import com.agroapp.platform.shared.domain.model.entities.StoredFile;
+import com.agroapp.platform.shared.infrastructure.persistence.jpa.repositories.StoredFileRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
  * Service for file storage operations.
- * Handles saving files to the local filesystem.
+ * Handles saving files to the local filesystem and keeps a metadata catalogue of them,
+ * so listings never need to scan the uploads directory.
  */
 @Service
 public class FileStorageService {
 
+    private static final Logger logger = LoggerFactory.getLogger(FileStorageService.class);
+    private static final int REPAIR_BATCH_SIZE = 500;
+
     private final Path fileStorageLocation;
+    private final StoredFileRepository storedFileRepository;
+    private final ImageRenditionService imageRenditionService;
+    private final boolean repairOnStartup;
 
     /**
      * Constructor that initializes the storage location.
      * Creates the uploads directory if it doesn't exist.
      *
      * @param uploadDir The directory where files will be stored
+     * @param repairOnStartup Whether the catalogue is reconciled with the directory once the application is ready
+     * @param storedFileRepository Repository holding the file catalogue
+     * @param imageRenditionService Background pipeline producing image renditions
      */
-    public FileStorageService(@Value("${file.upload-dir:uploads}") String uploadDir) {
+    public FileStorageService(@Value("${file.upload-dir:uploads}") String uploadDir,
+                              @Value("${file.catalogue.repair-on-startup:true}") boolean repairOnStartup,
+                              StoredFileRepository storedFileRepository,
+                              ImageRenditionService imageRenditionService) {
         this.fileStorageLocation = Paths.get(uploadDir).toAbsolutePath().normalize();
+        this.storedFileRepository = storedFileRepository;
+        this.imageRenditionService = imageRenditionService;
+        this.repairOnStartup = repairOnStartup;
         try {
             Files.createDirectories(this.fileStorageLocation);
         } catch (IOException ex) {
@@ -36,13 +76,26 @@ public class FileStorageService {
     }
 
     /**
-     * Stores a file in the filesystem.
+     * Stores a file in the filesystem without an owner.
      *
      * @param file The file to store
      * @return The filename of the stored file
      * @throws FileStorageException if the file cannot be stored
      */
     public String storeFile(MultipartFile file) {
+        return storeFile(file, null);
+    }
+
+    /**
+     * Stores a file in the filesystem and records it in the catalogue.
+     * Images are queued for background rendition processing.
+     *
+     * @param file The file to store
+     * @param ownerId ID of the user uploading the file (optional)
+     * @return The filename of the stored file
+     * @throws FileStorageException if the file cannot be stored
+     */
+    public String storeFile(MultipartFile file, Long ownerId) {
         // Validate file
         if (file.isEmpty()) {
             throw new FileStorageException("Failed to store empty file.");
@@ -58,14 +111,250 @@ public class FileStorageService {
         String fileExtension = getFileExtension(originalFilename);
         String newFilename = UUID.randomUUID() + fileExtension;
 
-        try {
-            // Copy file to the target location (replacing existing file with the same name)
-            Path targetLocation = this.fileStorageLocation.resolve(newFilename);
-            Files.copy(file.getInputStream(), targetLocation, StandardCopyOption.REPLACE_EXISTING);
-
+        Path targetLocation = this.fileStorageLocation.resolve(newFilename);
+        try (InputStream inputStream = file.getInputStream()) {
+            // Hash the content while it is copied, so the file is read only once
+            String sha256 = copyAndHash(inputStream, targetLocation);
+            storedFileRepository.save(new StoredFile(newFilename, originalFilename, file.getContentType(),
+                    file.getSize(), sha256, ownerId));
+            if (isImage(file.getContentType())) {
+                imageRenditionService.enqueue(newFilename, targetLocation);
+            }
             return newFilename;
         } catch (IOException ex) {
             throw new FileStorageException("Could not store file " + newFilename + ". Please try again!", ex);
+        } catch (RuntimeException ex) {
+            deleteQuietly(targetLocation);
+            throw ex;
+        }
+    }
+
+    /**
+     * Writes in-memory content to a new file without cataloguing it yet.
+     * Meant for batch jobs that must not issue statements while a database cursor is open:
+     * the returned entries are catalogued afterwards with {@link #catalogueFiles(List)}.
+     *
+     * @param content The file content
+     * @param contentType MIME type of the content (used to pick the file extension)
+     * @param ownerId ID of the user owning the file (optional)
+     * @return The catalogue entry describing the written file, not yet persisted
+     * @throws FileStorageException if the file cannot be written
+     */
+    public StoredFile writeFile(byte[] content, String contentType, Long ownerId) {
+        if (content == null || content.length == 0) {
+            throw new FileStorageException("Failed to store empty file.");
+        }
+        String newFilename = UUID.randomUUID() + getExtensionForContentType(contentType);
+        Path targetLocation = this.fileStorageLocation.resolve(newFilename);
+        try (InputStream inputStream = new ByteArrayInputStream(content)) {
+            String sha256 = copyAndHash(inputStream, targetLocation);
+            return new StoredFile(newFilename, newFilename, contentType, content.length, sha256, ownerId);
+        } catch (IOException ex) {
+            deleteQuietly(targetLocation);
+            throw new FileStorageException("Could not store file " + newFilename + ". Please try again!", ex);
+        }
+    }
+
+    /**
+     * Records files written with {@link #writeFile(byte[], String, Long)} in the catalogue
+     * and queues the images among them for rendition processing.
+     * Inside a transaction the images are queued only after commit, so the workers find their catalogue entries.
+     *
+     * @param storedFiles The entries to catalogue
+     */
+    public void catalogueFiles(List<StoredFile> storedFiles) {
+        storedFileRepository.saveAll(storedFiles);
+        Runnable enqueueImages = () -> storedFiles.stream()
+                .filter(entry -> isImage(entry.getContentType()))
+                .forEach(entry -> imageRenditionService.enqueue(entry.getFilename(), fileStorageLocation.resolve(entry.getFilename())));
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueueImages.run();
+                }
+            });
+        } else {
+            enqueueImages.run();
+        }
+    }
+
+    /**
+     * Resolves a stored file by name.
+     * Names that would escape the uploads directory are rejected.
+     *
+     * @param filename Name of the stored file
+     * @return The path of the file, or empty if there is no such file
+     */
+    public Optional<Path> loadFile(String filename) {
+        if (filename == null || filename.isBlank()) {
+            return Optional.empty();
+        }
+        Path path = fileStorageLocation.resolve(filename).normalize();
+        if (!fileStorageLocation.equals(path.getParent()) || !Files.isRegularFile(path)) {
+            return Optional.empty();
+        }
+        return Optional.of(path);
+    }
+
+    /**
+     * Resolves the file to serve for a stored image at a requested display width.
+     * Only precomputed renditions are returned; images are never resized on the request path.
+     *
+     * @param filename Name of the stored image
+     * @param width Requested width in pixels
+     * @return The rendition path, or empty when there is no suitable rendition (yet)
+     */
+    public Optional<Path> loadRendition(String filename, int width) {
+        return loadFile(filename).flatMap(original -> imageRenditionService.findRendition(filename, width));
+    }
+
+    /**
+     * Tells whether an image is still waiting for its renditions to be produced.
+     *
+     * @param filename Name of the stored image
+     * @return true if the image is catalogued but has not been processed yet
+     */
+    public boolean isRenditionPending(String filename) {
+        return storedFileRepository.findByFilename(filename)
+                .map(storedFile -> isImage(storedFile.getContentType()) && storedFile.getRenditionWidths() == null)
+                .orElse(false);
+    }
+
+    /**
+     * Lists catalogued files, newest first unless the page request says otherwise.
+     *
+     * @param ownerId Owner to filter by (optional)
+     * @param contentTypePrefix Content type prefix to filter by, e.g. "image/" (optional)
+     * @param pageable Page request
+     * @return The requested page of catalogue entries
+     */
+    public Page<StoredFile> listFiles(Long ownerId, String contentTypePrefix, Pageable pageable) {
+        return storedFileRepository.search(ownerId, contentTypePrefix, pageable);
+    }
+
+    /**
+     * Reconciles the catalogue with the uploads directory.
+     * Files on disk without a catalogue entry are added, entries whose file is gone are removed.
+     * The directory is walked with a {@link DirectoryStream} and checked in batches, so memory stays
+     * bounded no matter how many files there are.
+     *
+     * @return Summary of the changes applied to the catalogue
+     */
+    public CatalogueRepairResult repairCatalogue() {
+        int added = 0;
+        try (DirectoryStream<Path> directory = Files.newDirectoryStream(fileStorageLocation, Files::isRegularFile)) {
+            List<Path> batch = new ArrayList<>(REPAIR_BATCH_SIZE);
+            for (Path path : directory) {
+                batch.add(path);
+                if (batch.size() == REPAIR_BATCH_SIZE) {
+                    added += catalogueMissing(batch);
+                    batch.clear();
+                }
+            }
+            added += catalogueMissing(batch);
+        } catch (IOException ex) {
+            throw new FileStorageException("Could not read the uploads directory.", ex);
+        }
+
+        int removed = 0;
+        long lastId = 0L;
+        List<StoredFile> entries;
+        do {
+            entries = storedFileRepository.findByIdGreaterThanOrderByIdAsc(lastId, Limit.of(REPAIR_BATCH_SIZE));
+            List<Long> missing = new ArrayList<>();
+            for (StoredFile entry : entries) {
+                lastId = entry.getId();
+                if (!Files.isRegularFile(fileStorageLocation.resolve(entry.getFilename()))) {
+                    missing.add(entry.getId());
+                }
+            }
+            if (!missing.isEmpty()) {
+                storedFileRepository.deleteAllByIdInBatch(missing);
+                removed += missing.size();
+            }
+        } while (entries.size() == REPAIR_BATCH_SIZE);
+
+        return new CatalogueRepairResult(added, removed);
+    }
+
+    /**
+     * Runs the catalogue repair once the application is ready, so files uploaded before the
+     * catalogue existed become listable.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void repairCatalogueOnStartup() {
+        if (!repairOnStartup) {
+            return;
+        }
+        try {
+            var result = repairCatalogue();
+            logger.info("File catalogue repaired: {} added, {} removed", result.added(), result.removed());
+        } catch (RuntimeException ex) {
+            logger.error("File catalogue repair failed: {}", ex.getMessage());
+        }
+    }
+
+    /**
+     * Adds catalogue entries for the files of the batch that are not catalogued yet.
+     */
+    private int catalogueMissing(List<Path> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        var names = batch.stream().map(path -> path.getFileName().toString()).toList();
+        var catalogued = new HashSet<>(storedFileRepository.findCataloguedFilenames(names));
+        var newEntries = new ArrayList<StoredFile>();
+        for (Path path : batch) {
+            String name = path.getFileName().toString();
+            if (catalogued.contains(name)) {
+                continue;
+            }
+            try (InputStream inputStream = Files.newInputStream(path)) {
+                String sha256 = hash(inputStream);
+                newEntries.add(new StoredFile(name, name, Files.probeContentType(path), Files.size(path), sha256, null));
+            } catch (IOException ex) {
+                logger.warn("Skipping unreadable file {}: {}", name, ex.getMessage());
+            }
+        }
+        catalogueFiles(newEntries);
+        return newEntries.size();
+    }
+
+    private static boolean isImage(String contentType) {
+        return contentType != null && contentType.startsWith("image/");
+    }
+
+    private String copyAndHash(InputStream inputStream, Path target) throws IOException {
+        MessageDigest digest = newSha256();
+        try (DigestInputStream digestStream = new DigestInputStream(inputStream, digest)) {
+            // Copy file to the target location (replacing existing file with the same name)
+            Files.copy(digestStream, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private String hash(InputStream inputStream) throws IOException {
+        MessageDigest digest = newSha256();
+        try (DigestInputStream digestStream = new DigestInputStream(inputStream, digest)) {
+            digestStream.transferTo(OutputStream.nullOutputStream());
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ignored) {
+            // The catalogue repair removes leftovers
         }
     }
 
@@ -83,6 +372,33 @@ public class FileStorageService {
         return filename.substring(lastIndexOf);
     }
 
+    /**
+     * Maps a MIME type to a file extension, e.g. "image/jpeg" to ".jpg".
+     *
+     * @param contentType The MIME type
+     * @return The file extension (including the dot), or empty when unknown
+     */
+    private String getExtensionForContentType(String contentType) {
+        if (contentType == null || !contentType.contains("/")) {
+            return "";
+        }
+        String subtype = contentType.substring(contentType.indexOf('/') + 1).toLowerCase(Locale.ROOT);
+        int plusIndex = subtype.indexOf('+');
+        if (plusIndex != -1) {
+            subtype = subtype.substring(0, plusIndex);
+        }
+        return "jpeg".equals(subtype) ? ".jpg" : "." + subtype;
+    }
+
+    /**
+     * Summary of a catalogue repair run.
+     *
+     * @param added Number of files added to the catalogue
+     * @param removed Number of catalogue entries removed because their file was gone
+     */
+    public record CatalogueRepairResult(int added, int removed) {
+    }
+
     /**
      * Custom exception for file storage errors.
      */
@@ -96,4 +412,3 @@ public class FileStorageService {
         }
     }
 }
-
@@ -0,0 +1,249 @@
+package com.agroapp.platform.shared.infrastructure.storage;
+
+import com.agroapp.platform.shared.infrastructure.persistence.jpa.repositories.StoredFileRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Produces downscaled renditions of uploaded images in the background.
+ * Uploads are queued on a bounded worker pool; each job writes one JPEG per configured
+ * width into the renditions directory and records the widths plus a BlurHash placeholder
+ * in the storage catalogue. Requests only ever read the precomputed files.
+ * The dimensions of an image are read from its header before it is decoded, and images above
+ * file.renditions.max-pixels are not decoded at all. An image that gets no renditions (too large,
+ * unreadable, or skipped because the queue is full) is recorded with an empty list, so it is no
+ * longer reported as pending and is served at full size.
+ */
+@Service
+public class ImageRenditionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ImageRenditionService.class);
+    private static final String RENDITIONS_DIRECTORY = ".renditions";
+    private static final int PLACEHOLDER_WIDTH = 32;
+    private static final float JPEG_QUALITY = 0.8f;
+
+    private final Path renditionLocation;
+    private final List<Integer> widths;
+    private final long maxPixels;
+    private final StoredFileRepository storedFileRepository;
+    private final ThreadPoolExecutor executor;
+
+    /**
+     * Constructor that initializes the renditions directory and the worker pool.
+     *
+     * @param uploadDir The directory where uploaded files are stored
+     * @param widths Widths (in pixels) of the renditions to produce
+     * @param workers Number of worker threads
+     * @param queueCapacity Maximum number of images waiting to be processed
+     * @param maxPixels Maximum number of pixels (width × height) of an image to decode
+     * @param storedFileRepository Repository holding the file catalogue
+     */
+    public ImageRenditionService(@Value("${file.upload-dir:uploads}") String uploadDir,
+                                 @Value("${file.renditions.widths:200,480,1080}") List<Integer> widths,
+                                 @Value("${file.renditions.workers:2}") int workers,
+                                 @Value("${file.renditions.queue-capacity:200}") int queueCapacity,
+                                 @Value("${file.renditions.max-pixels:40000000}") long maxPixels,
+                                 StoredFileRepository storedFileRepository) {
+        this.renditionLocation = Paths.get(uploadDir).toAbsolutePath().normalize().resolve(RENDITIONS_DIRECTORY);
+        this.widths = widths.stream().sorted().toList();
+        this.maxPixels = maxPixels;
+        this.storedFileRepository = storedFileRepository;
+        try {
+            Files.createDirectories(this.renditionLocation);
+        } catch (IOException ex) {
+            throw new FileStorageService.FileStorageException("Could not create the directory where image renditions will be stored.", ex);
+        }
+
+        var threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    var thread = new Thread(runnable, "image-renditions-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * Queues an image for rendition processing.
+     * When the queue is full the image is skipped and keeps being served at full size.
+     *
+     * @param filename Name of the stored image
+     * @param source Path of the stored image
+     */
+    public void enqueue(String filename, Path source) {
+        try {
+            executor.execute(() -> process(filename, source));
+        } catch (RejectedExecutionException ex) {
+            logger.warn("Rendition queue is full, skipping {}", filename);
+            recordNoRenditions(filename);
+        }
+    }
+
+    /**
+     * Finds the precomputed rendition to serve for a requested width:
+     * the smallest rendition at least as wide as requested.
+     *
+     * @param filename Name of the stored image
+     * @param requestedWidth Width requested by the client
+     * @return The rendition path, or empty when the original should be served
+     */
+    public Optional<Path> findRendition(String filename, int requestedWidth) {
+        for (int width : widths) {
+            if (width >= requestedWidth) {
+                Path rendition = renditionLocation.resolve(renditionName(filename, width));
+                // Widths at or above the original size are never produced
+                return Files.isRegularFile(rendition) ? Optional.of(rendition) : Optional.empty();
+            }
+        }
+        return Optional.empty();
+    }
+
+    private void process(String filename, Path source) {
+        try {
+            BufferedImage original = read(source);
+            if (original == null) {
+                logger.debug("{} is not a readable image, no renditions produced", filename);
+                recordNoRenditions(filename);
+                return;
+            }
+
+            List<Integer> written = new ArrayList<>();
+            for (int width : widths) {
+                if (width >= original.getWidth()) {
+                    break;
+                }
+                writeJpeg(resize(original, width), renditionLocation.resolve(renditionName(filename, width)));
+                written.add(width);
+            }
+            String placeholder = BlurHashEncoder.encode(resize(original, Math.min(PLACEHOLDER_WIDTH, original.getWidth())), 4, 3);
+
+            storedFileRepository.findByFilename(filename)
+                    .ifPresent(storedFile -> storedFileRepository.save(storedFile.recordRenditions(written, placeholder)));
+        } catch (IOException | RuntimeException ex) {
+            logger.warn("Could not produce renditions for {}: {}", filename, ex.getMessage());
+            recordNoRenditions(filename);
+        }
+    }
+
+    /**
+     * Decodes an image, after checking from its header that it is within the pixel limit.
+     *
+     * @return The image, or null when no reader recognizes the file
+     * @throws IllegalArgumentException if the image has more pixels than allowed
+     */
+    private BufferedImage read(Path source) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(source.toFile())) {
+            if (input == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                if (pixels > maxPixels) {
+                    throw new IllegalArgumentException("Image has " + pixels + " pixels, more than the " + maxPixels + " allowed");
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * Records that an image has no renditions, so it is served at full size and no longer reported as pending.
+     */
+    private void recordNoRenditions(String filename) {
+        try {
+            storedFileRepository.findByFilename(filename)
+                    .ifPresent(storedFile -> storedFileRepository.save(storedFile.recordRenditions(List.of(), null)));
+        } catch (RuntimeException ex) {
+            logger.warn("Could not record that {} has no renditions: {}", filename, ex.getMessage());
+        }
+    }
+
+    /**
+     * Scales an image to the given width, halving in steps for better quality on large downscales.
+     * The result is opaque RGB (transparent areas become white) so it can be written as JPEG.
+     */
+    private static BufferedImage resize(BufferedImage source, int targetWidth) {
+        int targetHeight = Math.max(1, (int) Math.round((double) source.getHeight() * targetWidth / source.getWidth()));
+        BufferedImage current = source;
+        int width = source.getWidth();
+        int height = source.getHeight();
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+            BufferedImage step = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+            Graphics2D graphics = step.createGraphics();
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.drawImage(current, 0, 0, width, height, null);
+            graphics.dispose();
+            current = step;
+        } while (width != targetWidth || height != targetHeight);
+        return current;
+    }
+
+    private static void writeJpeg(BufferedImage image, Path target) throws IOException {
+        // Write to a temporary file first so a rendition is never served half written
+        Path temporary = target.resolveSibling(target.getFileName() + ".tmp");
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(temporary.toFile())) {
+            writer.setOutput(output);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static String renditionName(String filename, int width) {
+        int lastIndexOf = filename.lastIndexOf('.');
+        String baseName = lastIndexOf == -1 ? filename : filename.substring(0, lastIndexOf);
+        return baseName + "_w" + width + ".jpg";
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
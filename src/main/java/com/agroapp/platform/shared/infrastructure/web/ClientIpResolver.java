@@ -0,0 +1,26 @@
+package com.agroapp.platform.shared.infrastructure.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Resolves the client's IP address of an HTTP request.
+ * The address is the one resolved by the servlet container from X-Forwarded-For
+ * (server.forward-headers-strategy=native): it reads the header from the right and takes the first
+ * entry not added by a trusted proxy (server.tomcat.remoteip.internal-proxies / trusted-proxies), so the
+ * entries a client sends itself are ignored. Any other proxy header is client controlled and is not read.
+ */
+public final class ClientIpResolver {
+
+    private ClientIpResolver() {
+    }
+
+    /**
+     * Extracts the client's public IP address from the HTTP request.
+     *
+     * @param request The HTTP servlet request
+     * @return The client's IP address
+     */
+    public static String resolve(HttpServletRequest request) {
+        return request.getRemoteAddr();
+    }
+}
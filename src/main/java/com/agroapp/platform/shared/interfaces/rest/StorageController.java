@@ -2,11 +2,15 @@ package com.agroapp.platform.shared.interfaces.rest;
 
 import com.agroapp.platform.shared.infrastructure.storage.FileStorageService;
 import com.agroapp.platform.shared.interfaces.rest.resources.FileUploadResponse;
+import com.agroapp.platform.shared.interfaces.rest.resources.StoredFilePageResource;
+import com.agroapp.platform.shared.interfaces.rest.transform.StoredFileResourceFromEntityAssembler;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -25,6 +29,8 @@ public class StorageController {
 
     private final FileStorageService fileStorageService;
 
+    private static final int MAX_PAGE_SIZE = 200;
+
     public StorageController(FileStorageService fileStorageService) {
         this.fileStorageService = fileStorageService;
     }
@@ -33,6 +39,7 @@ public class StorageController {
      * Uploads a file and returns its public URL.
      *
      * @param file The file to upload
+     * @param ownerId ID of the user uploading the file (optional)
      * @return ResponseEntity with the file URL
      */
     @PostMapping(value = "/upload", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
@@ -52,10 +59,11 @@ public class StorageController {
         responseCode = "400",
         description = "Invalid file or file upload failed"
     )
-    public ResponseEntity<FileUploadResponse> uploadFile(@RequestParam("file") MultipartFile file) {
+    public ResponseEntity<FileUploadResponse> uploadFile(@RequestParam("file") MultipartFile file,
+                                                         @RequestParam(required = false) Long ownerId) {
         try {
-            // Store the file
-            String filename = fileStorageService.storeFile(file);
+            // Store the file and record it in the catalogue
+            String filename = fileStorageService.storeFile(file, ownerId);
 
             // Build the public URL (e.g., http://localhost:8080/uploads/filename.jpg)
             String fileDownloadUri = ServletUriComponentsBuilder.fromCurrentContextPath()
@@ -78,46 +86,54 @@ public class StorageController {
     }
 
     /**
-     * Lists all uploaded files (for debugging purposes).
+     * Lists uploaded files from the storage catalogue.
      *
-     * @return List of uploaded file names
+     * @param ownerId Owner to filter by (optional)
+     * @param contentType Content type prefix to filter by, e.g. "image/" (optional)
+     * @param page Zero-based page number
+     * @param size Page size (max 200)
+     * @return Page of catalogued files, newest first
      */
     @GetMapping("/list")
     @Operation(
         summary = "List uploaded files",
-        description = "Lists all files in the uploads directory (for debugging/testing purposes)"
+        description = "Lists uploaded files from the storage catalogue, newest first. " +
+                "Supports pagination and filtering by owner and content type prefix."
     )
-    public ResponseEntity<?> listFiles() {
-        try {
-            java.io.File uploadsDir = new java.io.File("uploads");
-            if (!uploadsDir.exists() || !uploadsDir.isDirectory()) {
-                return ResponseEntity.ok(java.util.Map.of(
-                    "message", "Uploads directory does not exist",
-                    "path", uploadsDir.getAbsolutePath()
-                ));
-            }
+    public ResponseEntity<StoredFilePageResource> listFiles(@RequestParam(required = false) Long ownerId,
+                                                            @RequestParam(required = false) String contentType,
+                                                            @RequestParam(defaultValue = "0") int page,
+                                                            @RequestParam(defaultValue = "50") int size) {
+        var pageable = PageRequest.of(Math.max(page, 0), Math.clamp(size, 1, MAX_PAGE_SIZE),
+                Sort.by(Sort.Direction.DESC, "createdAt"));
+        var files = fileStorageService.listFiles(ownerId, contentType, pageable);
 
-            java.io.File[] files = uploadsDir.listFiles();
-            java.util.List<String> fileNames = new java.util.ArrayList<>();
+        String baseUrl = ServletUriComponentsBuilder.fromCurrentContextPath()
+                .path("/uploads/")
+                .toUriString();
+        var fileResources = files.getContent().stream()
+                .map(file -> StoredFileResourceFromEntityAssembler.toResourceFromEntity(file, baseUrl))
+                .toList();
 
-            if (files != null) {
-                for (java.io.File file : files) {
-                    if (file.isFile()) {
-                        fileNames.add(file.getName());
-                    }
-                }
-            }
+        return ResponseEntity.ok(new StoredFilePageResource(
+                fileResources, files.getNumber(), files.getSize(), files.getTotalElements(), files.getTotalPages()));
+    }
 
-            return ResponseEntity.ok(java.util.Map.of(
-                "directory", uploadsDir.getAbsolutePath(),
-                "exists", uploadsDir.exists(),
-                "fileCount", fileNames.size(),
-                "files", fileNames
-            ));
-        } catch (Exception ex) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(java.util.Map.of("error", ex.getMessage()));
+    /**
+     * Reconciles the storage catalogue with the uploads directory.
+     *
+     * @return Number of catalogue entries added and removed
+     */
+    @PostMapping("/catalogue/repair")
+    @Operation(
+        summary = "Repair the storage catalogue",
+        description = "Adds catalogue entries for files present on disk and removes entries whose file no longer exists"
+    )
+    public ResponseEntity<FileStorageService.CatalogueRepairResult> repairCatalogue() {
+        try {
+            return ResponseEntity.ok(fileStorageService.repairCatalogue());
+        } catch (FileStorageService.FileStorageException ex) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
 }
-
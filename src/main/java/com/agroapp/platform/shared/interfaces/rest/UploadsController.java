@@ -0,0 +1,134 @@
+package com.agroapp.platform.shared.interfaces.rest;
+
+import com.agroapp.platform.shared.infrastructure.storage.FileStorageService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * REST Controller serving uploaded files.
+ * Uploaded files get a random UUID name and are never overwritten, so responses are
+ * cached as immutable for a year and validated with a strong ETag derived from the name.
+ * Images can be requested at a display width with ?w=, which serves the closest precomputed
+ * rendition. Byte-range requests are answered with partial content, and full responses are
+ * sent with zero-copy file transfer when the servlet container supports it.
+ */
+@RestController
+@RequestMapping("/uploads")
+@Tag(name = "Uploads", description = "Serving of uploaded files")
+public class UploadsController {
+
+    /**
+     * Request attributes understood by Tomcat to send a file with sendfile().
+     */
+    private static final String SENDFILE_SUPPORT_ATTRIBUTE = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME_ATTRIBUTE = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START_ATTRIBUTE = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END_ATTRIBUTE = "org.apache.tomcat.sendfile.end";
+
+    private static final CacheControl IMMUTABLE = CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable();
+
+    /**
+     * Used when a rendition was requested but is not ready yet and the original is served instead,
+     * so clients pick up the rendition shortly after it has been produced.
+     */
+    private static final CacheControl RENDITION_PENDING = CacheControl.maxAge(60, TimeUnit.SECONDS).cachePublic();
+
+    private final FileStorageService fileStorageService;
+
+    public UploadsController(FileStorageService fileStorageService) {
+        this.fileStorageService = fileStorageService;
+    }
+
+    /**
+     * Serves an uploaded file.
+     * GET /uploads/{filename}
+     *
+     * @param filename Name of the stored file
+     * @param w Requested display width in pixels (optional)
+     * @return The file content, 206 for range requests, or 304 when the client copy is current
+     */
+    @GetMapping("/{filename:.+}")
+    @Operation(summary = "Get an uploaded file", description = "Serves an uploaded file with immutable caching, ETag validation and byte-range support. " +
+            "Use ?w= to get a precomputed image rendition close to the requested width.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "File content"),
+            @ApiResponse(responseCode = "206", description = "Requested byte range of the file"),
+            @ApiResponse(responseCode = "304", description = "Client copy is current"),
+            @ApiResponse(responseCode = "404", description = "File not found")
+    })
+    public ResponseEntity<Resource> getFile(@PathVariable String filename,
+                                            @RequestParam(required = false) Integer w,
+                                            HttpServletRequest request,
+                                            HttpServletResponse response) throws IOException {
+        var file = fileStorageService.loadFile(filename);
+        if (file.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+
+        Path path = file.get();
+        String eTag = "\"" + filename + "\"";
+        CacheControl cacheControl = IMMUTABLE;
+        if (w != null && w > 0) {
+            var rendition = fileStorageService.loadRendition(filename, w);
+            if (rendition.isPresent()) {
+                path = rendition.get();
+                eTag = "\"" + path.getFileName() + "\"";
+            } else if (fileStorageService.isRenditionPending(filename)) {
+                cacheControl = RENDITION_PENDING;
+            }
+        }
+
+        // Answer If-None-Match with 304 before touching the file content
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl.getHeaderValue());
+        if (new ServletWebRequest(request, response).checkNotModified(eTag)) {
+            return null;
+        }
+
+        long size = Files.size(path);
+        MediaType mediaType = MediaTypeFactory.getMediaType(path.getFileName().toString()).orElse(MediaType.APPLICATION_OCTET_STREAM);
+        var builder = ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(cacheControl)
+                .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                .contentType(mediaType);
+
+        if (canUseSendfile(request)) {
+            // The container writes the body straight from the file once the headers are committed
+            request.setAttribute(SENDFILE_FILENAME_ATTRIBUTE, path.toString());
+            request.setAttribute(SENDFILE_START_ATTRIBUTE, 0L);
+            request.setAttribute(SENDFILE_END_ATTRIBUTE, size);
+            return builder.contentLength(size).build();
+        }
+
+        // Range requests are turned into 206 partial content responses by Spring MVC
+        return builder.body(new FileSystemResource(path));
+    }
+
+    private boolean canUseSendfile(HttpServletRequest request) {
+        return "GET".equals(request.getMethod())
+                && request.getHeader(HttpHeaders.RANGE) == null
+                && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT_ATTRIBUTE));
+    }
+}
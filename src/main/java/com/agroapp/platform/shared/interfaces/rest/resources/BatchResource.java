@@ -0,0 +1,15 @@
+package com.agroapp.platform.shared.interfaces.rest.resources;
+
+import java.util.List;
+
+/**
+ * Resources fetched by a list of IDs (GET ...?ids=1,2,3).
+ *
+ * @param items Found resources, in the order their IDs were requested (sparse maps when ?fields= is used)
+ * @param missingIds Requested IDs without a resource
+ */
+public record BatchResource(
+        List<?> items,
+        List<Long> missingIds
+) {
+}
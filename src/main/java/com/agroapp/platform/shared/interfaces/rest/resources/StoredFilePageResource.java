@@ -0,0 +1,21 @@
+package com.agroapp.platform.shared.interfaces.rest.resources;
+
+import java.util.List;
+
+/**
+ * Paginated listing of catalogued files.
+ *
+ * @param files Files of the current page
+ * @param page Zero-based page number
+ * @param size Requested page size
+ * @param totalElements Total number of matching files
+ * @param totalPages Total number of pages
+ */
+public record StoredFilePageResource(
+        List<StoredFileResource> files,
+        int page,
+        int size,
+        long totalElements,
+        int totalPages
+) {
+}
@@ -0,0 +1,34 @@
+package com.agroapp.platform.shared.interfaces.rest.resources;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Resource describing a catalogued file.
+ *
+ * @param id Catalogue entry ID
+ * @param filename Name of the stored file
+ * @param fileUrl Public URL where the file can be accessed
+ * @param originalFilename Name of the file as uploaded
+ * @param contentType MIME type of the file
+ * @param size Size in bytes
+ * @param sha256 Hex encoded SHA-256 digest of the content
+ * @param ownerId ID of the user who uploaded the file
+ * @param renditionWidths Widths that can be requested with ?w= (empty until renditions are ready)
+ * @param placeholderHash BlurHash placeholder of the image (null until renditions are ready)
+ * @param createdDate When the file was stored
+ */
+public record StoredFileResource(
+        Long id,
+        String filename,
+        String fileUrl,
+        String originalFilename,
+        String contentType,
+        long size,
+        String sha256,
+        Long ownerId,
+        List<Integer> renditionWidths,
+        String placeholderHash,
+        LocalDateTime createdDate
+) {
+}
@@ -0,0 +1,67 @@
+package com.agroapp.platform.shared.interfaces.rest.transform;
+
+import com.agroapp.platform.shared.interfaces.rest.resources.BatchResource;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Assembler class for batch GET requests (?ids=1,2,3).
+ * Entities are loaded with a single IN query and come back in database order;
+ * the assembler puts them back in the requested order and lists the IDs that were not found.
+ * Pure transformation, no business logic.
+ */
+public class BatchResourceAssembler {
+
+    /**
+     * Maximum number of IDs of one batch request, which bounds the IN list and the response size.
+     */
+    public static final int MAX_IDS = 100;
+
+    /**
+     * Removes empty and duplicate IDs, keeping the first occurrence.
+     *
+     * @param ids The requested IDs
+     * @return The distinct IDs in request order
+     */
+    public static List<Long> distinctIds(List<Long> ids) {
+        return ids.stream().filter(Objects::nonNull).distinct().toList();
+    }
+
+    /**
+     * Builds the response of a batch request.
+     *
+     * @param ids The distinct requested IDs
+     * @param entities The entities found for them, in any order
+     * @param idOf Reads the ID of an entity
+     * @param toResource Transforms an entity into its resource
+     * @param fields The raw fields parameter (nullable)
+     * @return BatchResource with the resources in request order and the missing IDs
+     */
+    public static <E> BatchResource toResource(List<Long> ids,
+                                               List<E> entities,
+                                               Function<E, Long> idOf,
+                                               Function<E, ? extends Record> toResource,
+                                               String fields) {
+        Map<Long, E> entitiesById = new HashMap<>();
+        entities.forEach(entity -> entitiesById.put(idOf.apply(entity), entity));
+
+        var fieldset = SparseFieldsetAssembler.parseFields(fields);
+        List<Object> items = new ArrayList<>(entities.size());
+        List<Long> missingIds = new ArrayList<>();
+        for (Long id : ids) {
+            E entity = entitiesById.get(id);
+            if (entity == null) {
+                missingIds.add(id);
+                continue;
+            }
+            Record resource = toResource.apply(entity);
+            items.add(fieldset.isEmpty() ? resource : SparseFieldsetAssembler.toSparseResource(resource, fieldset));
+        }
+        return new BatchResource(items, missingIds);
+    }
+}
@@ -0,0 +1,54 @@
+package com.agroapp.platform.shared.interfaces.rest.transform;
+
+/**
+ * Assembler class between aggregate versions and HTTP entity tags.
+ * An aggregate's strong ETag is "{id}-{version}": the @Version column changes on every write,
+ * so the tag can be computed (and compared) without serializing the resource.
+ */
+public class EntityTagAssembler {
+
+    /**
+     * Builds the strong ETag of an aggregate.
+     *
+     * @param id The aggregate ID
+     * @param version The aggregate version (null is treated as 0)
+     * @return Quoted entity tag, e.g. "42-3"
+     */
+    public static String toEntityTag(Long id, Long version) {
+        return "\"" + id + "-" + (version != null ? version : 0L) + "\"";
+    }
+
+    /**
+     * Version that no aggregate ever has, returned for If-Match tags that cannot match.
+     * A version-checked write against it updates nothing and reports a conflict (412).
+     */
+    public static final Long UNMATCHABLE_VERSION = -1L;
+
+    /**
+     * Extracts the version an If-Match header expects for an aggregate.
+     *
+     * @param ifMatch The If-Match header value (a single strong tag), may be null
+     * @param id The aggregate ID the request targets
+     * @return The expected version; null when there is no precondition (no header or "*");
+     *         UNMATCHABLE_VERSION when the tag is malformed or belongs to another aggregate
+     */
+    public static Long toExpectedVersion(String ifMatch, Long id) {
+        if (ifMatch == null || ifMatch.isBlank() || "*".equals(ifMatch.trim())) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.length() < 2 || !tag.startsWith("\"") || !tag.endsWith("\"")) {
+            return UNMATCHABLE_VERSION;
+        }
+        String value = tag.substring(1, tag.length() - 1);
+        String prefix = id + "-";
+        if (!value.startsWith(prefix)) {
+            return UNMATCHABLE_VERSION;
+        }
+        try {
+            return Long.parseLong(value.substring(prefix.length()));
+        } catch (NumberFormatException ex) {
+            return UNMATCHABLE_VERSION;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.agroapp.platform.shared.interfaces.rest.transform;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Assembler class to embed related resources in a resource (?expand=progressHistory,tasks,...).
+ * The embedded resources are added after the properties of the (possibly sparse) resource,
+ * so clients get a composite response instead of following every id with its own request.
+ * Pure transformation, no business logic.
+ */
+public class ExpansionAssembler {
+
+    /**
+     * Parses a comma separated expand parameter.
+     *
+     * @param expand The raw parameter value (e.g. "cropField,tasks")
+     * @return The relations to embed, or an empty set when nothing is expanded
+     */
+    public static Set<String> parseExpand(String expand) {
+        return SparseFieldsetAssembler.parseFields(expand);
+    }
+
+    /**
+     * Tells whether a relation is embedded.
+     *
+     * @param expansions Parsed expand parameter (empty means nothing)
+     * @param relation Relation name
+     * @return true if the relation must be embedded
+     */
+    public static boolean isExpanded(Set<String> expansions, String relation) {
+        return expansions.contains(relation);
+    }
+
+    /**
+     * Copies the requested properties of a resource and appends the embedded resources.
+     *
+     * @param resource The full resource
+     * @param fieldset Parsed fieldset (empty means every property)
+     * @param embedded Embedded resources by relation name
+     * @return Map holding the requested properties followed by the embedded resources
+     */
+    public static Map<String, Object> toExpandedResource(Record resource, Set<String> fieldset, Map<String, Object> embedded) {
+        var expanded = SparseFieldsetAssembler.toSparseResource(resource, fieldset);
+        expanded.putAll(embedded);
+        return expanded;
+    }
+}
@@ -0,0 +1,113 @@
+package com.agroapp.platform.shared.interfaces.rest.transform;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.RecordComponent;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Assembler class to reduce resources to a sparse fieldset (?fields=id,name,...).
+ * Resources are records; only the requested components are copied, in declaration order.
+ * Pure transformation, no business logic.
+ */
+public class SparseFieldsetAssembler {
+
+    private static final ClassValue<RecordComponent[]> COMPONENTS = new ClassValue<>() {
+        @Override
+        protected RecordComponent[] computeValue(Class<?> type) {
+            return type.getRecordComponents();
+        }
+    };
+
+    /**
+     * Parses a comma separated fields parameter.
+     *
+     * @param fields The raw parameter value (e.g. "id,name,taskIds")
+     * @return The requested property names, or an empty set when every property is requested
+     */
+    public static Set<String> parseFields(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return Set.of();
+        }
+        Set<String> parsed = new LinkedHashSet<>();
+        Arrays.stream(fields.split(","))
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .forEach(parsed::add);
+        return parsed;
+    }
+
+    /**
+     * Tells whether a property is part of the fieldset.
+     *
+     * @param fieldset Parsed fieldset (empty means every property)
+     * @param property Property name
+     * @return true if the property must be returned
+     */
+    public static boolean isRequested(Set<String> fieldset, String property) {
+        return fieldset.isEmpty() || fieldset.contains(property);
+    }
+
+    /**
+     * Copies the requested properties of a resource into a map.
+     * Unknown property names are ignored.
+     *
+     * @param resource The full resource
+     * @param fieldset Parsed fieldset (empty means every property)
+     * @return Map holding the requested properties
+     */
+    public static Map<String, Object> toSparseResource(Record resource, Set<String> fieldset) {
+        Map<String, Object> sparse = new LinkedHashMap<>();
+        for (RecordComponent component : COMPONENTS.get(resource.getClass())) {
+            if (isRequested(fieldset, component.getName())) {
+                try {
+                    sparse.put(component.getName(), component.getAccessor().invoke(resource));
+                } catch (IllegalAccessException | InvocationTargetException ex) {
+                    throw new IllegalStateException("Cannot read " + component.getName() + " of " + resource.getClass().getSimpleName(), ex);
+                }
+            }
+        }
+        return sparse;
+    }
+
+    /**
+     * Copies the requested properties of every resource of a list.
+     *
+     * @param resources The full resources
+     * @param fieldset Parsed fieldset (empty means every property)
+     * @return List of maps holding the requested properties
+     */
+    public static List<Map<String, Object>> toSparseResources(List<? extends Record> resources, Set<String> fieldset) {
+        return resources.stream()
+                .map(resource -> toSparseResource(resource, fieldset))
+                .toList();
+    }
+
+    /**
+     * Builds a response body honouring an optional fields parameter.
+     *
+     * @param resource The full resource
+     * @param fields The raw fields parameter (nullable)
+     * @return The resource itself when no fieldset is requested, otherwise its sparse map
+     */
+    public static Object toResponseBody(Record resource, String fields) {
+        var fieldset = parseFields(fields);
+        return fieldset.isEmpty() ? resource : toSparseResource(resource, fieldset);
+    }
+
+    /**
+     * Builds a list response body honouring an optional fields parameter.
+     *
+     * @param resources The full resources
+     * @param fields The raw fields parameter (nullable)
+     * @return The resources themselves when no fieldset is requested, otherwise their sparse maps
+     */
+    public static Object toResponseBody(List<? extends Record> resources, String fields) {
+        var fieldset = parseFields(fields);
+        return fieldset.isEmpty() ? resources : toSparseResources(resources, fieldset);
+    }
+}
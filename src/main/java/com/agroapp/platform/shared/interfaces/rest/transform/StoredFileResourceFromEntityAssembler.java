@@ -0,0 +1,39 @@
+package com.agroapp.platform.shared.interfaces.rest.transform;
+
+import com.agroapp.platform.shared.domain.model.entities.StoredFile;
+import com.agroapp.platform.shared.interfaces.rest.resources.StoredFileResource;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Assembler class to transform StoredFile entity to StoredFileResource (DTO).
+ * Follows the pattern: [Entity]ResourceFromEntityAssembler
+ * Pure transformation, no business logic.
+ */
+public class StoredFileResourceFromEntityAssembler {
+    /**
+     * Transforms a StoredFile entity into a StoredFileResource.
+     *
+     * @param storedFile The catalogue entry
+     * @param baseUrl Base URL the uploads are served from (e.g. http://localhost:8080/uploads/)
+     * @return StoredFileResource for REST API response
+     */
+    public static StoredFileResource toResourceFromEntity(StoredFile storedFile, String baseUrl) {
+        return new StoredFileResource(
+                storedFile.getId(),
+                storedFile.getFilename(),
+                baseUrl + storedFile.getFilename(),
+                storedFile.getOriginalFilename(),
+                storedFile.getContentType(),
+                storedFile.getSize(),
+                storedFile.getSha256(),
+                storedFile.getOwnerId(),
+                storedFile.getRenditionWidths() != null && !storedFile.getRenditionWidths().isEmpty()
+                        ? Arrays.stream(storedFile.getRenditionWidths().split(",")).map(Integer::valueOf).toList()
+                        : List.of(),
+                storedFile.getPlaceholderHash(),
+                storedFile.getCreatedAt() != null ? storedFile.getCreatedAt().toInstant().atZone(java.time.ZoneId.systemDefault()).toLocalDateTime() : null
+        );
+    }
+}
@@ -0,0 +1,217 @@
+package com.agroapp.platform.analytics.infrastructure.cube;
+
+import com.agroapp.platform.analytics.domain.model.valueobjects.AnalyticsDimension;
+import com.agroapp.platform.analytics.domain.model.valueobjects.CropFieldStatistics;
+import com.agroapp.platform.analytics.domain.model.valueobjects.StatisticsGroup;
+import com.agroapp.platform.plants.domain.model.valueobjects.CropFieldStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Group-by and filter queries over a small snapshot, checked against counts computed from its rows.
+ */
+class CropFieldCubeTests {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 6, 30);
+
+    private static final List<Row> ROWS = List.of(
+            new Row(1, 10L, "Maize", CropFieldStatus.Healthy, 20),
+            new Row(2, 10L, "maize ", CropFieldStatus.Critical, 25),
+            new Row(3, 10L, "Potato", CropFieldStatus.Healthy, 28),
+            new Row(4, 20L, "Potato", CropFieldStatus.Attention, 29),
+            new Row(5, 20L, "Quinoa", CropFieldStatus.Healthy, 30),
+            new Row(6, 30L, "Maize", CropFieldStatus.Attention, 10),
+            new Row(7, null, "Quinoa", CropFieldStatus.Critical, 15),
+            new Row(8, null, null, CropFieldStatus.Healthy, 30),
+            new Row(9, 20L, " ", CropFieldStatus.Critical, 5));
+
+    /**
+     * Owner regions; owner 30 has none.
+     */
+    private static final Map<Long, String> REGIONS = Map.of(10L, "Lima", 20L, "Cusco");
+
+    private CropFieldCube cube;
+
+    @BeforeEach
+    void setUp() {
+        cube = new CropFieldCube();
+        REGIONS.forEach(cube::updateOwnerRegion);
+        for (Row row : ROWS) {
+            upsert(cube, row);
+        }
+    }
+
+    @Test
+    void groupsByEveryCombinationOfDimensions() {
+        for (int mask = 0; mask < 8; mask++) {
+            Set<AnalyticsDimension> groupBy = EnumSet.noneOf(AnalyticsDimension.class);
+            for (AnalyticsDimension dimension : AnalyticsDimension.values()) {
+                if ((mask & (1 << dimension.ordinal())) != 0) {
+                    groupBy.add(dimension);
+                }
+            }
+
+            CropFieldStatistics statistics = query(groupBy, Set.of(), Set.of(), Set.of(), null);
+
+            assertEquals(ROWS.size(), statistics.total(), groupBy.toString());
+            assertEquals(expectedCounts(ROWS, REGIONS, groupBy), counts(statistics), groupBy.toString());
+        }
+    }
+
+    @Test
+    void groupsInAMapWhenThereAreManyPossibleGroups() {
+        var large = new CropFieldCube();
+        Map<Long, String> regions = new HashMap<>();
+        Row[] rows = new Row[1500];
+        for (int i = 0; i < rows.length; i++) {
+            long ownerId = 1000 + i;
+            regions.put(ownerId, "Region " + (i % 300));
+            large.updateOwnerRegion(ownerId, regions.get(ownerId));
+            rows[i] = new Row(i + 1, ownerId, "Crop " + (i % 290), CropFieldStatus.values()[i % 3], i % 40);
+            upsert(large, rows[i]);
+        }
+        Set<AnalyticsDimension> groupBy = EnumSet.allOf(AnalyticsDimension.class);
+
+        CropFieldStatistics statistics = large.query(groupBy, Set.of(), Set.of(), Set.of(), null, TODAY);
+
+        assertEquals(rows.length, large.size());
+        assertEquals(expectedCounts(Arrays.asList(rows), regions, groupBy), counts(statistics));
+    }
+
+    @Test
+    void averagesTheDaysSinceMaintenance() {
+        CropFieldStatistics statistics = query(Set.of(AnalyticsDimension.CROP), Set.of("potato"), Set.of(), Set.of(), null);
+
+        StatisticsGroup potato = statistics.groups().getFirst();
+        assertEquals("Potato", potato.crop());
+        assertEquals(28.5, potato.avgDaysSinceWatered());
+        assertNull(potato.avgDaysSinceFertilized());
+        assertNull(potato.avgDaysSincePestControl());
+    }
+
+    @Test
+    void filtersByCropIgnoringCaseAndUnknownValues() {
+        CropFieldStatistics statistics = query(Set.of(), Set.of(" MAIZE", "Barley"), Set.of(), Set.of(), null);
+
+        assertEquals(3, statistics.total());
+    }
+
+    @Test
+    void filtersByRegionStatusAndChangeDay() {
+        assertEquals(6, query(Set.of(), Set.of(), Set.of("lima", "Cusco"), Set.of(), null).total());
+        assertEquals(5, query(Set.of(), Set.of(), Set.of(),
+                EnumSet.of(CropFieldStatus.Attention, CropFieldStatus.Critical), null).total());
+        assertEquals(4, query(Set.of(), Set.of(), Set.of(), Set.of(), TODAY.minusDays(20)).total());
+        assertEquals(1, query(Set.of(), Set.of("Potato"), Set.of("Cusco"), Set.of(CropFieldStatus.Attention), null).total());
+    }
+
+    @Test
+    void filterWithOnlyUnknownValuesMatchesNothing() {
+        CropFieldStatistics statistics = query(Set.of(AnalyticsDimension.CROP), Set.of("Barley"), Set.of(), Set.of(), null);
+
+        assertEquals(0, statistics.total());
+        assertEquals(List.of(), statistics.groups());
+    }
+
+    @Test
+    void removedRowsAreLeftOutAndReused() {
+        cube.remove(2);
+        cube.remove(4);
+        cube.remove(99);
+
+        assertEquals(ROWS.size() - 2, cube.size());
+        assertEquals(ROWS.size() - 2, query(Set.of(), Set.of(), Set.of(), Set.of(), null).total());
+
+        cube.upsert(11, 30L, "Barley", CropFieldStatus.Critical, null, null, null, null);
+        cube.upsert(4, 10L, "Potato", CropFieldStatus.Healthy, null, null, null, null);
+
+        assertEquals(ROWS.size(), cube.size());
+        List<Row> expected = ROWS.stream()
+                .filter(row -> row.id() != 2 && row.id() != 4)
+                .collect(Collectors.toCollection(ArrayList::new));
+        expected.add(new Row(11, 30L, "Barley", CropFieldStatus.Critical, null));
+        expected.add(new Row(4, 10L, "Potato", CropFieldStatus.Healthy, null));
+        Set<AnalyticsDimension> groupBy = EnumSet.allOf(AnalyticsDimension.class);
+        assertEquals(expectedCounts(expected, REGIONS, groupBy), counts(query(groupBy, Set.of(), Set.of(), Set.of(), null)));
+
+        StatisticsGroup barley = query(Set.of(AnalyticsDimension.CROP), Set.of("Barley"), Set.of(), Set.of(), null).groups().getFirst();
+        assertNull(barley.avgDaysSinceWatered());
+    }
+
+    @Test
+    void ownerRegionChangeMovesAllTheirFields() {
+        cube.updateOwnerRegion(10, "Arequipa");
+        cube.updateOwnerRegion(30, "Cusco");
+        cube.updateOwnerRegion(20, null);
+
+        Set<AnalyticsDimension> groupBy = Set.of(AnalyticsDimension.REGION);
+        Map<Long, String> regions = Map.of(10L, "Arequipa", 30L, "Cusco");
+        assertEquals(expectedCounts(ROWS, regions, groupBy), counts(query(groupBy, Set.of(), Set.of(), Set.of(), null)));
+        assertEquals(0, query(Set.of(), Set.of(), Set.of("Lima"), Set.of(), null).total());
+        assertEquals(3, query(Set.of(), Set.of(), Set.of("arequipa"), Set.of(), null).total());
+    }
+
+    private CropFieldStatistics query(Set<AnalyticsDimension> groupBy, Set<String> crops, Set<String> regions,
+                                      Set<CropFieldStatus> statuses, LocalDate changedSince) {
+        return cube.query(groupBy, crops, regions, statuses, changedSince, TODAY);
+    }
+
+    private static void upsert(CropFieldCube cube, Row row) {
+        Date changedAt = row.daysAgo() != null
+                ? Date.from(TODAY.minusDays(row.daysAgo()).atStartOfDay(ZoneId.systemDefault()).toInstant())
+                : null;
+        LocalDateTime watered = row.daysAgo() != null ? TODAY.minusDays(row.daysAgo()).atTime(8, 0) : null;
+        cube.upsert(row.id(), row.ownerId(), row.crop(), row.status(), changedAt, watered, null, null);
+    }
+
+    /**
+     * Counts of the rows by (crop, region, status), computed without the cube.
+     */
+    private static Map<List<Object>, Long> expectedCounts(List<Row> rows, Map<Long, String> regions,
+                                                          Set<AnalyticsDimension> groupBy) {
+        Map<String, String> cropNames = new HashMap<>();
+        Map<List<Object>, Long> counts = new HashMap<>();
+        for (Row row : rows) {
+            String crop = row.crop() == null || row.crop().isBlank()
+                    ? null
+                    : cropNames.computeIfAbsent(row.crop().trim().toLowerCase(Locale.ROOT), key -> row.crop().trim());
+            String region = row.ownerId() != null ? regions.get(row.ownerId()) : null;
+            counts.merge(Arrays.asList(
+                    groupBy.contains(AnalyticsDimension.CROP) ? crop : null,
+                    groupBy.contains(AnalyticsDimension.REGION) ? region : null,
+                    groupBy.contains(AnalyticsDimension.STATUS) ? row.status() : null), 1L, Long::sum);
+        }
+        return counts;
+    }
+
+    private static Map<List<Object>, Long> counts(CropFieldStatistics statistics) {
+        Map<List<Object>, Long> counts = new HashMap<>();
+        for (StatisticsGroup group : statistics.groups()) {
+            counts.put(Arrays.asList(group.crop(), group.region(), group.status()), group.count());
+        }
+        return counts;
+    }
+
+    /**
+     * @param daysAgo Days since the last change and watering (null for neither)
+     */
+    private record Row(long id, Long ownerId, String crop, CropFieldStatus status, Integer daysAgo) {
+    }
+}
@@ -0,0 +1,94 @@
+package com.agroapp.platform.plants.domain.model.aggregates;
+
+import com.agroapp.platform.plants.domain.model.entities.TaskOccurrenceException;
+import com.agroapp.platform.plants.domain.model.valueobjects.RecurrenceRule;
+import com.agroapp.platform.plants.domain.model.valueobjects.TaskOccurrence;
+import com.agroapp.platform.plants.domain.model.valueobjects.TaskOccurrenceStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Lazy expansion of recurring tasks for a window.
+ */
+class TaskRecurrenceTests {
+
+    private static final LocalDateTime START = LocalDateTime.of(2025, 1, 1, 8, 0);
+
+    private static Task everyThreeDays(LocalDateTime until) {
+        var task = new Task(7L, "Water", START, new RecurrenceRule(3, until));
+        ReflectionTestUtils.setField(task, "id", 1L);
+        return task;
+    }
+
+    @Test
+    void expandsOnlyTheOccurrencesOfTheWindow() {
+        var occurrences = everyThreeDays(null).occurrencesBetween(
+                LocalDateTime.of(2025, 12, 1, 0, 0), LocalDateTime.of(2025, 12, 8, 0, 0), List.of());
+
+        assertEquals(List.of(LocalDateTime.of(2025, 12, 3, 8, 0), LocalDateTime.of(2025, 12, 6, 8, 0)),
+                occurrences.stream().map(TaskOccurrence::dueDate).toList());
+    }
+
+    @Test
+    void stopsAtTheEndOfTheRule() {
+        var task = everyThreeDays(LocalDateTime.of(2025, 1, 7, 8, 0));
+
+        assertEquals(3, task.occurrencesBetween(START, START.plusDays(30), List.of()).size());
+        assertTrue(task.isOccurrence(LocalDateTime.of(2025, 1, 7, 8, 0)));
+        assertFalse(task.isOccurrence(LocalDateTime.of(2025, 1, 10, 8, 0)));
+        assertFalse(task.isOccurrence(LocalDateTime.of(2025, 1, 4, 9, 0)));
+    }
+
+    @Test
+    void appliesExceptions() {
+        var task = everyThreeDays(null);
+        var exceptions = List.of(
+                new TaskOccurrenceException(1L, START, TaskOccurrenceStatus.COMPLETED, null),
+                new TaskOccurrenceException(1L, START.plusDays(3), TaskOccurrenceStatus.SKIPPED, null),
+                new TaskOccurrenceException(1L, START.plusDays(6), TaskOccurrenceStatus.SCHEDULED, START.plusDays(31)));
+
+        var occurrences = task.occurrencesBetween(START, START.plusDays(10), exceptions);
+
+        assertEquals(2, occurrences.size());
+        assertEquals(TaskOccurrenceStatus.COMPLETED, occurrences.get(0).status());
+        assertEquals(START.plusDays(9), occurrences.get(1).dueDate());
+        assertEquals(START.plusDays(6), task.occurrencesBetween(START.plusDays(31), START.plusDays(32), exceptions)
+                .getFirst().occurrenceDate());
+    }
+
+    @Test
+    void findsTheFirstOccurrenceFromAGivenTime() {
+        var task = everyThreeDays(LocalDateTime.of(2025, 1, 10, 8, 0));
+
+        assertEquals(START, task.firstOccurrenceFrom(START.minusDays(5)));
+        assertEquals(START.plusDays(3), task.firstOccurrenceFrom(START.plusSeconds(1)));
+        assertEquals(START.plusDays(9), task.firstOccurrenceFrom(START.plusDays(9)));
+        assertNull(task.firstOccurrenceFrom(START.plusDays(9).plusSeconds(1)));
+    }
+
+    @Test
+    void oneOffTaskHasNoOccurrenceAfterItsDueDate() {
+        var task = new Task(7L, "Harvest", START);
+
+        assertEquals(START, task.getNextDueDate());
+        assertEquals(START, task.firstOccurrenceFrom(START));
+        assertNull(task.firstOccurrenceFrom(START.plusMinutes(1)));
+    }
+
+    @Test
+    void reschedulingResetsTheNextDueDate() {
+        var task = everyThreeDays(null);
+
+        task.reschedule(START.plusDays(1));
+
+        assertEquals(START.plusDays(1), task.getNextDueDate());
+    }
+}
@@ -0,0 +1,154 @@
+package com.agroapp.platform.shared.infrastructure.coalescing;
+
+import com.agroapp.platform.shared.infrastructure.coalescing.SingleFlight.Result;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Concurrent callers of the same key, with the leader's call held on a latch.
+ */
+class SingleFlightTests {
+
+    private static final int FOLLOWERS = 4;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(FOLLOWERS + 1);
+    private final CountDownLatch leaderStarted = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final AtomicInteger calls = new AtomicInteger();
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void followersGetTheValueOfTheLeader() throws Exception {
+        var singleFlight = new SingleFlight(Duration.ofSeconds(5));
+        Object value = new Object();
+
+        Future<Result> leader = executor.submit(() -> singleFlight.execute("key", () -> held(value)));
+        leaderStarted.await(1, TimeUnit.SECONDS);
+        List<Future<Result>> followers = startFollowers(singleFlight, () -> new Object());
+        release.countDown();
+
+        assertSame(value, leader.get(1, TimeUnit.SECONDS).value());
+        assertFalse(leader.get().shared());
+        for (Future<Result> follower : followers) {
+            assertSame(value, follower.get(1, TimeUnit.SECONDS).value());
+            assertTrue(follower.get().shared());
+        }
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void followersGetTheExceptionOfTheLeader() throws Exception {
+        var singleFlight = new SingleFlight(Duration.ofSeconds(5));
+        var failure = new IllegalStateException("database unavailable");
+
+        Future<Result> leader = executor.submit(() -> singleFlight.execute("key", () -> {
+            held(null);
+            throw failure;
+        }));
+        leaderStarted.await(1, TimeUnit.SECONDS);
+        List<Future<Result>> followers = startFollowers(singleFlight, () -> new Object());
+        release.countDown();
+
+        assertSame(failure, assertThrows(ExecutionException.class, () -> leader.get(1, TimeUnit.SECONDS)).getCause());
+        for (Future<Result> follower : followers) {
+            assertSame(failure, assertThrows(ExecutionException.class, () -> follower.get(1, TimeUnit.SECONDS)).getCause());
+        }
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void keyIsRemovedOnceTheCallCompletes() {
+        var singleFlight = new SingleFlight(Duration.ofSeconds(5));
+
+        assertEquals("first", singleFlight.execute("key", () -> "first").value());
+        assertEquals(0, singleFlight.size());
+        assertThrows(IllegalStateException.class, () -> singleFlight.execute("key", () -> {
+            throw new IllegalStateException();
+        }));
+        assertEquals(0, singleFlight.size());
+
+        Result next = singleFlight.execute("key", () -> "second");
+        assertEquals("second", next.value());
+        assertFalse(next.shared());
+    }
+
+    @Test
+    void followerRunsTheCallItselfAfterTheMaxWait() throws Exception {
+        var singleFlight = new SingleFlight(Duration.ofMillis(50));
+
+        executor.submit(() -> singleFlight.execute("key", () -> held("leader")));
+        leaderStarted.await(1, TimeUnit.SECONDS);
+
+        Result follower = executor.submit(() -> singleFlight.execute("key", () -> "follower")).get(1, TimeUnit.SECONDS);
+
+        assertEquals("follower", follower.value());
+        assertFalse(follower.shared());
+        assertEquals(1, singleFlight.size());
+    }
+
+    @Test
+    void callsWithDifferentKeysRunIndependently() throws Exception {
+        var singleFlight = new SingleFlight(Duration.ofSeconds(5));
+
+        executor.submit(() -> singleFlight.execute("key", () -> held("leader")));
+        leaderStarted.await(1, TimeUnit.SECONDS);
+
+        Result other = executor.submit(() -> singleFlight.execute("other", () -> "other")).get(1, TimeUnit.SECONDS);
+
+        assertEquals("other", other.value());
+        assertFalse(other.shared());
+    }
+
+    /**
+     * Counts the call and blocks until released.
+     */
+    private Object held(Object value) {
+        calls.incrementAndGet();
+        leaderStarted.countDown();
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return value;
+    }
+
+    /**
+     * Starts the followers and gives them time to find the leader's call in flight.
+     */
+    private List<Future<Result>> startFollowers(SingleFlight singleFlight, Supplier<Object> call)
+            throws InterruptedException {
+        List<Future<Result>> followers = new ArrayList<>();
+        for (int i = 0; i < FOLLOWERS; i++) {
+            followers.add(executor.submit(() -> singleFlight.execute("key", () -> {
+                calls.incrementAndGet();
+                return call.get();
+            })));
+        }
+        Thread.sleep(200);
+        return followers;
+    }
+}
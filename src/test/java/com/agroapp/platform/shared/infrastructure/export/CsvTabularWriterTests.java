@@ -0,0 +1,70 @@
+package com.agroapp.platform.shared.infrastructure.export;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * CSV output written to memory.
+ */
+class CsvTabularWriterTests {
+
+    private static String write(List<?>... rows) throws IOException {
+        var output = new ByteArrayOutputStream();
+        var writer = new CsvTabularWriter(output);
+        for (List<?> row : rows) {
+            writer.writeRow(row);
+        }
+        writer.close();
+        return output.toString(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void startsWithByteOrderMarkAndEndsLinesWithCrLf() throws IOException {
+        var output = new ByteArrayOutputStream();
+        var writer = new CsvTabularWriter(output);
+        writer.writeHeader(List.of("a", "b"));
+        writer.writeRow(List.of("1", "2"));
+        writer.close();
+
+        byte[] bytes = output.toByteArray();
+        assertArrayEquals(new byte[]{(byte) 0xEF, (byte) 0xBB, (byte) 0xBF}, Arrays.copyOf(bytes, 3));
+        assertEquals("\uFEFFa,b\r\n1,2\r\n", output.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void quotesFieldsWithSeparatorsQuotesAndLineBreaks() throws IOException {
+        assertEquals("\uFEFF\"Cusco, Peru\",\"say \"\"hi\"\"\",\"two\nlines\",\"cr\rhere\",plain\r\n",
+                write(List.of("Cusco, Peru", "say \"hi\"", "two\nlines", "cr\rhere", "plain")));
+    }
+
+    @Test
+    void writesNullsAsEmptyAndOtherValuesAsText() throws IOException {
+        assertEquals("\uFEFF,12,2.5,2025-03-01,\r\n",
+                write(Arrays.asList(null, 12, 2.5, LocalDate.of(2025, 3, 1), "")));
+    }
+
+    @Test
+    void prefixesTextThatSpreadsheetsWouldEvaluate() throws IOException {
+        assertEquals("\uFEFF'=SUM(A1),'+1,'-1,'@cmd,'\tx,safe=1\r\n",
+                write(List.of("=SUM(A1)", "+1", "-1", "@cmd", "\tx", "safe=1")));
+    }
+
+    @Test
+    void prefixesFormulasBeforeQuoting() throws IOException {
+        assertEquals("\uFEFF\"'=HYPERLINK(\"\"x\"\",\"\"y\"\")\"\r\n", write(List.of("=HYPERLINK(\"x\",\"y\")")));
+    }
+
+    @Test
+    void doesNotPrefixNumbers() throws IOException {
+        assertEquals("\uFEFF-5\r\n", write(List.of(-5)));
+    }
+}
@@ -0,0 +1,85 @@
+package com.agroapp.platform.shared.infrastructure.export;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * XLSX packages written to memory and read back as zip archives.
+ */
+class XlsxTabularWriterTests {
+
+    private static final String SHEET = "xl/worksheets/sheet1.xml";
+
+    private static Map<String, String> writeAndUnzip(String sheetName, List<String> header, List<?>... rows) throws IOException {
+        var output = new ByteArrayOutputStream();
+        var writer = new XlsxTabularWriter(output, sheetName);
+        writer.writeHeader(header);
+        for (List<?> row : rows) {
+            writer.writeRow(row);
+        }
+        writer.close();
+
+        Map<String, String> parts = new LinkedHashMap<>();
+        try (var zip = new ZipInputStream(new ByteArrayInputStream(output.toByteArray()), StandardCharsets.UTF_8)) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                parts.put(entry.getName(), new String(zip.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        }
+        return parts;
+    }
+
+    @Test
+    void writesACompletePackage() throws IOException {
+        var parts = writeAndUnzip("Farm report", List.of("Field"));
+
+        assertEquals(List.of("[Content_Types].xml", "_rels/.rels", "xl/workbook.xml", "xl/_rels/workbook.xml.rels",
+                "xl/styles.xml", SHEET), List.copyOf(parts.keySet()));
+        assertTrue(parts.get("[Content_Types].xml").contains("PartName=\"/xl/worksheets/sheet1.xml\""));
+        assertTrue(parts.get("xl/workbook.xml").contains("<sheet name=\"Farm report\" sheetId=\"1\" r:id=\"rId1\"/>"));
+        assertTrue(parts.get("xl/_rels/workbook.xml.rels").contains("Target=\"worksheets/sheet1.xml\""));
+        assertTrue(parts.get(SHEET).endsWith("</sheetData></worksheet>"));
+        parts.values().forEach(xml -> assertTrue(xml.startsWith("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>")));
+    }
+
+    @Test
+    void writesBoldHeaderAndInlineStrings() throws IOException {
+        String sheet = writeAndUnzip("Sheet", List.of("Field", "Crop"), List.of("North", "Maíz")).get(SHEET);
+
+        assertTrue(sheet.contains("<row r=\"1\"><c t=\"inlineStr\" s=\"3\"><is><t xml:space=\"preserve\">Field</t></is></c>"));
+        assertTrue(sheet.contains("<row r=\"2\"><c t=\"inlineStr\"><is><t xml:space=\"preserve\">North</t></is></c>" +
+                "<c t=\"inlineStr\"><is><t xml:space=\"preserve\">Maíz</t></is></c></row>"));
+    }
+
+    @Test
+    void writesNumbersDatesAndEmptyCells() throws IOException {
+        String sheet = writeAndUnzip("Sheet", List.of("a", "b", "c", "d"),
+                Arrays.asList(42, LocalDate.of(2025, 1, 1), LocalDateTime.of(2025, 1, 1, 12, 0), null)).get(SHEET);
+
+        assertTrue(sheet.contains("<row r=\"2\"><c><v>42</v></c><c s=\"2\"><v>45658</v></c>" +
+                "<c s=\"1\"><v>45658.5</v></c><c/></row>"));
+    }
+
+    @Test
+    void escapesMarkupAndDropsInvalidCharacters() throws IOException {
+        var parts = writeAndUnzip("A & B", List.of("h"), List.of("<b>\"x\" & y\u0001</b>"));
+
+        assertTrue(parts.get("xl/workbook.xml").contains("name=\"A &amp; B\""));
+        assertTrue(parts.get(SHEET).contains("&lt;b&gt;&quot;x&quot; &amp; y&lt;/b&gt;"));
+    }
+}
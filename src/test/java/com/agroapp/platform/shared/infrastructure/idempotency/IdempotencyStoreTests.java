@@ -0,0 +1,180 @@
+package com.agroapp.platform.shared.infrastructure.idempotency;
+
+import com.agroapp.platform.shared.domain.model.entities.IdempotencyRecord;
+import com.agroapp.platform.shared.infrastructure.idempotency.IdempotencyStore.Acquired;
+import com.agroapp.platform.shared.infrastructure.idempotency.IdempotencyStore.Claim;
+import com.agroapp.platform.shared.infrastructure.idempotency.IdempotencyStore.InProgress;
+import com.agroapp.platform.shared.infrastructure.idempotency.IdempotencyStore.Replay;
+import com.agroapp.platform.shared.infrastructure.persistence.jpa.repositories.IdempotencyRecordRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Claims against a mocked record repository, standing in for the idempotency_records table.
+ */
+class IdempotencyStoreTests {
+
+    private static final String KEY = "key";
+    private static final String HASH = "hash";
+    private static final byte[] BODY = "{\"id\":1}".getBytes(StandardCharsets.UTF_8);
+
+    private final IdempotencyRecordRepository repository = mock(IdempotencyRecordRepository.class);
+    private IdempotencyStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = store(Duration.ofHours(1), 100);
+        when(repository.findByRequestKey(KEY)).thenReturn(Optional.empty());
+        when(repository.saveAndFlush(any(IdempotencyRecord.class))).thenAnswer(invocation -> {
+            IdempotencyRecord record = invocation.getArgument(0);
+            ReflectionTestUtils.setField(record, "id", 7L);
+            return record;
+        });
+    }
+
+    private IdempotencyStore store(Duration ttl, int cacheCapacity) {
+        return new IdempotencyStore(repository, new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                new IdempotencyProperties(true, List.of(), ttl, Duration.ofSeconds(2), cacheCapacity), new SimpleMeterRegistry());
+    }
+
+    private static IdempotencyRecord record(Date expiresAt) {
+        var record = new IdempotencyRecord(KEY, HASH, expiresAt);
+        ReflectionTestUtils.setField(record, "id", 3L);
+        return record;
+    }
+
+    private static Date inOneHour() {
+        return new Date(System.currentTimeMillis() + 3_600_000);
+    }
+
+    @Test
+    void firstClaimAcquiresTheKeyWithARecord() {
+        Claim claim = store.claim(KEY, HASH);
+
+        Acquired acquired = assertInstanceOf(Acquired.class, claim);
+        assertEquals(7L, acquired.recordId());
+        verify(repository).saveAndFlush(any(IdempotencyRecord.class));
+    }
+
+    @Test
+    void completedClaimIsReplayedFromMemory() {
+        Acquired acquired = (Acquired) store.claim(KEY, HASH);
+        store.complete(acquired, 201, "Location: /api/v1/tasks/1\n", BODY);
+
+        Replay replay = assertInstanceOf(Replay.class, store.claim(KEY, HASH));
+
+        assertEquals(201, replay.response().statusCode());
+        assertEquals(HASH, replay.response().requestHash());
+        assertArrayEquals(BODY, replay.response().body());
+        verify(repository, times(1)).findByRequestKey(KEY);
+    }
+
+    @Test
+    void completedRecordIsReplayedFromTheDatabase() {
+        when(repository.findByRequestKey(KEY)).thenReturn(Optional.of(record(inOneHour()).complete(201, "", BODY, inOneHour())));
+
+        Replay replay = assertInstanceOf(Replay.class, store.claim(KEY, HASH));
+
+        assertEquals(201, replay.response().statusCode());
+        assertInstanceOf(Replay.class, store.claim(KEY, HASH));
+        verify(repository, times(1)).findByRequestKey(KEY);
+    }
+
+    @Test
+    void runningRecordOfAnotherInstanceIsInProgress() {
+        when(repository.findByRequestKey(KEY)).thenReturn(Optional.of(record(inOneHour())));
+
+        assertInstanceOf(InProgress.class, store.claim(KEY, HASH));
+    }
+
+    @Test
+    void expiredRecordIsReplacedByANewClaim() {
+        IdempotencyRecord expired = record(new Date(System.currentTimeMillis() - 1_000));
+        when(repository.findByRequestKey(KEY)).thenReturn(Optional.of(expired));
+
+        assertInstanceOf(Acquired.class, store.claim(KEY, HASH));
+        verify(repository).delete(expired);
+    }
+
+    @Test
+    void expiredResponseIsNotReplayedFromMemory() throws InterruptedException {
+        store = store(Duration.ofMillis(1), 100);
+        store.complete((Acquired) store.claim(KEY, HASH), 201, "", BODY);
+        Thread.sleep(5);
+
+        assertInstanceOf(Acquired.class, store.claim(KEY, HASH));
+    }
+
+    @Test
+    void releasedKeyCanBeClaimedAgain() {
+        Acquired acquired = (Acquired) store.claim(KEY, HASH);
+        store.release(acquired);
+
+        verify(repository).deleteById(7L);
+        assertInstanceOf(Acquired.class, store.claim(KEY, HASH));
+    }
+
+    @Test
+    void keyInsertedConcurrentlyByAnotherInstanceIsInProgress() {
+        when(repository.saveAndFlush(any(IdempotencyRecord.class))).thenThrow(new DataIntegrityViolationException("duplicate"));
+
+        assertInstanceOf(InProgress.class, store.claim(KEY, HASH));
+    }
+
+    @Test
+    void duplicateWaitsForTheRunningRequestAndGetsItsResponse() throws Exception {
+        Acquired acquired = (Acquired) store.claim(KEY, HASH);
+
+        CompletableFuture<Claim> duplicate = CompletableFuture.supplyAsync(() -> store.claim(KEY, HASH));
+        Thread.sleep(100);
+        assertFalse(duplicate.isDone());
+        store.complete(acquired, 201, "", BODY);
+
+        Replay replay = assertInstanceOf(Replay.class, duplicate.get(1, TimeUnit.SECONDS));
+        assertArrayEquals(BODY, replay.response().body());
+        verify(repository, times(1)).saveAndFlush(any(IdempotencyRecord.class));
+    }
+
+    @Test
+    void duplicateOfAReleasedRequestIsInProgress() throws Exception {
+        Acquired acquired = (Acquired) store.claim(KEY, HASH);
+
+        CompletableFuture<Claim> duplicate = CompletableFuture.supplyAsync(() -> store.claim(KEY, HASH));
+        Thread.sleep(100);
+        store.release(acquired);
+
+        assertInstanceOf(InProgress.class, duplicate.get(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void duplicateStopsWaitingAfterTheLockTimeout() {
+        store.claim(KEY, HASH);
+
+        long start = System.nanoTime();
+        assertInstanceOf(InProgress.class, store.claim(KEY, HASH));
+        assertEquals(2, Math.round((System.nanoTime() - start) / 1e9));
+    }
+}
@@ -0,0 +1,102 @@
+package com.agroapp.platform.shared.infrastructure.outbox;
+
+import com.agroapp.platform.community.domain.model.aggregates.CommunityRecommendation;
+import com.agroapp.platform.community.infrastructure.persistence.jpa.repositories.CommunityRecommendationRepository;
+import com.agroapp.platform.shared.domain.model.entities.OutboxMessage;
+import com.agroapp.platform.shared.domain.model.valueobjects.ChangeType;
+import com.agroapp.platform.shared.infrastructure.persistence.jpa.repositories.OutboxMessageRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.json.AutoConfigureJson;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Outbox messages written on an embedded database, in the transaction of the change.
+ */
+@DataJpaTest
+@AutoConfigureJson
+@Import(OutboxRecorder.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OutboxRecorderTests {
+
+    @Autowired
+    private OutboxRecorder outboxRecorder;
+
+    @Autowired
+    private OutboxMessageRepository outboxMessageRepository;
+
+    @Autowired
+    private CommunityRecommendationRepository communityRecommendationRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        outboxMessageRepository.deleteAll();
+        communityRecommendationRepository.deleteAll();
+    }
+
+    @Test
+    void committedSaveWritesOneMessage() {
+        CommunityRecommendation saved = new TransactionTemplate(transactionManager).execute(status ->
+                communityRecommendationRepository.save(new CommunityRecommendation(1L, "Ana", "Water at dawn")));
+
+        List<OutboxMessage> messages = outboxMessageRepository.findAll();
+
+        assertEquals(1, messages.size());
+        assertEquals("CommunityRecommendation", messages.getFirst().getAggregateType());
+        assertEquals(saved.getId(), messages.getFirst().getAggregateId());
+        assertEquals(ChangeType.CREATED, messages.getFirst().getChangeType());
+        assertTrue(messages.getFirst().getPayload().contains("\"comment\":\"Water at dawn\""));
+    }
+
+    @Test
+    void rolledBackSaveWritesNoMessage() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            communityRecommendationRepository.saveAndFlush(new CommunityRecommendation(1L, "Ana", "Water at dawn"));
+            outboxRecorder.recordUpdate(CommunityRecommendation.class, 1L, Map.of("comment", "Water at dusk"));
+            status.setRollbackOnly();
+        });
+
+        assertEquals(0, outboxMessageRepository.count());
+        assertEquals(0, communityRecommendationRepository.count());
+    }
+
+    @Test
+    void recordedUpdateIsWrittenOnCommit() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                outboxRecorder.recordUpdate(CommunityRecommendation.class, 7L, Map.of("comment", "Water at dusk")));
+
+        List<OutboxMessage> messages = outboxMessageRepository.findAll();
+
+        assertEquals(1, messages.size());
+        assertEquals(ChangeType.UPDATED, messages.getFirst().getChangeType());
+        assertEquals("{\"id\":7,\"comment\":\"Water at dusk\"}", messages.getFirst().getPayload());
+    }
+
+    @Test
+    void recordUpdateRequiresATransaction() {
+        assertThrows(IllegalStateException.class, () ->
+                outboxRecorder.recordUpdate(CommunityRecommendation.class, 7L, Map.of("comment", "Water at dusk")));
+    }
+
+    @Test
+    void recordUpdateRequiresAPublishingEntity() {
+        assertThrows(IllegalArgumentException.class, () ->
+                outboxRecorder.recordUpdate(String.class, 7L, Map.of()));
+    }
+}
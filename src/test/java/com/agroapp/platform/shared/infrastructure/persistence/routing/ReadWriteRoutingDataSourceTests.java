@@ -0,0 +1,72 @@
+package com.agroapp.platform.shared.infrastructure.persistence.routing;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Routes against two in-memory databases standing in for the primary and the replica.
+ */
+class ReadWriteRoutingDataSourceTests {
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate writeTransaction;
+    private TransactionTemplate readOnlyTransaction;
+
+    @BeforeEach
+    void setUp() {
+        DataSource dataSource = new LazyConnectionDataSourceProxy(new ReadWriteRoutingDataSource(
+                database("primary"), database("replica")));
+        var transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        writeTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReadWriteRoutingDataSource.release();
+    }
+
+    @Test
+    void readOnlyTransactionUsesReplica() {
+        assertEquals("REPLICA", readOnlyTransaction.execute(status -> currentDatabase()));
+    }
+
+    @Test
+    void writeTransactionUsesPrimary() {
+        assertEquals("PRIMARY", writeTransaction.execute(status -> currentDatabase()));
+    }
+
+    @Test
+    void statementOutsideTransactionUsesPrimary() {
+        assertEquals("PRIMARY", currentDatabase());
+    }
+
+    @Test
+    void readOnlyTransactionPinnedToPrimaryUsesPrimary() {
+        ReadWriteRoutingDataSource.pinToPrimary();
+        assertEquals("PRIMARY", readOnlyTransaction.execute(status -> currentDatabase()));
+
+        ReadWriteRoutingDataSource.release();
+        assertEquals("REPLICA", readOnlyTransaction.execute(status -> currentDatabase()));
+    }
+
+    private String currentDatabase() {
+        return jdbcTemplate.queryForObject("SELECT DATABASE()", String.class);
+    }
+
+    private static DataSource database(String name) {
+        return new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+    }
+}
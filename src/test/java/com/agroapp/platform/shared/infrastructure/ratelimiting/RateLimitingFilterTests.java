@@ -0,0 +1,64 @@
+package com.agroapp.platform.shared.infrastructure.ratelimiting;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Per-user buckets of a group limited by IP and by user id.
+ */
+class RateLimitingFilterTests {
+
+    private final RateLimitingFilter filter = new RateLimitingFilter(new RateLimitingProperties(true, Map.of("upload",
+            new RateLimitingProperties.Group(List.of("/api/v1/storage/upload"), 2, Duration.ofMinutes(1), "ownerId"))),
+            new SimpleMeterRegistry());
+
+    @Test
+    void readsTheUserIdAsANumber() {
+        assertEquals(42L, RateLimitingFilter.userId("ownerId=42", "ownerId"));
+        assertEquals(42L, RateLimitingFilter.userId("size=1&ownerId=0042", "ownerId"));
+        assertEquals(42L, RateLimitingFilter.userId("owner%49d=4%32&ownerId=7", "ownerId"));
+    }
+
+    @Test
+    void ignoresAMissingOrUnparsableUserId() {
+        assertNull(RateLimitingFilter.userId(null, "ownerId"));
+        assertNull(RateLimitingFilter.userId("ownerIdx=42", "ownerId"));
+        assertNull(RateLimitingFilter.userId("ownerId=", "ownerId"));
+        assertNull(RateLimitingFilter.userId("ownerId=forty-two", "ownerId"));
+        assertNull(RateLimitingFilter.userId("ownerId=%zz", "ownerId"));
+    }
+
+    @Test
+    void differentSpellingsOfAUserIdShareOneBucket() throws Exception {
+        assertEquals(200, upload("10.0.0.1", "ownerId=42"));
+        assertEquals(200, upload("10.0.0.2", "ownerId=042"));
+        assertEquals(429, upload("10.0.0.3", "ownerId=4%32"));
+        assertEquals(200, upload("10.0.0.4", "ownerId=43"));
+    }
+
+    @Test
+    void unparsableUserIdIsLimitedByIpOnly() throws Exception {
+        assertEquals(200, upload("10.0.0.1", "ownerId=abc"));
+        assertEquals(200, upload("10.0.0.1", "ownerId=abd"));
+        assertEquals(429, upload("10.0.0.1", "ownerId=abe"));
+    }
+
+    private int upload(String ip, String queryString) throws Exception {
+        var request = new MockHttpServletRequest("POST", "/api/v1/storage/upload");
+        request.setRemoteAddr(ip);
+        request.setQueryString(queryString);
+        var response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response.getStatus();
+    }
+}
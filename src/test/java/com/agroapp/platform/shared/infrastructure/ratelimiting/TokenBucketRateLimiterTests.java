@@ -0,0 +1,87 @@
+package com.agroapp.platform.shared.infrastructure.ratelimiting;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Token buckets driven by explicit timestamps.
+ */
+class TokenBucketRateLimiterTests {
+
+    private static final long SECOND = 1_000_000_000L;
+    private static final long START = 1_000 * SECOND;
+
+    private final TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(3, Duration.ofSeconds(2));
+
+    @Test
+    void allowsABurstOfCapacityRequests() {
+        assertEquals(0, limiter.tryAcquire("client", START));
+        assertEquals(0, limiter.tryAcquire("client", START));
+        assertEquals(0, limiter.tryAcquire("client", START));
+        assertEquals(2 * SECOND, limiter.tryAcquire("client", START));
+    }
+
+    @Test
+    void rejectedRequestsTakeNoToken() {
+        for (int i = 0; i < 3; i++) {
+            limiter.tryAcquire("client", START);
+        }
+
+        assertEquals(2 * SECOND, limiter.tryAcquire("client", START));
+        assertEquals(SECOND, limiter.tryAcquire("client", START + SECOND));
+        assertEquals(0, limiter.tryAcquire("client", START + 2 * SECOND));
+    }
+
+    @Test
+    void refillsOneTokenPerInterval() {
+        for (int i = 0; i < 3; i++) {
+            limiter.tryAcquire("client", START);
+        }
+
+        assertEquals(0, limiter.tryAcquire("client", START + 2 * SECOND));
+        assertEquals(2 * SECOND, limiter.tryAcquire("client", START + 2 * SECOND));
+        assertEquals(0, limiter.tryAcquire("client", START + 4 * SECOND));
+    }
+
+    @Test
+    void refillsUpToCapacityOnly() {
+        limiter.tryAcquire("client", START);
+
+        long later = START + 60 * SECOND;
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, limiter.tryAcquire("client", later));
+        }
+        assertEquals(2 * SECOND, limiter.tryAcquire("client", later));
+    }
+
+    @Test
+    void keysHaveSeparateBuckets() {
+        for (int i = 0; i < 3; i++) {
+            limiter.tryAcquire("client", START);
+        }
+
+        assertEquals(0, limiter.tryAcquire("other", START));
+    }
+
+    @Test
+    void evictsOnlyBucketsThatAreFullAgain() {
+        long now = System.nanoTime();
+        limiter.tryAcquire("idle", now - 60 * SECOND);
+        limiter.tryAcquire("active", now + 60 * SECOND);
+
+        limiter.evictIdle();
+
+        assertEquals(1, limiter.size());
+        assertEquals(0, limiter.tryAcquire("idle", now));
+    }
+
+    @Test
+    void rejectsInvalidSettings() {
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucketRateLimiter(0, Duration.ofSeconds(1)));
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucketRateLimiter(1, Duration.ZERO));
+    }
+}